@@ -0,0 +1,100 @@
+package cards;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import exceptions.CardFactoryException;
+
+/**
+ * Card factory keeping the cards loaded by another factory in a process-wide cache.
+ * The cache is keyed by the class of the other factory and the path of the file, and an entry is reloaded
+ * when the modification time or the size of the file changes.
+ *
+ * The cached cards are templates which are never given out: each call returns new copies of them.
+ * Since criteria are immutable and shared, a copy only costs one card object per card.
+ * Factories of the same class are expected to load the same cards from the same file.
+ */
+public class CachingCardFactory implements ICardFactory {
+
+	/**
+	 * Cards loaded from a file, with the state of the file when they were loaded.
+	 */
+	private static class CachedManifest {
+		private final long lastModified;
+		private final long length;
+		private final List<ICard> templates;
+
+		private CachedManifest(long lastModified, long length, List<ICard> templates) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.templates = templates;
+		}
+	}
+
+	private static final ConcurrentHashMap<String, CachedManifest> CACHE = new ConcurrentHashMap<String, CachedManifest>();
+
+	private final ICardFactory cardFactory;
+
+	/**
+	 * Creates a caching factory for the given factory.
+	 *
+	 * @param cardFactory The factory used to load the cards which are not cached yet
+	 */
+	public CachingCardFactory(ICardFactory cardFactory) {
+		this.cardFactory = cardFactory;
+	}
+
+	/**
+	 * Gets the key of a file in the cache.
+	 *
+	 * @param file The file to get the key of
+	 *
+	 * @return The key of the file
+	 */
+	private String getCacheKey(File file) {
+		String path;
+		try {
+			path = file.getCanonicalPath();
+		} catch (IOException e) {
+			path = file.getAbsolutePath();
+		}
+		return cardFactory.getClass().getName() + "|" + path;
+	}
+
+	@Override
+	public ArrayList<ICard> loadCards(String filename) throws CardFactoryException {
+		File file = new File(filename);
+		if (!file.isFile()) {
+			throw new CardFactoryException("The file does not exist");
+		}
+
+		String key = getCacheKey(file);
+		long lastModified = file.lastModified();
+		long length = file.length();
+
+		CachedManifest manifest = CACHE.get(key);
+		if (manifest == null || manifest.lastModified != lastModified || manifest.length != length) {
+			// Two games may load the same file at the same time, the last one loaded is kept
+			ArrayList<ICard> templates = cardFactory.loadCards(filename);
+			manifest = new CachedManifest(lastModified, length, Collections.unmodifiableList(templates));
+			CACHE.put(key, manifest);
+		}
+
+		ArrayList<ICard> cards = new ArrayList<ICard>(manifest.templates.size());
+		for (ICard template : manifest.templates) {
+			cards.add(template.copy());
+		}
+		return cards;
+	}
+
+	/**
+	 * Empties the cache of every caching factory.
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+}
@@ -2,19 +2,29 @@ package cards;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Represents a generic pile of cards. These cards should implement the ICard interface.
+ * The top of the pile is the end of its list of cards.
+ *
+ * Splitting a pile does not copy its cards: the created piles are views over a range of the same list.
+ * A pile which shares its list only reads it, and draws by moving the top bound of its range.
+ * It gets its own copy of the range before any other modification (copy on write).
  */
 public class Pile<T extends ICard> {
 	
 	private ArrayList<T> cards;
+	private int start; // Bottom of the range of the list owned by the pile, only used when shared
+	private int end; // Top of the range (excluded), only used when shared
+	private boolean shared; // True if the list may be used by other piles
 
 	/**
 	 * Creates an empty pile.
 	 */
 	public Pile() {
-		this.cards = new ArrayList<T>();
+		this(new ArrayList<T>());
 	}
 
 	/**
@@ -24,6 +34,23 @@ public class Pile<T extends ICard> {
 	 */
 	public Pile(ArrayList<T> cards) {
 		this.cards = cards;
+		this.start = 0;
+		this.end = 0;
+		this.shared = false;
+	}
+
+	/**
+	 * Creates a pile which is a view over a range of the given list, shared with other piles.
+	 * 
+	 * @param cards The list of cards
+	 * @param start The bottom of the range
+	 * @param end The top of the range, excluded
+	 */
+	private Pile(ArrayList<T> cards, int start, int end) {
+		this.cards = cards;
+		this.start = start;
+		this.end = end;
+		this.shared = true;
 	}
 
 	/**
@@ -32,23 +59,54 @@ public class Pile<T extends ICard> {
 	 * @param pile The pile to copy
 	 */
 	public Pile(Pile<T> pile) {
-		this.cards = new ArrayList<T>();
-		for (T card : pile.cards) {
+		this(new ArrayList<T>(pile.size()));
+		for (int i = pile.bottomIndex(); i < pile.topIndex(); i++) {
 			// Card is of type T. card.copy() returns a card of type T as well.
 			// Therefore, we can safely cast it to T.
 			@SuppressWarnings("unchecked")
-			T copiedCard = (T) card.copy();
+			T copiedCard = (T) pile.cards.get(i).copy();
 			this.cards.add(copiedCard);
 		}
 	}
 
+	/**
+	 * Gets the index of the bottom card of the pile in its list.
+	 * 
+	 * @return The index of the bottom card
+	 */
+	private int bottomIndex() {
+		return shared ? start : 0;
+	}
+
+	/**
+	 * Gets the index following the top card of the pile in its list.
+	 * 
+	 * @return The index following the top card
+	 */
+	private int topIndex() {
+		// The list of an owned pile may have been modified through getCards(), so its size is used
+		return shared ? end : cards.size();
+	}
+
+	/**
+	 * Makes the pile own its list, copying its range if the list is shared with other piles.
+	 */
+	private void ensureOwned() {
+		if (shared) {
+			cards = new ArrayList<T>(cards.subList(start, end));
+			start = 0;
+			end = 0;
+			shared = false;
+		}
+	}
+
 	/**
 	 * Checks if the pile is empty.
 	 * 
 	 * @return True if the pile is empty, false otherwise
 	 */
 	public boolean isEmpty() {
-		return cards.isEmpty();
+		return size() == 0;
 	}
 
 	/**
@@ -57,34 +115,49 @@ public class Pile<T extends ICard> {
 	 * @return The number of cards in the pile
 	 */
 	public int size() {
-		return cards.size();
+		return topIndex() - bottomIndex();
 	}
 
 	/**
-	 * Gets the list of cards in the pile.
+	 * Gets the list of cards in the pile, from the bottom to the top.
+	 * Modifying the list modifies the pile, until the pile is split or shared.
+	 * A pile sharing its list copies it first, so prefer {@link #getCardsView()} to only read the cards.
 	 * 
 	 * @return The list of cards in the pile
 	 */
 	public ArrayList<T> getCards() {
+		ensureOwned();
 		return cards;
 	}
 
+	/**
+	 * Gets a read-only view of the cards in the pile, from the bottom to the top, without copying them.
+	 * The view should only be read until the next modification of the pile.
+	 * 
+	 * @return The read-only view of the cards in the pile
+	 */
+	public List<T> getCardsView() {
+		return Collections.unmodifiableList(cards.subList(bottomIndex(), topIndex()));
+	}
+
 	/**
 	 * Adds a card to the pile.
 	 * 
 	 * @param card The card to add
 	 */
 	public void addCard(T card) {
+		ensureOwned();
 		cards.add(card);
 	}
 
 	/**
 	 * Adds a list of cards to the pile.
 	 * 
-	 * @param cards The cards to add
+	 * @param newCards The cards to add
 	 */
-	public void addCards(ArrayList<T> cards) {
-		cards.addAll(cards);
+	public void addCards(ArrayList<T> newCards) {
+		ensureOwned();
+		cards.addAll(newCards);
 	}
 
 	/**
@@ -93,7 +166,27 @@ public class Pile<T extends ICard> {
 	 * @param pile The pile to add the cards from
 	 */
 	public void addCards(Pile<T> pile) {
-		cards.addAll(pile.cards);
+		// Reads the range first, in case both piles share the same list
+		int pileBottom = pile.bottomIndex();
+		int pileTop = pile.topIndex();
+		ArrayList<T> pileCards = pile.cards;
+
+		ensureOwned();
+		cards.addAll(pileCards.subList(pileBottom, pileTop));
+	}
+
+	/**
+	 * Gets a card of the pile, without removing it from the pile nor modifying the pile.
+	 * 
+	 * @param index The index of the card, from 0 for the bottom card to size() - 1 for the top card
+	 * 
+	 * @return The card at the given index
+	 */
+	public T getCard(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Invalid index " + index + " for a pile of " + size() + " cards.");
+		}
+		return cards.get(bottomIndex() + index);
 	}
 
 	/**
@@ -105,7 +198,7 @@ public class Pile<T extends ICard> {
 		if(isEmpty()) {
 			return null;
 		} else {
-			return cards.get(cards.size() - 1);
+			return cards.get(topIndex() - 1);
 		}
 	}
 
@@ -117,11 +210,32 @@ public class Pile<T extends ICard> {
 	public T draw() {
 		if(isEmpty()) {
 			return null;
+		}
+
+		if (shared) {
+			// Draws from the top of the range, without modifying the shared list
+			end--;
+			return cards.get(end);
 		} else {
 			// Draws from the top of the pile
-			T card = cards.get(cards.size() - 1);
-			cards.remove(cards.size() - 1);
-			return card;
+			return cards.remove(cards.size() - 1);
+		}
+	}
+
+	/**
+	 * Puts back on top of the pile the card drawn last, undoing {@link #draw()}.
+	 * The pile must not have been modified since the card was drawn, or must have been restored since.
+	 * 
+	 * @param card The card drawn last
+	 */
+	public void putBack(T card) {
+		if (shared && end < cards.size() && cards.get(end) == card) {
+			// The card was drawn from the shared list, and is still right above the range
+			end++;
+		} else {
+			// The card was removed from the list, or the pile was shared again since it was drawn
+			ensureOwned();
+			cards.add(card);
 		}
 	}
 
@@ -129,16 +243,24 @@ public class Pile<T extends ICard> {
 	 * Draws a number of cards from the pile, removing them from the pile.
 	 * 
 	 * @param numCards The number of cards to draw
-	 * @return The cards drawn, or an empty list if the pile is empty
+	 * @return The cards drawn, from the top of the pile, or an empty list if the pile is empty
 	 */
 	public ArrayList<T> draw(int numCards) {
-		if (numCards > cards.size()) {
-			numCards = cards.size();
+		if (numCards > size()) {
+			numCards = size();
+		}
+
+		int top = topIndex();
+		ArrayList<T> drawnCards = new ArrayList<T>(numCards);
+		for(int i = top - 1; i >= top - numCards; i--) {
+			drawnCards.add(cards.get(i));
 		}
 
-		ArrayList<T> drawnCards = new ArrayList<T>();
-		for(int i = 0; i < numCards; i++) {
-			drawnCards.add(draw());
+		// Removes every drawn card at once
+		if (shared) {
+			end -= numCards;
+		} else {
+			cards.subList(top - numCards, top).clear();
 		}
 		return drawnCards;
 	}
@@ -146,37 +268,92 @@ public class Pile<T extends ICard> {
 	/**
 	 * Splits the pile in two. Creates a new pile starting from the bottom of the current pile.
 	 * The current pile is modified and will contain the top half of the cards.
+	 * No card is copied: both piles share the list of the current pile.
 	 * 
 	 * @return The created pile. It may be empty if the current pile is of size <= 1.
 	 */
 	public Pile<T> splitInTwo() {
-		int halfSize = cards.size() / 2;
-		ArrayList<T> newCards = new ArrayList<T>(cards.subList(0, halfSize));
-		cards = new ArrayList<T>(cards.subList(halfSize, cards.size()));
-		return new Pile<T>(newCards);
+		int bottom = bottomIndex();
+		int top = topIndex();
+		int middle = bottom + (top - bottom) / 2;
+
+		Pile<T> bottomPile = new Pile<T>(cards, bottom, middle);
+		this.start = middle;
+		this.end = top;
+		this.shared = true;
+		return bottomPile;
+	}
+
+	/**
+	 * Gives back to the pile the cards of the bottom pile returned by {@link #splitInTwo()}, undoing the split.
+	 * Both piles must not have been modified since the split, or must have been restored since.
+	 * The bottom pile is left empty, and the pile keeps sharing its list until its next modification.
+	 * 
+	 * @param bottomPile The pile returned by the split
+	 */
+	public void mergeSplit(Pile<T> bottomPile) {
+		if (shared && bottomPile.shared && cards == bottomPile.cards && bottomPile.end == start) {
+			// Both ranges are still next to each other in the same list
+			this.start = bottomPile.start;
+		} else {
+			// One of the piles got its own list since the split, so the cards of the bottom pile are copied
+			ArrayList<T> bottomCards = new ArrayList<T>(bottomPile.cards.subList(bottomPile.bottomIndex(), bottomPile.topIndex()));
+			ensureOwned();
+			cards.addAll(0, bottomCards);
+		}
+
+		if (bottomPile.shared) {
+			bottomPile.end = bottomPile.start;
+		} else {
+			bottomPile.cards.clear();
+		}
+	}
+
+	/**
+	 * Creates a view of the current cards of the pile, without copying them.
+	 * The pile now shares its list, which is never modified again: the pile copies it before its next modification,
+	 * so the view keeps its cards whatever happens to the pile, and can be read by other threads.
+	 * 
+	 * @return The view of the cards of the pile
+	 */
+	public Pile<T> share() {
+		int bottom = bottomIndex();
+		int top = topIndex();
+		this.start = bottom;
+		this.end = top;
+		this.shared = true;
+		return new Pile<T>(cards, bottom, top);
 	}
 
 	/**
 	 * Splits the pile in the given number of piles.
 	 * The original pile is not modified.
+	 * No card is copied: the created piles share the list of the original pile.
 	 * 
 	 * @param numPiles The number of piles to split the pile in
 	 * @return The created piles. They may be empty if the current pile is too small
 	 */
 	public ArrayList<Pile<T>> splitIn(int numPiles) {
-		ArrayList<Pile<T>> piles = new ArrayList<Pile<T>>();
-		int numCards = cards.size() / numPiles;
-		int remainingCards = cards.size() % numPiles;
-		int start = 0;
+		int bottom = bottomIndex();
+		int top = topIndex();
+
+		// The original pile now shares its list, so it will copy it before modifying it
+		this.start = bottom;
+		this.end = top;
+		this.shared = true;
+
+		ArrayList<Pile<T>> piles = new ArrayList<Pile<T>>(numPiles);
+		int numCards = (top - bottom) / numPiles;
+		int remainingCards = (top - bottom) % numPiles;
+		int pileStart = bottom;
 		for(int i = 0; i < numPiles; i++) {
-			int end = start + numCards;
+			int pileEnd = pileStart + numCards;
 			if(remainingCards > 0) {
-				end++;
+				pileEnd++;
 				remainingCards--;
 			}
-			ArrayList<T> newCards = new ArrayList<T>(cards.subList(start, end));
-			piles.add(new Pile<T>(newCards));
-			start = end;
+			piles.add(new Pile<T>(cards, pileStart, pileEnd));
+			pileStart = pileEnd;
 		}
 		return piles;
 	}
@@ -218,17 +395,32 @@ public class Pile<T extends ICard> {
 	 * Flips all the cards in the pile.
 	 */
 	public void flip() {
-		for(T card : cards) {
-			card.flip();
+		for(int i = bottomIndex(); i < topIndex(); i++) {
+			cards.get(i).flip();
 		}
 	}
 
 	/**
-	 * Shuffles the pile.
+	 * Shuffles the pile with a new random source.
+	 * Prefer {@link #shuffle(SplittableRandom)} with the random source of the game, so that it can be replayed.
 	 */
 	public void shuffle() {
-		
-		Collections.shuffle(cards);
+		shuffle(new SplittableRandom());
+	}
+
+	/**
+	 * Shuffles the pile with the given random source (Fisher-Yates shuffle).
+	 * 
+	 * @param random The random source to use
+	 */
+	public void shuffle(SplittableRandom random) {
+		ensureOwned();
+		for (int i = cards.size() - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			T card = cards.get(i);
+			cards.set(i, cards.get(j));
+			cards.set(j, card);
+		}
 	}
 
 	@Override
@@ -240,6 +432,11 @@ public class Pile<T extends ICard> {
 			return false;
 		}
 		Pile<?> pile = (Pile<?>) obj;
-		return cards.equals(pile.cards);
+		return cards.subList(bottomIndex(), topIndex()).equals(pile.cards.subList(pile.bottomIndex(), pile.topIndex()));
+	}
+
+	@Override
+	public int hashCode() {
+		return cards.subList(bottomIndex(), topIndex()).hashCode();
 	}
 }
@@ -0,0 +1,71 @@
+package cards;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+import exceptions.CardFactoryException;
+
+/**
+ * Factory for creating Point Salad cards from a binary deck file, compiled by {@link PointSaladBinaryDeck}.
+ * The file is memory-mapped and its fixed-width records are decoded directly, without any text parsing.
+ */
+public class PointSaladBinaryCardFactory implements ICardFactory {
+
+	/**
+	 * Constructor for the PointSaladBinaryCardFactory.
+	 */
+	public PointSaladBinaryCardFactory() {}
+
+	@Override
+	public ArrayList<ICard> loadCards(String filename) throws CardFactoryException {
+		try (RandomAccessFile file = new RandomAccessFile(filename, "r");
+			 FileChannel channel = file.getChannel()) {
+
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return decodeCards(buffer);
+		} catch (FileNotFoundException e) {
+			throw new CardFactoryException("The file does not exist", e);
+		} catch (IOException e) {
+			throw new CardFactoryException("An error occurred while loading the cards", e);
+		}
+	}
+
+	/**
+	 * Decodes every card of a binary deck.
+	 *
+	 * @param buffer The buffer holding the whole deck
+	 *
+	 * @return The decoded cards
+	 *
+	 * @throws CardFactoryException If the deck is invalid
+	 */
+	private ArrayList<ICard> decodeCards(ByteBuffer buffer) throws CardFactoryException {
+		if (buffer.limit() < PointSaladBinaryDeck.HEADER_SIZE || buffer.getInt(0) != PointSaladBinaryDeck.MAGIC) {
+			throw new CardFactoryException("The file is not a binary deck");
+		}
+		int version = buffer.getInt(4);
+		if (version != PointSaladBinaryDeck.VERSION) {
+			throw new CardFactoryException("Unsupported binary deck version: " + version);
+		}
+		int nbCards = buffer.getInt(8);
+		if (nbCards < 0 || buffer.limit() < PointSaladBinaryDeck.HEADER_SIZE + (long) nbCards * PointSaladBinaryDeck.RECORD_SIZE) {
+			throw new CardFactoryException("The binary deck is truncated");
+		}
+
+		ArrayList<ICard> cards = new ArrayList<ICard>(nbCards);
+		for (int i = 0; i < nbCards; i++) {
+			int position = PointSaladBinaryDeck.HEADER_SIZE + i * PointSaladBinaryDeck.RECORD_SIZE;
+			try {
+				cards.add(PointSaladBinaryDeck.decodeRecord(buffer, position));
+			} catch (CardFactoryException e) {
+				throw new CardFactoryException("The card data is not formatted correctly at card n°" + (i+1), e);
+			}
+		}
+		return cards;
+	}
+}
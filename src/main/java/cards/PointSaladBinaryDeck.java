@@ -0,0 +1,374 @@
+package cards;
+
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.point_salad_criteria.AbstractPointSaladCriterion;
+import criteria.point_salad_criteria.AbstractPointSaladCriterion.CriterionType;
+import criteria.point_salad_criteria.PointSaladCombinationCriterion;
+import criteria.point_salad_criteria.PointSaladCompleteSetCriterion;
+import criteria.point_salad_criteria.PointSaladEvenOddCriterion;
+import criteria.point_salad_criteria.PointSaladFewestCriterion;
+import criteria.point_salad_criteria.PointSaladFewestTotalCriterion;
+import criteria.point_salad_criteria.PointSaladMostCriterion;
+import criteria.point_salad_criteria.PointSaladMostTotalCriterion;
+import criteria.point_salad_criteria.PointSaladPerMissingVeggieTypeCriterion;
+import criteria.point_salad_criteria.PointSaladPerVeggieCriterion;
+import criteria.point_salad_criteria.PointSaladPerVeggieTypeCriterion;
+import exceptions.CardFactoryException;
+
+/**
+ * Binary deck format for the PointSalad cards, and compiler from a JSON manifest.
+ *
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: the magic number, the format version and the number of cards,
+ * as big-endian ints. Each card is then a fixed-width record of {@value #RECORD_SIZE} bytes:
+ * the vegetable ordinal, the criterion type ordinal ({@value #NO_CRITERION} for no criterion), the number of vegetables
+ * of the criterion, a padding byte, then {@value #NB_PARAMETERS} shorts of parameters which depend on the criterion type:
+ * <ul>
+ * <li>MOST, FEWEST: vegetable, points</li>
+ * <li>EVEN_ODD: vegetable, even points, odd points</li>
+ * <li>PER_VEGGIE: vegetable and points of each vegetable</li>
+ * <li>COMBINATION: each vegetable, then the points</li>
+ * <li>MOST_TOTAL, FEWEST_TOTAL, COMPLETE_SET, MISSING_TYPE: points</li>
+ * <li>PER_VEGGIE_TYPE: minimum number of each vegetable, points</li>
+ * </ul>
+ *
+ * It can be used from the command line: {@code PointSaladBinaryDeck <manifest.json> <deck.bin>}.
+ */
+public class PointSaladBinaryDeck {
+
+	/** The magic number at the start of a binary deck file ("PSDK"). */
+	public static final int MAGIC = 0x5053444B;
+	/** The version of the binary deck format. */
+	public static final int VERSION = 1;
+	/** The size of the header, in bytes. */
+	public static final int HEADER_SIZE = 12;
+	/** The size of a card record, in bytes. */
+	public static final int RECORD_SIZE = 32;
+	/** The number of parameters of a card record. */
+	public static final int NB_PARAMETERS = 14;
+	/** The criterion type tag of a card without criterion. */
+	public static final int NO_CRITERION = 0xFF;
+
+	private static final Vegetable[] VEGETABLES = Vegetable.values();
+	private static final CriterionType[] CRITERION_TYPES = CriterionType.values();
+
+	/**
+	 * Private constructor, as this class only holds static methods.
+	 */
+	private PointSaladBinaryDeck() {}
+
+	/**
+	 * Compiles a JSON manifest into a binary deck file.
+	 *
+	 * @param manifestPath The path of the JSON manifest
+	 * @param deckPath The path of the binary deck file to write
+	 *
+	 * @throws CardFactoryException If the manifest can not be loaded or the deck can not be written
+	 */
+	public static void compile(String manifestPath, String deckPath) throws CardFactoryException {
+		ArrayList<ICard> cards = new PointSaladCardFactory().loadCards(manifestPath);
+		write(cards, deckPath);
+	}
+
+	/**
+	 * Writes cards into a binary deck file.
+	 *
+	 * @param cards The cards to write
+	 * @param deckPath The path of the binary deck file to write
+	 *
+	 * @throws CardFactoryException If a card can not be encoded or the deck can not be written
+	 */
+	public static void write(ArrayList<ICard> cards, String deckPath) throws CardFactoryException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + cards.size() * RECORD_SIZE);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(cards.size());
+
+		for (int i = 0; i < cards.size(); i++) {
+			if (!(cards.get(i) instanceof PointSaladCard)) {
+				throw new CardFactoryException("The card n°" + (i+1) + " is not a PointSaladCard");
+			}
+			try {
+				encodeRecord((PointSaladCard) cards.get(i), buffer);
+			} catch (CardFactoryException e) {
+				throw new CardFactoryException("The card n°" + (i+1) + " can not be encoded", e);
+			}
+		}
+
+		try (DataOutputStream output = new DataOutputStream(new FileOutputStream(deckPath))) {
+			output.write(buffer.array());
+		} catch (IOException e) {
+			throw new CardFactoryException("The deck file could not be written", e);
+		}
+	}
+
+	/**
+	 * Encodes a card at the current position of the buffer.
+	 *
+	 * @param card The card to encode
+	 * @param buffer The buffer to write the record into
+	 *
+	 * @throws CardFactoryException If the criterion of the card can not be encoded
+	 */
+	private static void encodeRecord(PointSaladCard card, ByteBuffer buffer) throws CardFactoryException {
+		short[] parameters = new short[NB_PARAMETERS];
+		int type = NO_CRITERION;
+		int nbVegetables = 0;
+
+		ICriterion criterion = card.getCriterion();
+		if (criterion != null) {
+			if (!(criterion instanceof AbstractPointSaladCriterion)) {
+				throw new CardFactoryException("Unknown criterion: " + criterion.getCriterionDisplay());
+			}
+			CriterionType criterionType = ((AbstractPointSaladCriterion) criterion).getCriterionType();
+			type = criterionType.ordinal();
+			nbVegetables = encodeParameters(criterionType, criterion, parameters);
+		}
+
+		buffer.put((byte) card.getVegetable().ordinal());
+		buffer.put((byte) type);
+		buffer.put((byte) nbVegetables);
+		buffer.put((byte) 0);
+		for (int i = 0; i < NB_PARAMETERS; i++) {
+			buffer.putShort(parameters[i]);
+		}
+	}
+
+	/**
+	 * Encodes the parameters of a criterion.
+	 *
+	 * @param type The type of the criterion
+	 * @param criterion The criterion
+	 * @param parameters The parameters to fill
+	 *
+	 * @return The number of vegetables of the criterion, for variable-length criteria
+	 *
+	 * @throws CardFactoryException If the criterion has too many vegetables, or a value, which do not fit in a record
+	 */
+	private static int encodeParameters(CriterionType type, ICriterion criterion, short[] parameters) throws CardFactoryException {
+		switch (type) {
+			case MOST: {
+				PointSaladMostCriterion most = (PointSaladMostCriterion) criterion;
+				parameters[0] = toParameter(most.getVegetable().ordinal(), criterion);
+				parameters[1] = toParameter(most.getPointsGranted(), criterion);
+				return 0;
+			}
+			case FEWEST: {
+				PointSaladFewestCriterion fewest = (PointSaladFewestCriterion) criterion;
+				parameters[0] = toParameter(fewest.getVegetable().ordinal(), criterion);
+				parameters[1] = toParameter(fewest.getPointsGranted(), criterion);
+				return 0;
+			}
+			case EVEN_ODD: {
+				PointSaladEvenOddCriterion evenOdd = (PointSaladEvenOddCriterion) criterion;
+				parameters[0] = toParameter(evenOdd.getVegetable().ordinal(), criterion);
+				parameters[1] = toParameter(evenOdd.getEvenPoints(), criterion);
+				parameters[2] = toParameter(evenOdd.getOddPoints(), criterion);
+				return 0;
+			}
+			case PER_VEGGIE: {
+				PointSaladPerVeggieCriterion perVeggie = (PointSaladPerVeggieCriterion) criterion;
+				ArrayList<Vegetable> vegetables = perVeggie.getVegetables();
+				ArrayList<Integer> points = perVeggie.getPointsPerVeggie();
+				if (vegetables.size() * 2 > NB_PARAMETERS) {
+					throw new CardFactoryException("Too many vegetables in criterion: " + criterion);
+				}
+				if (points.size() != vegetables.size()) {
+					throw new CardFactoryException(points.size() + " points can not be encoded for " + vegetables.size() + " vegetables.");
+				}
+				for (int i = 0; i < vegetables.size(); i++) {
+					parameters[2 * i] = toParameter(vegetables.get(i).ordinal(), criterion);
+					parameters[2 * i + 1] = toParameter(points.get(i), criterion);
+				}
+				return vegetables.size();
+			}
+			case COMBINATION: {
+				PointSaladCombinationCriterion combination = (PointSaladCombinationCriterion) criterion;
+				ArrayList<Vegetable> vegetables = combination.getVegetables();
+				if (vegetables.size() + 1 > NB_PARAMETERS) {
+					throw new CardFactoryException("Too many vegetables in criterion: " + criterion);
+				}
+				for (int i = 0; i < vegetables.size(); i++) {
+					parameters[i] = toParameter(vegetables.get(i).ordinal(), criterion);
+				}
+				parameters[vegetables.size()] = toParameter(combination.getPointsPerCombination(), criterion);
+				return vegetables.size();
+			}
+			case MOST_TOTAL:
+				parameters[0] = toParameter(((PointSaladMostTotalCriterion) criterion).getPointsGranted(), criterion);
+				return 0;
+			case FEWEST_TOTAL:
+				parameters[0] = toParameter(((PointSaladFewestTotalCriterion) criterion).getPointsGranted(), criterion);
+				return 0;
+			case COMPLETE_SET:
+				parameters[0] = toParameter(((PointSaladCompleteSetCriterion) criterion).getPointsGranted(), criterion);
+				return 0;
+			case MISSING_TYPE:
+				parameters[0] = toParameter(((PointSaladPerMissingVeggieTypeCriterion) criterion).getPointsPerMissingVeggieType(), criterion);
+				return 0;
+			case PER_VEGGIE_TYPE: {
+				PointSaladPerVeggieTypeCriterion perVeggieType = (PointSaladPerVeggieTypeCriterion) criterion;
+				parameters[0] = toParameter(perVeggieType.getMinNumberOfEachVeggie(), criterion);
+				parameters[1] = toParameter(perVeggieType.getPointsPerVeggieType(), criterion);
+				return 0;
+			}
+			default:
+				throw new CardFactoryException("Unknown criterion type: " + type);
+		}
+	}
+
+	/**
+	 * Converts a value of a criterion into a record parameter.
+	 *
+	 * @param value The value to convert
+	 * @param criterion The criterion of the value, for the error message
+	 *
+	 * @return The parameter
+	 *
+	 * @throws CardFactoryException If the value does not fit in a parameter
+	 */
+	private static short toParameter(int value, ICriterion criterion) throws CardFactoryException {
+		if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new CardFactoryException("The value " + value + " does not fit in a record, in criterion: " + criterion);
+		}
+		return (short) value;
+	}
+
+	/**
+	 * Decodes the card record at the given position of the buffer.
+	 *
+	 * @param buffer The buffer holding the deck
+	 * @param position The position of the record in the buffer
+	 *
+	 * @return The decoded card, on its vegetable side
+	 *
+	 * @throws CardFactoryException If the record is invalid
+	 */
+	public static PointSaladCard decodeRecord(ByteBuffer buffer, int position) throws CardFactoryException {
+		int veggieIndex = buffer.get(position) & 0xFF;
+		int type = buffer.get(position + 1) & 0xFF;
+		int nbVegetables = buffer.get(position + 2) & 0xFF;
+		int parametersPosition = position + 4;
+
+		if (veggieIndex >= VEGETABLES.length) {
+			throw new CardFactoryException("Invalid vegetable: " + veggieIndex);
+		}
+
+		short[] parameters = new short[NB_PARAMETERS];
+		for (int i = 0; i < NB_PARAMETERS; i++) {
+			parameters[i] = buffer.getShort(parametersPosition + 2 * i);
+		}
+
+		ICriterion criterion = null;
+		if (type != NO_CRITERION) {
+			if (type >= CRITERION_TYPES.length) {
+				throw new CardFactoryException("Invalid criterion type: " + type);
+			}
+			criterion = decodeCriterion(CRITERION_TYPES[type], nbVegetables, parameters);
+		}
+
+		return new PointSaladCard(VEGETABLES[veggieIndex], criterion);
+	}
+
+	/**
+	 * Gets the vegetable of an encoded parameter.
+	 *
+	 * @param parameter The parameter
+	 *
+	 * @return The vegetable
+	 *
+	 * @throws CardFactoryException If the parameter is not a vegetable
+	 */
+	private static Vegetable toVegetable(short parameter) throws CardFactoryException {
+		if (parameter < 0 || parameter >= VEGETABLES.length) {
+			throw new CardFactoryException("Invalid vegetable: " + parameter);
+		}
+		return VEGETABLES[parameter];
+	}
+
+	/**
+	 * Creates a criterion from its type and parameters.
+	 *
+	 * @param type The type of the criterion
+	 * @param nbVegetables The number of vegetables, for variable-length criteria
+	 * @param parameters The parameters of the criterion
+	 *
+	 * @return The criterion
+	 *
+	 * @throws CardFactoryException If the parameters are invalid
+	 */
+	private static ICriterion decodeCriterion(CriterionType type, int nbVegetables, short[] parameters) throws CardFactoryException {
+		switch (type) {
+			case MOST:
+				return new PointSaladMostCriterion(toVegetable(parameters[0]), parameters[1]);
+			case FEWEST:
+				return new PointSaladFewestCriterion(toVegetable(parameters[0]), parameters[1]);
+			case EVEN_ODD:
+				return new PointSaladEvenOddCriterion(toVegetable(parameters[0]), parameters[1], parameters[2]);
+			case PER_VEGGIE: {
+				if (nbVegetables * 2 > NB_PARAMETERS) {
+					throw new CardFactoryException("Invalid number of vegetables: " + nbVegetables);
+				}
+				ArrayList<Vegetable> vegetables = new ArrayList<>(nbVegetables);
+				ArrayList<Integer> points = new ArrayList<>(nbVegetables);
+				for (int i = 0; i < nbVegetables; i++) {
+					vegetables.add(toVegetable(parameters[2 * i]));
+					points.add((int) parameters[2 * i + 1]);
+				}
+				return new PointSaladPerVeggieCriterion(vegetables, points);
+			}
+			case COMBINATION: {
+				if (nbVegetables + 1 > NB_PARAMETERS) {
+					throw new CardFactoryException("Invalid number of vegetables: " + nbVegetables);
+				}
+				ArrayList<Vegetable> vegetables = new ArrayList<>(nbVegetables);
+				for (int i = 0; i < nbVegetables; i++) {
+					vegetables.add(toVegetable(parameters[i]));
+				}
+				try {
+					return new PointSaladCombinationCriterion(vegetables, parameters[nbVegetables]);
+				} catch (Exception e) {
+					throw new CardFactoryException("Invalid combination criterion", e);
+				}
+			}
+			case MOST_TOTAL:
+				return new PointSaladMostTotalCriterion(parameters[0]);
+			case FEWEST_TOTAL:
+				return new PointSaladFewestTotalCriterion(parameters[0]);
+			case COMPLETE_SET:
+				return new PointSaladCompleteSetCriterion(parameters[0]);
+			case MISSING_TYPE:
+				return new PointSaladPerMissingVeggieTypeCriterion(parameters[0]);
+			case PER_VEGGIE_TYPE:
+				return new PointSaladPerVeggieTypeCriterion(parameters[0], parameters[1]);
+			default:
+				throw new CardFactoryException("Unknown criterion type: " + type);
+		}
+	}
+
+	/**
+	 * Compiles a JSON manifest into a binary deck file.
+	 *
+	 * @param args The path of the JSON manifest, and the path of the binary deck file to write
+	 */
+	public static void main(String[] args) {
+		if (args.length != 2) {
+			System.err.println("Usage: PointSaladBinaryDeck <manifest.json> <deck.bin>");
+			System.exit(1);
+		}
+
+		try {
+			compile(args[0], args[1]);
+			System.out.println("Deck compiled from '" + args[0] + "' to '" + args[1] + "'.");
+		} catch (CardFactoryException e) {
+			System.err.println("Failed to compile the deck: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+}
@@ -18,8 +18,8 @@ public class PointSaladCard implements ICard {
 		PEPPER, LETTUCE, CARROT, CABBAGE, ONION, TOMATO
 	}
 
-	private Vegetable vegetable;
-	private ICriterion criterion;
+	private final Vegetable vegetable;
+	private final ICriterion criterion;
 	private boolean criterionSideUp = false;
 
 	/**
@@ -36,18 +36,13 @@ public class PointSaladCard implements ICard {
 
 	/**
 	 * Creates a PointSaladCard copy of the given card.
-	 * It uses a deep copy, so the criterion is also copied.
+	 * Only the side of the card is copied: criteria are immutable, so the copy shares the criterion of the given card.
 	 * 
 	 * @param other The card to copy
 	 */
 	public PointSaladCard(PointSaladCard other) {
 		this.vegetable = other.vegetable;
-		if (other.criterion == null) {
-			this.criterion = null;
-		} else {
-			// Deep copy of the criterion
-			this.criterion = other.criterion.copy();
-		}
+		this.criterion = other.criterion;
 		this.criterionSideUp = other.criterionSideUp;
 	}
 
@@ -153,13 +148,16 @@ public class PointSaladCard implements ICard {
 	 * @return A map of each vegetable and the number of times it appears in the hand
 	 */
 	public static HashMap<Vegetable, Integer> countVeggiesInHand(ArrayList<PointSaladCard> hand) {
-		// Keeps only the veggie cards
-		hand = getVeggieHand(hand);
-		
 		HashMap<Vegetable, Integer> veggieCount = new HashMap<>();
 
 		for (PointSaladCard card : hand)
 		{
+			// Only counts the veggie cards
+			if (card.isCriterionSideUp())
+			{
+				continue;
+			}
+
 			Vegetable veggie = card.getVegetable();
 			if (veggieCount.containsKey(veggie))
 			{
@@ -216,7 +214,7 @@ public class PointSaladCard implements ICard {
 	 */
 	public static ArrayList<Pile<PointSaladCard>> extractVeggiePiles(Pile<ICard> pile) {
 		
-		return extractVeggiePiles(pile.getCards());
+		return extractVeggiePiles(new ArrayList<ICard>(pile.getCardsView()));
 	}
 
 	/**
@@ -303,7 +301,7 @@ public class PointSaladCard implements ICard {
 	 * @return The copy of the hand
 	 */
 	public static ArrayList<PointSaladCard> copyHand(ArrayList<PointSaladCard> hand) {
-		ArrayList<PointSaladCard> copy = new ArrayList<>();
+		ArrayList<PointSaladCard> copy = new ArrayList<>(hand.size());
 		for (PointSaladCard card : hand) {
 			copy.add(card.copy());
 		}
@@ -1,29 +1,35 @@
 package cards;
 
+import java.io.BufferedReader;
 import java.io.FileInputStream;
-import java.io.InputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.function.Consumer;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 import criteria.ICriterion;
 import criteria.ICriterionFactory;
+import criteria.InterningCriterionFactory;
 import criteria.PointSaladCriterionFactory;
 import exceptions.CardFactoryException;
 
 /**
  * Factory for creating Point Salad cards.
+ * The manifest is read as a stream: only one card entry is held in memory at a time,
+ * and its cards are created before the rest of the file is read.
  */
 public class PointSaladCardFactory implements ICardFactory{
 
-	private ICriterionFactory criterionFactory = new PointSaladCriterionFactory();
+	private ICriterionFactory criterionFactory = new InterningCriterionFactory(new PointSaladCriterionFactory());
 	
 	/**
 	 * Constructor for the PointSaladFactory.
-	 * By default, uses the PointSaladCriterionFactory.
+	 * By default, uses the PointSaladCriterionFactory, through the process-wide pool of criteria.
 	 */
 	public PointSaladCardFactory() {}
 
@@ -64,48 +70,108 @@ public class PointSaladCardFactory implements ICardFactory{
 	}
 
 	/**
-	 * Creates every vegetable card from a JSON object containing several ids.
+	 * Reads the cards array of a manifest, creating the cards of each entry as soon as it is read.
+	 * The tokener must be positioned right before the opening bracket of the array.
 	 * 
-	 * @param cardsData The JSON object containing the cards data
-	 * 
-	 * @return The cards created
+	 * @param tokener The tokener reading the manifest
+	 * @param cardConsumer The consumer of the created cards
 	 * 
 	 * @throws CardFactoryException If the card data is not formatted correctly
 	 */
-	private ArrayList<ICard> createCards(JSONObject cardsData) throws CardFactoryException {
-		ArrayList<ICard> cards = new ArrayList<ICard>();
+	private void readCardsArray(JSONTokener tokener, Consumer<ICard> cardConsumer) throws CardFactoryException {
+		if (tokener.nextClean() != '[') {
+			throw new CardFactoryException("The cards should be a JSON array");
+		}
+		if (tokener.nextClean() == ']') {
+			return;
+		}
+		tokener.back();
 
-		JSONArray JSONcards = cardsData.getJSONArray("cards");
-		for (int i = 0; i < JSONcards.length(); i++)
-		{
-			JSONObject cardData = JSONcards.getJSONObject(i);
+		int i = 0;
+		while (true) {
+			// Only the current entry is parsed into a JSON object
+			Object entry = tokener.nextValue();
 			try {
-				ArrayList<ICard> cardsAtId = createCardsFromSingleId(cardData);
-				cards.addAll(cardsAtId);
+				if (!(entry instanceof JSONObject)) {
+					throw new CardFactoryException("The card entry should be a JSON object");
+				}
+				ArrayList<ICard> cardsAtId = createCardsFromSingleId((JSONObject) entry);
+				for (ICard card : cardsAtId) {
+					cardConsumer.accept(card);
+				}
 			}
 			catch (Exception e) {
 				throw new CardFactoryException("The card data is not formatted correctly at id " + i, e);
 			}
-		}
+			i++;
 
-		return cards;
+			char next = tokener.nextClean();
+			if (next == ']') {
+				return;
+			}
+			if (next != ',') {
+				throw new CardFactoryException("Expected ',' or ']' after the card entry at id " + (i-1));
+			}
+		}
 	}
 
-	@Override
-	public ArrayList<ICard> loadCards(String filename) throws CardFactoryException {
-		ArrayList<ICard> cards = new ArrayList<ICard>();
+	/**
+	 * Reads a manifest, walking its tokens and creating the cards of its "cards" array entry by entry.
+	 * Other members of the manifest are skipped.
+	 * 
+	 * @param tokener The tokener reading the manifest
+	 * @param cardConsumer The consumer of the created cards
+	 * 
+	 * @throws CardFactoryException If the manifest is not formatted correctly
+	 */
+	private void readManifest(JSONTokener tokener, Consumer<ICard> cardConsumer) throws CardFactoryException {
+		if (tokener.nextClean() != '{') {
+			throw new CardFactoryException("The manifest should be a JSON object");
+		}
 
-		// Reads the content of the given file
-        try (InputStream fInputStream = new FileInputStream(filename);
-             Scanner scanner = new Scanner(fInputStream, "UTF-8").useDelimiter("\\A")) {
+		boolean cardsFound = false;
+		if (tokener.nextClean() != '}') {
+			tokener.back();
+			while (true) {
+				String key = tokener.nextValue().toString();
+				if (tokener.nextClean() != ':') {
+					throw new CardFactoryException("Expected ':' after the key '" + key + "'");
+				}
 
-				String jsonString = scanner.hasNext() ? scanner.next() : "";
-	
-				JSONObject cardsData = new JSONObject(jsonString);
-	
-				cards = createCards(cardsData);
-	
-				return cards;
+				if (key.equals("cards")) {
+					readCardsArray(tokener, cardConsumer);
+					cardsFound = true;
+				}
+				else {
+					tokener.nextValue();
+				}
+
+				char next = tokener.nextClean();
+				if (next == '}') {
+					break;
+				}
+				if (next != ',') {
+					throw new CardFactoryException("Expected ',' or '}' after the key '" + key + "'");
+				}
+			}
+		}
+
+		if (!cardsFound) {
+			throw new CardFactoryException("The manifest does not contain any cards");
+		}
+	}
+
+	/**
+	 * Loads cards from a file, giving each card to the consumer as soon as it is created.
+	 * 
+	 * @param filename The name of the file to load the cards from
+	 * @param cardConsumer The consumer of the created cards
+	 * 
+	 * @throws CardFactoryException If the file does not exist or is not formatted correctly
+	 */
+	public void streamCards(String filename, Consumer<ICard> cardConsumer) throws CardFactoryException {
+		try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8))) {
+			readManifest(new JSONTokener(reader), cardConsumer);
 		} catch (FileNotFoundException e) {
 			throw new CardFactoryException("The file does not exist", e);
 		} catch (CardFactoryException e) {
@@ -114,4 +180,11 @@ public class PointSaladCardFactory implements ICardFactory{
 			throw new CardFactoryException("An error occurred while loading the cards", e);
 		}
 	}
+
+	@Override
+	public ArrayList<ICard> loadCards(String filename) throws CardFactoryException {
+		ArrayList<ICard> cards = new ArrayList<ICard>();
+		streamCards(filename, cards::add);
+		return cards;
+	}
 }
@@ -0,0 +1,334 @@
+package cards;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import exceptions.CardFactoryException;
+
+/**
+ * Table of the card templates of a deck, used to represent PointSalad cards as small integers.
+ * It is an alternate representation of the cards: hands, piles and market slots can be stored as int arrays.
+ *
+ * A template is a vegetable and its criterion, as loaded by the card factory.
+ * A card code packs the template id, the vegetable ordinal and the side of the card:
+ * {@code (templateId << 4) | (vegetable << 1) | side}, where side is 1 when the criterion side is up.
+ * The vegetable and the side can be read from a code without the table, which is only needed to get the criterion.
+ *
+ * Criteria are immutable, so the table shares them with the cards it encodes and decodes.
+ */
+public class PointSaladCardTable {
+
+	/** The code of an empty market slot. */
+	public static final int EMPTY_SLOT = -1;
+
+	private static final int SIDE_MASK = 1;
+	private static final int VEGETABLE_SHIFT = 1;
+	private static final int VEGETABLE_MASK = 0x7;
+	private static final int TEMPLATE_SHIFT = 4;
+	private static final Vegetable[] VEGETABLES = Vegetable.values();
+
+	private final ArrayList<ICriterion> criteria;
+	private final ArrayList<Vegetable> vegetables;
+	private final IdentityHashMap<ICriterion, int[]> templateIds; // Template ids of each criterion, indexed by vegetable
+
+	/**
+	 * Creates a table from the given cards, usually the output of a card factory.
+	 * Cards sharing the same criterion and vegetable share the same template.
+	 * Cards which are not PointSaladCard are ignored.
+	 *
+	 * @param cards The cards to build the table from
+	 */
+	public PointSaladCardTable(ArrayList<ICard> cards) {
+		this.criteria = new ArrayList<ICriterion>();
+		this.vegetables = new ArrayList<Vegetable>();
+		this.templateIds = new IdentityHashMap<ICriterion, int[]>();
+
+		for (int i = 0; i < cards.size(); i++) {
+			ICard card = cards.get(i);
+			if (card instanceof PointSaladCard) {
+				register((PointSaladCard) card);
+			}
+		}
+	}
+
+	/**
+	 * Creates a table from the cards loaded by the given factory.
+	 *
+	 * @param cardFactory The factory to load the cards with
+	 * @param filename The name of the file to load the cards from
+	 *
+	 * @return The table of the loaded cards
+	 *
+	 * @throws CardFactoryException If the cards could not be loaded
+	 */
+	public static PointSaladCardTable load(ICardFactory cardFactory, String filename) throws CardFactoryException {
+		return new PointSaladCardTable(cardFactory.loadCards(filename));
+	}
+
+	/**
+	 * Registers the template of a card, if it is not already in the table.
+	 *
+	 * @param card The card to register
+	 */
+	private void register(PointSaladCard card) {
+		int[] ids = templateIds.get(card.getCriterion());
+		if (ids == null) {
+			ids = new int[VEGETABLES.length];
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = -1;
+			}
+			templateIds.put(card.getCriterion(), ids);
+		}
+
+		int veggieIndex = card.getVegetable().ordinal();
+		if (ids[veggieIndex] == -1) {
+			ids[veggieIndex] = criteria.size();
+			criteria.add(card.getCriterion());
+			vegetables.add(card.getVegetable());
+		}
+	}
+
+	/**
+	 * Gets the number of templates in the table.
+	 *
+	 * @return The number of templates
+	 */
+	public int getNbTemplates() {
+		return criteria.size();
+	}
+
+	/**
+	 * Gets the template id of a card code.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The template id
+	 */
+	public static int getTemplateId(int code) {
+		return code >>> TEMPLATE_SHIFT;
+	}
+
+	/**
+	 * Gets the vegetable ordinal of a card code.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The ordinal of the vegetable of the card
+	 */
+	public static int getVegetableIndex(int code) {
+		return (code >>> VEGETABLE_SHIFT) & VEGETABLE_MASK;
+	}
+
+	/**
+	 * Gets the vegetable of a card code.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The vegetable of the card
+	 */
+	public static Vegetable getVegetable(int code) {
+		return VEGETABLES[getVegetableIndex(code)];
+	}
+
+	/**
+	 * Checks if a card code has its criterion side up.
+	 *
+	 * @param code The card code
+	 *
+	 * @return True if the criterion side is up, false otherwise
+	 */
+	public static boolean isCriterionSideUp(int code) {
+		return (code & SIDE_MASK) != 0;
+	}
+
+	/**
+	 * Flips a card code.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The code of the flipped card
+	 */
+	public static int flip(int code) {
+		return code ^ SIDE_MASK;
+	}
+
+	/**
+	 * Gets the criterion of a card code.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The criterion of the card
+	 */
+	public ICriterion getCriterion(int code) {
+		return criteria.get(getTemplateId(code));
+	}
+
+	/**
+	 * Gets the string displayed for a card code, the same as the corresponding card.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The string representation of the card
+	 */
+	public String getDisplay(int code) {
+		if (isCriterionSideUp(code)) {
+			return getCriterion(code).getCriterionDisplay() + " (" + getVegetable(code) + ")";
+		} else {
+			return getVegetable(code).toString();
+		}
+	}
+
+	/**
+	 * Encodes a card.
+	 *
+	 * @param card The card to encode
+	 *
+	 * @return The code of the card
+	 *
+	 * @throws IllegalArgumentException If the template of the card is not in the table
+	 */
+	public int encode(PointSaladCard card) throws IllegalArgumentException {
+		int[] ids = templateIds.get(card.getCriterion());
+		int veggieIndex = card.getVegetable().ordinal();
+		if (ids == null || ids[veggieIndex] == -1) {
+			throw new IllegalArgumentException("The card " + card + " is not in the card table");
+		}
+
+		int side = card.isCriterionSideUp() ? 1 : 0;
+		return (ids[veggieIndex] << TEMPLATE_SHIFT) | (veggieIndex << VEGETABLE_SHIFT) | side;
+	}
+
+	/**
+	 * Decodes a card code into a new card, sharing the criterion of the template.
+	 *
+	 * @param code The card code
+	 *
+	 * @return The decoded card
+	 */
+	public PointSaladCard decode(int code) {
+		int templateId = getTemplateId(code);
+		PointSaladCard card = new PointSaladCard(vegetables.get(templateId), criteria.get(templateId));
+		if (isCriterionSideUp(code)) {
+			card.flip();
+		}
+		return card;
+	}
+
+	/**
+	 * Encodes a hand, or any list of cards.
+	 *
+	 * @param hand The cards to encode
+	 *
+	 * @return The codes of the cards, in the same order
+	 *
+	 * @throws IllegalArgumentException If a card is not a PointSaladCard of the table
+	 */
+	public int[] encodeHand(List<? extends ICard> hand) throws IllegalArgumentException {
+		int[] codes = new int[hand.size()];
+		for (int i = 0; i < codes.length; i++) {
+			ICard card = hand.get(i);
+			if (!(card instanceof PointSaladCard)) {
+				throw new IllegalArgumentException("The card " + card + " is not a PointSaladCard");
+			}
+			codes[i] = encode((PointSaladCard) card);
+		}
+		return codes;
+	}
+
+	/**
+	 * Decodes a hand.
+	 *
+	 * @param codes The codes of the cards
+	 *
+	 * @return The decoded hand, in the same order
+	 */
+	public ArrayList<ICard> decodeHand(int[] codes) {
+		ArrayList<ICard> hand = new ArrayList<ICard>(codes.length);
+		for (int i = 0; i < codes.length; i++) {
+			hand.add(decode(codes[i]));
+		}
+		return hand;
+	}
+
+	/**
+	 * Encodes a pile, from the bottom to the top.
+	 *
+	 * @param pile The pile to encode
+	 *
+	 * @return The codes of the cards of the pile
+	 *
+	 * @throws IllegalArgumentException If a card is not in the table
+	 */
+	public int[] encodePile(Pile<PointSaladCard> pile) throws IllegalArgumentException {
+		return encodeHand(pile.getCardsView());
+	}
+
+	/**
+	 * Decodes a pile.
+	 *
+	 * @param codes The codes of the cards, from the bottom to the top
+	 *
+	 * @return The decoded pile
+	 */
+	public Pile<PointSaladCard> decodePile(int[] codes) {
+		ArrayList<PointSaladCard> cards = new ArrayList<PointSaladCard>(codes.length);
+		for (int i = 0; i < codes.length; i++) {
+			cards.add(decode(codes[i]));
+		}
+		return new Pile<PointSaladCard>(cards);
+	}
+
+	/**
+	 * Encodes market slots. Empty slots are encoded as {@link #EMPTY_SLOT}.
+	 *
+	 * @param slots The cards of the slots, null for an empty slot
+	 *
+	 * @return The codes of the slots
+	 *
+	 * @throws IllegalArgumentException If a card is not in the table
+	 */
+	public int[] encodeSlots(ArrayList<PointSaladCard> slots) throws IllegalArgumentException {
+		int[] codes = new int[slots.size()];
+		for (int i = 0; i < codes.length; i++) {
+			PointSaladCard card = slots.get(i);
+			codes[i] = card == null ? EMPTY_SLOT : encode(card);
+		}
+		return codes;
+	}
+
+	/**
+	 * Decodes market slots.
+	 *
+	 * @param codes The codes of the slots, {@link #EMPTY_SLOT} for an empty slot
+	 *
+	 * @return The cards of the slots, null for an empty slot
+	 */
+	public ArrayList<PointSaladCard> decodeSlots(int[] codes) {
+		ArrayList<PointSaladCard> slots = new ArrayList<PointSaladCard>(codes.length);
+		for (int i = 0; i < codes.length; i++) {
+			slots.add(codes[i] == EMPTY_SLOT ? null : decode(codes[i]));
+		}
+		return slots;
+	}
+
+	/**
+	 * Counts the vegetables of an encoded hand, without the table.
+	 * Only the cards showing their vegetable side are counted.
+	 *
+	 * @param codes The codes of the cards of the hand
+	 *
+	 * @return The vegetable counts of the hand
+	 */
+	public static PointSaladVeggieCounts countVeggies(int[] codes) {
+		PointSaladVeggieCounts veggieCounts = new PointSaladVeggieCounts();
+		for (int i = 0; i < codes.length; i++) {
+			if (!isCriterionSideUp(codes[i])) {
+				veggieCounts.increment(getVegetable(codes[i]));
+			}
+		}
+		return veggieCounts;
+	}
+}
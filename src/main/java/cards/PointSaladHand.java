@@ -0,0 +1,186 @@
+package cards;
+
+import java.util.ArrayList;
+
+/**
+ * A hand of cards which keeps an index of its PointSalad cards up to date:
+ * the cards showing their criterion side, the counts of the cards showing their vegetable side,
+ * and a modification counter which is incremented on every change.
+ *
+ * The index is only maintained through the methods of this class. If the list of cards, or a card of the hand,
+ * is modified directly, {@link #rebuildIndex()} must be called afterwards.
+ * Cards which are not PointSaladCard are kept in the hand but are not indexed.
+ */
+public class PointSaladHand {
+
+	private ArrayList<ICard> cards;
+	private ArrayList<PointSaladCard> criteriaCards;
+	private PointSaladVeggieCounts veggieCounts;
+	private int modificationCount;
+
+	/**
+	 * Creates an empty hand.
+	 */
+	public PointSaladHand() {
+		this(new ArrayList<ICard>());
+	}
+
+	/**
+	 * Creates a hand from the given cards. The list is used as is, not copied.
+	 *
+	 * @param cards The cards of the hand
+	 */
+	public PointSaladHand(ArrayList<ICard> cards) {
+		this.cards = cards;
+		this.criteriaCards = new ArrayList<PointSaladCard>();
+		this.veggieCounts = new PointSaladVeggieCounts();
+		this.modificationCount = 0;
+		rebuildIndex();
+	}
+
+	/**
+	 * Gets the cards of the hand. The returned list should not be modified directly.
+	 *
+	 * @return The cards of the hand
+	 */
+	public ArrayList<ICard> getCards() {
+		return cards;
+	}
+
+	/**
+	 * Gets the cards of the hand showing their criterion side, in the order of the hand.
+	 * The returned list is kept up to date and should not be modified.
+	 *
+	 * @return The criterion side cards of the hand
+	 */
+	public ArrayList<PointSaladCard> getCriteriaCards() {
+		return criteriaCards;
+	}
+
+	/**
+	 * Gets the counts of the cards of the hand showing their vegetable side.
+	 * The returned counts are kept up to date and should not be modified.
+	 *
+	 * @return The vegetable counts of the hand
+	 */
+	public PointSaladVeggieCounts getVeggieCounts() {
+		return veggieCounts;
+	}
+
+	/**
+	 * Gets the modification counter of the hand.
+	 * It changes every time a card is added or flipped, or the index is rebuilt.
+	 *
+	 * @return The modification counter of the hand
+	 */
+	public int getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Gets the number of cards in the hand.
+	 *
+	 * @return The number of cards in the hand
+	 */
+	public int size() {
+		return cards.size();
+	}
+
+	/**
+	 * Checks if the hand is empty.
+	 *
+	 * @return True if the hand is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return cards.isEmpty();
+	}
+
+	/**
+	 * Adds a card to the hand.
+	 *
+	 * @param card The card to add
+	 */
+	public void addCard(ICard card) {
+		cards.add(card);
+		indexCard(card);
+		modificationCount++;
+	}
+
+	/**
+	 * Adds a list of cards to the hand.
+	 *
+	 * @param newCards The cards to add
+	 */
+	public void addCards(ArrayList<ICard> newCards) {
+		cards.addAll(newCards);
+		for (int i = 0; i < newCards.size(); i++) {
+			indexCard(newCards.get(i));
+		}
+		modificationCount++;
+	}
+
+	/**
+	 * Flips a card of the hand and updates the index accordingly.
+	 *
+	 * @param card The card to flip, which must belong to the hand
+	 */
+	public void flipCard(ICard card) {
+		card.flip();
+
+		if (card instanceof PointSaladCard) {
+			PointSaladCard pointSaladCard = (PointSaladCard) card;
+
+			if (pointSaladCard.isCriterionSideUp()) {
+				// The card goes back to the criteria, which must keep the order of the hand
+				veggieCounts.decrement(pointSaladCard.getVegetable());
+				rebuildCriteriaCards();
+			} else {
+				criteriaCards.remove(pointSaladCard);
+				veggieCounts.increment(pointSaladCard.getVegetable());
+			}
+		}
+		modificationCount++;
+	}
+
+	/**
+	 * Rebuilds the whole index from the cards of the hand.
+	 * Must be called after the cards, or their sides, have been modified without using this class.
+	 */
+	public void rebuildIndex() {
+		veggieCounts.clear();
+		rebuildCriteriaCards();
+		veggieCounts.addHand(cards);
+		modificationCount++;
+	}
+
+	/**
+	 * Rebuilds the list of the criterion side cards from the cards of the hand.
+	 */
+	private void rebuildCriteriaCards() {
+		criteriaCards.clear();
+		for (int i = 0; i < cards.size(); i++) {
+			ICard card = cards.get(i);
+			if (card instanceof PointSaladCard && ((PointSaladCard) card).isCriterionSideUp()) {
+				criteriaCards.add((PointSaladCard) card);
+			}
+		}
+	}
+
+	/**
+	 * Adds a card which has just been appended to the hand to the index.
+	 *
+	 * @param card The card to index
+	 */
+	private void indexCard(ICard card) {
+		if (!(card instanceof PointSaladCard)) {
+			return;
+		}
+
+		PointSaladCard pointSaladCard = (PointSaladCard) card;
+		if (pointSaladCard.isCriterionSideUp()) {
+			criteriaCards.add(pointSaladCard);
+		} else {
+			veggieCounts.increment(pointSaladCard.getVegetable());
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package cards;
+
+import java.util.ArrayList;
+
+/**
+ * Vegetable counts of every player at the table, one row per seat, with the extremes of each column
+ * and the number of missing vegetable types of each seat.
+ * The extremes are computed once when the table is created, so comparative criteria can score every seat
+ * without recounting the other players. The table must be recreated when a hand changes.
+ */
+public class PointSaladTableCounts {
+
+	private final ArrayList<PointSaladVeggieCounts> counts;
+	private final int[] maxCounts;
+	private final int[] minCounts;
+	private final int[] nbMissingTypes;
+	private int maxTotal;
+	private int minTotal;
+
+	/**
+	 * Creates the table counts from the counts of each seat.
+	 *
+	 * @param counts The vegetable counts of each seat, which must not be empty
+	 */
+	public PointSaladTableCounts(ArrayList<PointSaladVeggieCounts> counts) {
+		if (counts.isEmpty()) {
+			throw new IllegalArgumentException("The table must have at least one seat.");
+		}
+		this.counts = new ArrayList<PointSaladVeggieCounts>(counts);
+		this.maxCounts = new int[PointSaladVeggieCounts.NB_VEGGIES];
+		this.minCounts = new int[PointSaladVeggieCounts.NB_VEGGIES];
+		this.nbMissingTypes = new int[counts.size()];
+
+		PointSaladVeggieCounts first = counts.get(0);
+		for (int v = 0; v < PointSaladVeggieCounts.NB_VEGGIES; v++) {
+			maxCounts[v] = first.get(v);
+			minCounts[v] = first.get(v);
+		}
+		maxTotal = first.getTotal();
+		minTotal = first.getTotal();
+		nbMissingTypes[0] = first.getNbMissingTypes();
+
+		for (int seat = 1; seat < counts.size(); seat++) {
+			PointSaladVeggieCounts seatCounts = counts.get(seat);
+			for (int v = 0; v < PointSaladVeggieCounts.NB_VEGGIES; v++) {
+				maxCounts[v] = Math.max(maxCounts[v], seatCounts.get(v));
+				minCounts[v] = Math.min(minCounts[v], seatCounts.get(v));
+			}
+			maxTotal = Math.max(maxTotal, seatCounts.getTotal());
+			minTotal = Math.min(minTotal, seatCounts.getTotal());
+			nbMissingTypes[seat] = seatCounts.getNbMissingTypes();
+		}
+	}
+
+	/**
+	 * Gets the number of seats at the table.
+	 *
+	 * @return The number of seats
+	 */
+	public int getNbSeats() {
+		return counts.size();
+	}
+
+	/**
+	 * Gets the vegetable counts of a seat.
+	 *
+	 * @param seat The index of the seat
+	 *
+	 * @return The vegetable counts of the seat
+	 */
+	public PointSaladVeggieCounts get(int seat) {
+		return counts.get(seat);
+	}
+
+	/**
+	 * Gets the vegetable counts of every seat but one.
+	 *
+	 * @param seat The index of the seat to exclude
+	 *
+	 * @return The vegetable counts of the other seats, in seat order
+	 */
+	public ArrayList<PointSaladVeggieCounts> getOtherCounts(int seat) {
+		ArrayList<PointSaladVeggieCounts> otherCounts = new ArrayList<PointSaladVeggieCounts>(counts.size() - 1);
+		for (int i = 0; i < counts.size(); i++) {
+			if (i != seat) {
+				otherCounts.add(counts.get(i));
+			}
+		}
+		return otherCounts;
+	}
+
+	/**
+	 * Gets the number of vegetable types missing from a seat.
+	 *
+	 * @param seat The index of the seat
+	 *
+	 * @return The number of missing vegetable types
+	 */
+	public int getNbMissingTypes(int seat) {
+		return nbMissingTypes[seat];
+	}
+
+	/**
+	 * Gets the highest count of a vegetable at the table.
+	 *
+	 * @param veggieIndex The ordinal of the vegetable
+	 *
+	 * @return The highest count of this vegetable
+	 */
+	public int getMax(int veggieIndex) {
+		return maxCounts[veggieIndex];
+	}
+
+	/**
+	 * Gets the lowest count of a vegetable at the table.
+	 *
+	 * @param veggieIndex The ordinal of the vegetable
+	 *
+	 * @return The lowest count of this vegetable
+	 */
+	public int getMin(int veggieIndex) {
+		return minCounts[veggieIndex];
+	}
+
+	/**
+	 * Gets the highest total number of vegetable cards at the table.
+	 *
+	 * @return The highest total
+	 */
+	public int getMaxTotal() {
+		return maxTotal;
+	}
+
+	/**
+	 * Gets the lowest total number of vegetable cards at the table.
+	 *
+	 * @return The lowest total
+	 */
+	public int getMinTotal() {
+		return minTotal;
+	}
+}
@@ -0,0 +1,226 @@
+package cards;
+
+import java.util.ArrayList;
+
+import cards.PointSaladCard.Vegetable;
+
+/**
+ * Primitive count vector of the vegetables of a PointSalad hand.
+ * Counts are stored in an int array indexed by {@link Vegetable#ordinal()}, so reading or updating a count never boxes.
+ * Only the cards showing their vegetable side are counted.
+ */
+public class PointSaladVeggieCounts {
+
+	/** The number of vegetable types, which is the size of the count vector. */
+	public static final int NB_VEGGIES = Vegetable.values().length;
+
+	private static final Vegetable[] VEGETABLES = Vegetable.values();
+
+	private final int[] counts;
+	private int total;
+
+	/**
+	 * Creates an empty count vector.
+	 */
+	public PointSaladVeggieCounts() {
+		this.counts = new int[NB_VEGGIES];
+		this.total = 0;
+	}
+
+	/**
+	 * Creates a copy of the given count vector.
+	 *
+	 * @param other The count vector to copy
+	 */
+	public PointSaladVeggieCounts(PointSaladVeggieCounts other) {
+		this.counts = other.counts.clone();
+		this.total = other.total;
+	}
+
+	/**
+	 * Gets the number of cards of the given vegetable.
+	 *
+	 * @param vegetable The vegetable to get the count of
+	 *
+	 * @return The number of cards of the given vegetable
+	 */
+	public int get(Vegetable vegetable) {
+		return counts[vegetable.ordinal()];
+	}
+
+	/**
+	 * Gets the number of cards of the vegetable of the given ordinal.
+	 *
+	 * @param veggieIndex The ordinal of the vegetable
+	 *
+	 * @return The number of cards of this vegetable
+	 */
+	public int get(int veggieIndex) {
+		return counts[veggieIndex];
+	}
+
+	/**
+	 * Gets the total number of vegetable cards.
+	 *
+	 * @return The total number of vegetable cards
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Gets the number of vegetable types that are not present at all.
+	 *
+	 * @return The number of missing vegetable types
+	 */
+	public int getNbMissingTypes() {
+		int missing = 0;
+		for (int i = 0; i < NB_VEGGIES; i++) {
+			if (counts[i] == 0) {
+				missing++;
+			}
+		}
+		return missing;
+	}
+
+	/**
+	 * Adds the given amount to the count of a vegetable. The amount may be negative.
+	 *
+	 * @param vegetable The vegetable to update
+	 * @param amount The amount to add
+	 */
+	public void add(Vegetable vegetable, int amount) {
+		counts[vegetable.ordinal()] += amount;
+		total += amount;
+	}
+
+	/**
+	 * Increments the count of a vegetable by one.
+	 *
+	 * @param vegetable The vegetable to increment
+	 */
+	public void increment(Vegetable vegetable) {
+		add(vegetable, 1);
+	}
+
+	/**
+	 * Decrements the count of a vegetable by one.
+	 *
+	 * @param vegetable The vegetable to decrement
+	 */
+	public void decrement(Vegetable vegetable) {
+		add(vegetable, -1);
+	}
+
+	/**
+	 * Resets every count to zero.
+	 */
+	public void clear() {
+		for (int i = 0; i < NB_VEGGIES; i++) {
+			counts[i] = 0;
+		}
+		total = 0;
+	}
+
+	/**
+	 * Adds the vegetable cards of a hand to the counts.
+	 * Cards that are not PointSaladCard, or that have their criterion side up, are ignored.
+	 *
+	 * @param hand The hand to count
+	 */
+	public void addHand(ArrayList<ICard> hand) {
+		for (int i = 0; i < hand.size(); i++) {
+			ICard card = hand.get(i);
+			if (card instanceof PointSaladCard) {
+				PointSaladCard pointSaladCard = (PointSaladCard) card;
+				if (!pointSaladCard.isCriterionSideUp()) {
+					increment(pointSaladCard.getVegetable());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies the counts into an array indexed by {@link Vegetable#ordinal()}.
+	 *
+	 * @param target The array to copy the counts into, of at least {@link #NB_VEGGIES} elements
+	 */
+	public void copyTo(int[] target) {
+		System.arraycopy(counts, 0, target, 0, NB_VEGGIES);
+	}
+
+	/**
+	 * Creates a copy of the count vector.
+	 *
+	 * @return The copy
+	 */
+	public PointSaladVeggieCounts copy() {
+		return new PointSaladVeggieCounts(this);
+	}
+
+	/**
+	 * Counts the vegetables of a hand.
+	 *
+	 * @param hand The hand to count
+	 *
+	 * @return The count vector of the hand
+	 */
+	public static PointSaladVeggieCounts fromHand(ArrayList<ICard> hand) {
+		PointSaladVeggieCounts veggieCounts = new PointSaladVeggieCounts();
+		veggieCounts.addHand(hand);
+		return veggieCounts;
+	}
+
+	/**
+	 * Counts the vegetables of several hands, one count vector per hand.
+	 *
+	 * @param hands The hands to count
+	 *
+	 * @return The count vectors, in the same order as the hands
+	 */
+	public static ArrayList<PointSaladVeggieCounts> fromHands(ArrayList<ArrayList<ICard>> hands) {
+		ArrayList<PointSaladVeggieCounts> veggieCounts = new ArrayList<>(hands.size());
+		for (int i = 0; i < hands.size(); i++) {
+			veggieCounts.add(fromHand(hands.get(i)));
+		}
+		return veggieCounts;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof PointSaladVeggieCounts)) {
+			return false;
+		}
+		PointSaladVeggieCounts other = (PointSaladVeggieCounts) obj;
+		for (int i = 0; i < NB_VEGGIES; i++) {
+			if (counts[i] != other.counts[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int i = 0; i < NB_VEGGIES; i++) {
+			hash = 31 * hash + counts[i];
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder countsString = new StringBuilder();
+		for (int i = 0; i < NB_VEGGIES; i++) {
+			if (i > 0) {
+				countsString.append(", ");
+			}
+			countsString.append(VEGETABLES[i]).append(": ").append(counts[i]);
+		}
+		return countsString.toString();
+	}
+}
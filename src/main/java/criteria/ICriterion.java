@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import cards.ICard;
+import cards.PointSaladCard.Vegetable;
+import cards.PointSaladTableCounts;
+import cards.PointSaladVeggieCounts;
 import exceptions.CriterionException;
 import players.AbstractPlayer;
 
@@ -39,6 +42,103 @@ public interface ICriterion {
 	 */
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) throws CriterionException;
 
+	/**
+	 * Computes the score of a player based on the criterion, from precomputed vegetable counts.
+	 * It can depend on the other players' counts. This is the allocation-free scoring path.
+	 * 
+	 * @param playerCounts The vegetable counts of the player to compute the score for
+	 * @param otherCounts The vegetable counts of the other players in the game
+	 * 
+	 * @return The score of the player
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) throws CriterionException;
+
+	/**
+	 * Computes the score of a player based on the criterion, from a scoring context shared by all the criteria of the player.
+	 * 
+	 * @param context The counts of the table, and the seat of the player to compute the score for
+	 * 
+	 * @return The score of the player
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	public int computePlayerScore(ScoringContext context) throws CriterionException;
+
+	/**
+	 * Computes how the score of a player based on the criterion would change if one of its vegetable counts changed.
+	 * Neither the context nor the player's hand are modified.
+	 * 
+	 * @param context The counts of the table, and the seat of the player to compute the score change for
+	 * @param veggie The vegetable whose count would change
+	 * @param amount The number of cards of this vegetable which would be added, or removed if negative
+	 * 
+	 * @return The score after the change, minus the current score
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	public int computeScoreDelta(ScoringContext context, Vegetable veggie, int amount) throws CriterionException;
+
+	/**
+	 * Tells if the score of a player based on the criterion may change when the player's count of a vegetable changes.
+	 * 
+	 * @param veggie The vegetable whose count changes
+	 * 
+	 * @return False if the score can not change, true otherwise
+	 */
+	public boolean isAffectedBy(Vegetable veggie);
+
+	/**
+	 * Tells if the score of a player based on the criterion depends on the other players' counts.
+	 * In that case, a change of another player's count of a vegetable may change the score when {@link #isAffectedBy(Vegetable)} is true.
+	 * 
+	 * @return True if the criterion compares the player with the other players, false otherwise
+	 */
+	public boolean isComparative();
+
+	/**
+	 * Computes an upper bound of the score a player can still get from the criterion by the end of the game.
+	 * The player and the other players are assumed to only gain cards, taken from the remaining ones.
+	 * The bound is sound but not always tight: the score at the end of the game is never higher.
+	 * 
+	 * @param context The current counts of the table, and the seat of the player
+	 * @param remainingCounts The vegetable counts of every card which may still end in a hand on its vegetable side,
+	 * including the criterion cards held in hands
+	 * 
+	 * @return The highest score the player can still get from the criterion
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	public int computeMaxScore(ScoringContext context, PointSaladVeggieCounts remainingCounts) throws CriterionException;
+
+	/**
+	 * Computes a lower bound of the score a player can still get from the criterion by the end of the game.
+	 * The player and the other players are assumed to only gain cards, taken from the remaining ones.
+	 * The bound is sound but not always tight: the score at the end of the game is never lower.
+	 * 
+	 * @param context The current counts of the table, and the seat of the player
+	 * @param remainingCounts The vegetable counts of every card which may still end in a hand on its vegetable side,
+	 * including the criterion cards held in hands
+	 * 
+	 * @return The lowest score the player can still get from the criterion
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	public int computeMinScore(ScoringContext context, PointSaladVeggieCounts remainingCounts) throws CriterionException;
+
+	/**
+	 * Computes the score every seat of the table would get from the criterion, in one call.
+	 * Comparative criteria read the extremes of the table instead of comparing each seat with every other one.
+	 * 
+	 * @param tableCounts The vegetable counts of every seat of the table
+	 * 
+	 * @return The score of each seat, indexed like the table
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	public int[] computeScoresForAll(PointSaladTableCounts tableCounts) throws CriterionException;
+
 	/**
 	 * Gets the string representation of the criterion.
 	 * 
@@ -48,6 +148,7 @@ public interface ICriterion {
 
 	/**
 	 * Creates and returns a copy of the criterion.
+	 * Immutable criteria may return themselves.
 	 * 
 	 * @return A copy of the criterion
 	 */
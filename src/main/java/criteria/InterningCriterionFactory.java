@@ -0,0 +1,131 @@
+package criteria;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import exceptions.CriterionFactoryException;
+
+/**
+ * Criterion factory sharing a single instance per distinct criterion, through a process-wide pool.
+ *
+ * A criterion text is first looked up as written, with its whitespace runs collapsed, so reading the same text again
+ * does not parse it. A new text is parsed, then the criterion is looked up by its class and its canonical description,
+ * so "4/LETTUCE, -2/TOMATO" and "4 / LETTUCE,  -2 / TOMATO" give the same instance.
+ * Texts are kept apart per class of the factory actually creating the criteria.
+ *
+ * This is only valid because criteria are immutable: an instance can be shared by every card and every game of the JVM.
+ * The pool keeps at most {@link #MAX_POOL_SIZE} texts and criteria, evicting the least recently used ones.
+ */
+public class InterningCriterionFactory implements ICriterionFactory {
+
+	public static final int MAX_POOL_SIZE = 4096;
+
+	/**
+	 * Pool of criteria, evicting its least recently used entry once full.
+	 */
+	private static final class Pool extends LinkedHashMap<String, ICriterion> {
+		private static final long serialVersionUID = 1L;
+
+		private Pool() {
+			// An access ordered map evicts its least recently used entry
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ICriterion> eldest) {
+			return size() > MAX_POOL_SIZE;
+		}
+	}
+
+	// Both pools are only used while holding the lock of CRITERIA
+	private static final Pool TEXTS = new Pool();
+	private static final Pool CRITERIA = new Pool();
+
+	private final ICriterionFactory criterionFactory;
+
+	/**
+	 * Creates an interning factory for the given factory.
+	 *
+	 * @param criterionFactory The factory used to create the criteria which are not in the pool yet
+	 */
+	public InterningCriterionFactory(ICriterionFactory criterionFactory) {
+		this.criterionFactory = criterionFactory;
+	}
+
+	/**
+	 * Normalizes a criterion text, by trimming it and collapsing every whitespace run into a single space.
+	 *
+	 * @param formattedString The criterion text
+	 *
+	 * @return The normalized criterion text
+	 */
+	private static String normalize(String formattedString) {
+		StringBuilder normalized = new StringBuilder(formattedString.length());
+		boolean pendingSpace = false;
+		for (int i = 0; i < formattedString.length(); i++) {
+			char c = formattedString.charAt(i);
+			if (Character.isWhitespace(c)) {
+				pendingSpace = normalized.length() > 0;
+			} else {
+				if (pendingSpace) {
+					normalized.append(' ');
+					pendingSpace = false;
+				}
+				normalized.append(c);
+			}
+		}
+		return normalized.toString();
+	}
+
+	@Override
+	public ICriterion createCriterionFromFormattedString(String formattedString) throws CriterionFactoryException {
+		if (formattedString == null) {
+			// Not interned, the factory reports the invalid text
+			return criterionFactory.createCriterionFromFormattedString(formattedString);
+		}
+		String textKey = criterionFactory.getClass().getName() + "|" + normalize(formattedString);
+
+		ICriterion criterion;
+		synchronized (CRITERIA) {
+			criterion = TEXTS.get(textKey);
+		}
+		if (criterion != null) {
+			return criterion;
+		}
+
+		// Parsed outside of the lock, another thread may intern the same criterion in the meantime
+		ICriterion createdCriterion = criterionFactory.createCriterionFromFormattedString(formattedString);
+		String criterionKey = createdCriterion.getClass().getName() + "|" + createdCriterion;
+
+		synchronized (CRITERIA) {
+			criterion = CRITERIA.get(criterionKey);
+			if (criterion == null) {
+				criterion = createdCriterion;
+				CRITERIA.put(criterionKey, criterion);
+			}
+			TEXTS.put(textKey, criterion);
+		}
+		return criterion;
+	}
+
+	/**
+	 * Gets the number of distinct criteria in the pool.
+	 *
+	 * @return The number of distinct criteria
+	 */
+	public static int getPoolSize() {
+		synchronized (CRITERIA) {
+			return CRITERIA.size();
+		}
+	}
+
+	/**
+	 * Empties the pool of every interning factory.
+	 */
+	public static void clearPool() {
+		synchronized (CRITERIA) {
+			TEXTS.clear();
+			CRITERIA.clear();
+		}
+	}
+}
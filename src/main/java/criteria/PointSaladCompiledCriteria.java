@@ -0,0 +1,345 @@
+package criteria;
+
+import java.util.ArrayList;
+
+import cards.PointSaladTableCounts;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+import criteria.point_salad_criteria.*;
+import exceptions.CriterionException;
+
+/**
+ * Criteria compiled into a single evaluator over vegetable count arrays.
+ * 
+ * Every built-in criterion is a simple arithmetic function of the six counts, so a list of criteria is folded into
+ * coefficient arrays once, then a hand is scored by one final, non-virtual method: no dispatch on the criterion type,
+ * no list or map lookup. Criteria of the same kind are summed together, so the cost of an evaluation does not grow
+ * with the number of MOST, FEWEST, PER_VEGGIE, MISSING_TYPE, COMPLETE_SET or TOTAL criteria.
+ * 
+ * Comparative criteria are evaluated against extremes arrays of {@link #NB_COUNTS} elements: the max or min count
+ * of each vegetable, then the max or min total at {@link #TOTAL_INDEX}. The extremes may either be the ones of the other
+ * players, or the ones of the whole table including the scored player: both give the same result.
+ * 
+ * The default bot uses it to rate every vegetable draft of the market against its criteria, compiled once per decision.
+ */
+public final class PointSaladCompiledCriteria {
+
+	/** The index of the total number of vegetables in the extremes arrays. */
+	public static final int TOTAL_INDEX = PointSaladVeggieCounts.NB_VEGGIES;
+
+	/** The size of the extremes arrays. */
+	public static final int NB_COUNTS = PointSaladVeggieCounts.NB_VEGGIES + 1;
+
+	private static final int NB_VEGGIES = PointSaladVeggieCounts.NB_VEGGIES;
+
+	// Points per card of each vegetable, from PER_VEGGIE criteria
+	private final int[] pointsPerVeggie = new int[NB_VEGGIES];
+	// Points when having the most or the fewest of each vegetable, from MOST and FEWEST criteria
+	private final int[] mostPoints = new int[NB_VEGGIES];
+	private final int[] fewestPoints = new int[NB_VEGGIES];
+	private int mostTotalPoints;
+	private int fewestTotalPoints;
+	private int pointsPerMissingType;
+	private int completeSetPoints;
+
+	// Criteria which can not be summed, one element per criterion
+	private int[] evenOddVeggies = new int[0];
+	private int[] evenPoints = new int[0];
+	private int[] oddPoints = new int[0];
+	private int[] combinationRequiredCounts = new int[0];	// NB_VEGGIES elements per combination
+	private int[] combinationPoints = new int[0];
+	private int[] veggieTypeMinimums = new int[0];
+	private int[] veggieTypePoints = new int[0];
+
+	// Number of criteria already folded in the arrays above
+	private int nbEvenOdd = 0;
+	private int nbCombinations = 0;
+	private int nbVeggieTypes = 0;
+
+	private boolean comparative = false;
+	private int nbCriteria = 0;
+
+	private PointSaladCompiledCriteria() {}
+
+	/**
+	 * Compiles a single criterion.
+	 * 
+	 * @param criterion The criterion to compile
+	 * 
+	 * @return The compiled criterion
+	 * 
+	 * @throws CriterionException If the criterion is not a built-in Point Salad criterion, or is not correctly initialized
+	 */
+	public static PointSaladCompiledCriteria compile(ICriterion criterion) throws CriterionException {
+		ArrayList<ICriterion> criteria = new ArrayList<ICriterion>(1);
+		criteria.add(criterion);
+		return compile(criteria);
+	}
+
+	/**
+	 * Compiles several criteria into one evaluator, which gives the sum of their scores.
+	 * 
+	 * @param criteria The criteria to compile
+	 * 
+	 * @return The compiled criteria
+	 * 
+	 * @throws CriterionException If a criterion is not a built-in Point Salad criterion, or is not correctly initialized
+	 */
+	public static PointSaladCompiledCriteria compile(ArrayList<? extends ICriterion> criteria) throws CriterionException {
+		PointSaladCompiledCriteria compiled = new PointSaladCompiledCriteria();
+
+		// Counts the criteria which can not be summed first, so their arrays have their final size
+		int nbEvenOdd = 0;
+		int nbCombinations = 0;
+		int nbVeggieTypes = 0;
+		for (int i = 0; i < criteria.size(); i++) {
+			ICriterion criterion = criteria.get(i);
+			if (criterion instanceof PointSaladEvenOddCriterion) {
+				nbEvenOdd++;
+			} else if (criterion instanceof PointSaladCombinationCriterion) {
+				nbCombinations++;
+			} else if (criterion instanceof PointSaladPerVeggieTypeCriterion) {
+				nbVeggieTypes++;
+			}
+		}
+		compiled.evenOddVeggies = new int[nbEvenOdd];
+		compiled.evenPoints = new int[nbEvenOdd];
+		compiled.oddPoints = new int[nbEvenOdd];
+		compiled.combinationRequiredCounts = new int[nbCombinations * NB_VEGGIES];
+		compiled.combinationPoints = new int[nbCombinations];
+		compiled.veggieTypeMinimums = new int[nbVeggieTypes];
+		compiled.veggieTypePoints = new int[nbVeggieTypes];
+
+		for (int i = 0; i < criteria.size(); i++) {
+			compiled.add(criteria.get(i));
+		}
+		return compiled;
+	}
+
+	/**
+	 * Folds a criterion into the coefficients.
+	 * 
+	 * @param criterion The criterion to fold
+	 * 
+	 * @throws CriterionException If the criterion is not a built-in Point Salad criterion, or is not correctly initialized
+	 */
+	private void add(ICriterion criterion) throws CriterionException {
+		if (!(criterion instanceof AbstractPointSaladCriterion)) {
+			throw new CriterionException("Criterion '" + (criterion == null ? null : criterion.getCriterionDisplay()) + "' can not be compiled.");
+		}
+
+		switch (((AbstractPointSaladCriterion) criterion).getCriterionType()) {
+			case MOST: {
+				PointSaladMostCriterion most = (PointSaladMostCriterion) criterion;
+				mostPoints[most.getVegetable().ordinal()] += most.getPointsGranted();
+				comparative = true;
+				break;
+			}
+			case FEWEST: {
+				PointSaladFewestCriterion fewest = (PointSaladFewestCriterion) criterion;
+				fewestPoints[fewest.getVegetable().ordinal()] += fewest.getPointsGranted();
+				comparative = true;
+				break;
+			}
+			case MOST_TOTAL:
+				mostTotalPoints += ((PointSaladMostTotalCriterion) criterion).getPointsGranted();
+				comparative = true;
+				break;
+			case FEWEST_TOTAL:
+				fewestTotalPoints += ((PointSaladFewestTotalCriterion) criterion).getPointsGranted();
+				comparative = true;
+				break;
+			case PER_VEGGIE: {
+				PointSaladPerVeggieCriterion perVeggie = (PointSaladPerVeggieCriterion) criterion;
+				ArrayList<Vegetable> vegetables = perVeggie.getVegetables();
+				ArrayList<Integer> points = perVeggie.getPointsPerVeggie();
+				// Same rule as the criterion: extra points are ignored, missing ones are an error
+				if (points.size() < vegetables.size()) {
+					throw new CriterionException("The number of points per vegetable must be specified for each vegetable.");
+				}
+				for (int v = 0; v < vegetables.size(); v++) {
+					// A vegetable listed twice is scored twice with its first points, like the criterion does
+					pointsPerVeggie[vegetables.get(v).ordinal()] += points.get(vegetables.indexOf(vegetables.get(v)));
+				}
+				break;
+			}
+			case MISSING_TYPE:
+				pointsPerMissingType += ((PointSaladPerMissingVeggieTypeCriterion) criterion).getPointsPerMissingVeggieType();
+				break;
+			case COMPLETE_SET:
+				completeSetPoints += ((PointSaladCompleteSetCriterion) criterion).getPointsGranted();
+				break;
+			case EVEN_ODD: {
+				PointSaladEvenOddCriterion evenOdd = (PointSaladEvenOddCriterion) criterion;
+				int index = nbEvenOdd++;
+				evenOddVeggies[index] = evenOdd.getVegetable().ordinal();
+				evenPoints[index] = evenOdd.getEvenPoints();
+				oddPoints[index] = evenOdd.getOddPoints();
+				break;
+			}
+			case COMBINATION: {
+				PointSaladCombinationCriterion combination = (PointSaladCombinationCriterion) criterion;
+				int index = nbCombinations++;
+				for (Vegetable veggie : combination.getVegetables()) {
+					combinationRequiredCounts[index * NB_VEGGIES + veggie.ordinal()]++;
+				}
+				combinationPoints[index] = combination.getPointsPerCombination();
+				break;
+			}
+			case PER_VEGGIE_TYPE: {
+				PointSaladPerVeggieTypeCriterion veggieType = (PointSaladPerVeggieTypeCriterion) criterion;
+				int index = nbVeggieTypes++;
+				veggieTypeMinimums[index] = veggieType.getMinNumberOfEachVeggie();
+				veggieTypePoints[index] = veggieType.getPointsPerVeggieType();
+				break;
+			}
+			default:
+				throw new CriterionException("Criterion '" + criterion + "' can not be compiled.");
+		}
+		nbCriteria++;
+	}
+
+	/**
+	 * Evaluates the compiled criteria for a hand.
+	 * 
+	 * @param counts The vegetable counts of the hand, indexed by {@link Vegetable#ordinal()}
+	 * @param maxCounts The highest count of each vegetable, then the highest total, of the other players or of the whole table
+	 * @param minCounts The lowest count of each vegetable, then the lowest total, of the other players or of the whole table
+	 * 
+	 * @return The sum of the scores of the compiled criteria
+	 */
+	public int evaluate(int[] counts, int[] maxCounts, int[] minCounts) {
+		int score = 0;
+		int total = 0;
+		int nbMissingTypes = 0;
+
+		for (int v = 0; v < NB_VEGGIES; v++) {
+			int count = counts[v];
+			total += count;
+			score += pointsPerVeggie[v] * count;
+			if (count == 0) {
+				nbMissingTypes++;
+			}
+			if (count >= maxCounts[v]) {
+				score += mostPoints[v];
+			}
+			if (count <= minCounts[v]) {
+				score += fewestPoints[v];
+			}
+		}
+
+		score += nbMissingTypes * pointsPerMissingType;
+		if (nbMissingTypes == 0) {
+			score += completeSetPoints;
+		}
+		if (total >= maxCounts[TOTAL_INDEX]) {
+			score += mostTotalPoints;
+		}
+		if (total <= minCounts[TOTAL_INDEX]) {
+			score += fewestTotalPoints;
+		}
+
+		for (int i = 0; i < evenOddVeggies.length; i++) {
+			score += (counts[evenOddVeggies[i]] & 1) == 0 ? evenPoints[i] : oddPoints[i];
+		}
+
+		for (int i = 0; i < combinationPoints.length; i++) {
+			int minCombinations = Integer.MAX_VALUE;
+			int offset = i * NB_VEGGIES;
+			for (int v = 0; v < NB_VEGGIES; v++) {
+				int required = combinationRequiredCounts[offset + v];
+				if (required != 0 && counts[v] / required < minCombinations) {
+					minCombinations = counts[v] / required;
+				}
+			}
+			score += minCombinations * combinationPoints[i];
+		}
+
+		for (int i = 0; i < veggieTypePoints.length; i++) {
+			int nbTypes = 0;
+			for (int v = 0; v < NB_VEGGIES; v++) {
+				if (counts[v] >= veggieTypeMinimums[i]) {
+					nbTypes++;
+				}
+			}
+			score += nbTypes * veggieTypePoints[i];
+		}
+
+		return score;
+	}
+
+	/**
+	 * Evaluates the compiled criteria for the scored player of a context.
+	 * Allocates the arrays it needs, so inner loops should rather call {@link #evaluate(int[], int[], int[])}.
+	 * 
+	 * @param context The context of the player to score
+	 * 
+	 * @return The sum of the scores of the compiled criteria
+	 */
+	public int evaluate(ScoringContext context) {
+		int[] counts = new int[NB_VEGGIES];
+		context.getPlayerCounts().copyTo(counts);
+		int[] maxCounts = new int[NB_COUNTS];
+		int[] minCounts = new int[NB_COUNTS];
+		fillExtremes(context.getTableCounts(), maxCounts, minCounts);
+		return evaluate(counts, maxCounts, minCounts);
+	}
+
+	/**
+	 * Fills extremes arrays with the extremes of the given counts.
+	 * Without any counts, the extremes are such that any hand has both the most and the fewest.
+	 * 
+	 * @param counts The vegetable counts, usually the ones of the other players
+	 * @param maxCounts The array to fill with the highest counts, of {@link #NB_COUNTS} elements
+	 * @param minCounts The array to fill with the lowest counts, of {@link #NB_COUNTS} elements
+	 */
+	public static void fillExtremes(ArrayList<PointSaladVeggieCounts> counts, int[] maxCounts, int[] minCounts) {
+		for (int i = 0; i < NB_COUNTS; i++) {
+			maxCounts[i] = Integer.MIN_VALUE;
+			minCounts[i] = Integer.MAX_VALUE;
+		}
+		for (int j = 0; j < counts.size(); j++) {
+			PointSaladVeggieCounts veggieCounts = counts.get(j);
+			for (int v = 0; v < NB_VEGGIES; v++) {
+				maxCounts[v] = Math.max(maxCounts[v], veggieCounts.get(v));
+				minCounts[v] = Math.min(minCounts[v], veggieCounts.get(v));
+			}
+			maxCounts[TOTAL_INDEX] = Math.max(maxCounts[TOTAL_INDEX], veggieCounts.getTotal());
+			minCounts[TOTAL_INDEX] = Math.min(minCounts[TOTAL_INDEX], veggieCounts.getTotal());
+		}
+	}
+
+	/**
+	 * Fills extremes arrays with the extremes of a whole table.
+	 * 
+	 * @param tableCounts The counts of the table
+	 * @param maxCounts The array to fill with the highest counts, of {@link #NB_COUNTS} elements
+	 * @param minCounts The array to fill with the lowest counts, of {@link #NB_COUNTS} elements
+	 */
+	public static void fillExtremes(PointSaladTableCounts tableCounts, int[] maxCounts, int[] minCounts) {
+		for (int v = 0; v < NB_VEGGIES; v++) {
+			maxCounts[v] = tableCounts.getMax(v);
+			minCounts[v] = tableCounts.getMin(v);
+		}
+		maxCounts[TOTAL_INDEX] = tableCounts.getMaxTotal();
+		minCounts[TOTAL_INDEX] = tableCounts.getMinTotal();
+	}
+
+	/**
+	 * Tells if the result depends on the other players, through MOST, FEWEST, MOST TOTAL or FEWEST TOTAL criteria.
+	 * 
+	 * @return True if the compiled criteria are comparative, false otherwise
+	 */
+	public boolean isComparative() {
+		return comparative;
+	}
+
+	/**
+	 * Gets the number of compiled criteria.
+	 * 
+	 * @return The number of compiled criteria
+	 */
+	public int getNbCriteria() {
+		return nbCriteria;
+	}
+}
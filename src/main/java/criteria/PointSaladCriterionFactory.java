@@ -4,350 +4,350 @@ import java.util.ArrayList;
 
 import cards.PointSaladCard.Vegetable;
 import criteria.point_salad_criteria.*;
-import criteria.point_salad_criteria.AbstractPointSaladCriterion.CriterionType;
 import exceptions.CriterionException;
 import exceptions.CriterionFactoryException;
 
 /**
  * Factory for creating criteria for the Point Salad game.
+ * 
+ * The formatted string is read in a single pass, following this grammar (whitespace is allowed between tokens):
+ * <pre>
+ * criterion := "MOST" "TOTAL" "VEGETABLE" "=" int                   "MOST TOTAL VEGETABLE = 10"
+ *            | "FEWEST" "TOTAL" "VEGETABLE" "=" int                 "FEWEST TOTAL VEGETABLE = 7"
+ *            | "MOST" veggie "=" int                                "MOST LETTUCE = 10"
+ *            | "FEWEST" veggie "=" int                              "FEWEST CARROT = 7"
+ *            | "COMPLETE" "SET" "=" int                             "COMPLETE SET = 12"
+ *            | veggie ":" "EVEN" "=" int "," "ODD" "=" int          "ONION: EVEN=7, ODD=3"
+ *            | veggie ("+" veggie)+ "=" int                         "CARROT + CARROT + CARROT = 8"
+ *            | int "/" "MISSING" "VEGETABLE" "TYPE"                 "5 / MISSING VEGETABLE TYPE"
+ *            | int "/" "VEGETABLE" "TYPE" "&gt;=" int               "5 / VEGETABLE TYPE &gt;=3"
+ *            | int "/" veggie ("," int "/" veggie)*                 "4/LETTUCE, -2/TOMATO, -2/CABBAGE"
+ * </pre>
+ * Errors give the offset in the formatted string at which the parsing failed.
  */
 public class PointSaladCriterionFactory implements ICriterionFactory {
 
-	/**
-	 * Gets the criterion type of a formatted string.
-	 * 
-	 * @param formattedString The formatted string to determine the criterion type
-	 * 
-	 * @return The criterion type of the formatted string
-	 */
-	private CriterionType getCriterionType(String formattedString) {
-		// First determines the criterion type
-		CriterionType type = null;
-
-		if (formattedString.contains("EVEN"))
-		{
-			type = CriterionType.EVEN_ODD;
-		}
-		else if (formattedString.contains("+"))
-		{
-			type = CriterionType.COMBINATION;
-		}
-		else if (formattedString.contains("MOST TOTAL"))
-		{
-			type = CriterionType.MOST_TOTAL;
-		}
-		else if (formattedString.contains("FEWEST TOTAL"))
-		{
-			type = CriterionType.FEWEST_TOTAL;
-		}
-		else if (formattedString.contains("COMPLETE SET"))
-		{
-			type = CriterionType.COMPLETE_SET;
-		}
-		else if (formattedString.contains("MISSING"))
-		{
-			type = CriterionType.MISSING_TYPE;
-		}
-		else if (formattedString.contains("VEGETABLE TYPE"))
-		{
-			type = CriterionType.PER_VEGGIE_TYPE;
-		}
-		else if (formattedString.contains("MOST"))
-		{
-			// Must be last to avoid matching "MOST TOTAL"
-			type = CriterionType.MOST;
-		}
-		else if (formattedString.contains("FEWEST"))
-		{
-			// Must be last to avoid matching "FEWEST TOTAL"
-			type = CriterionType.FEWEST;
-		}
-		else if (formattedString.contains("/"))
-		{
-			// Must be last to avoid matching "/ VEGETABLE TYPE" or "/ MISSING VEGETABLE TYPE"
-			type = CriterionType.PER_VEGGIE;
-		}
-
-		return type;
-	}
+	private static final Vegetable[] VEGETABLES = Vegetable.values();
 
 	/**
-	 * Creates a criterion of the given type from a formatted string.
-	 * 
-	 * @param formattedString The formatted string to create the criterion from
-	 * @param type The type of criterion to create
-	 * 
-	 * @return The criterion created
-	 * 
-	 * @throws CriterionFactoryException If the formatted string is invalid
+	 * Reads one formatted string, keeping the current offset in it.
 	 */
-	private AbstractPointSaladCriterion createCriterionOfType(String formattedString, CriterionType type) throws CriterionFactoryException {
-		// TODO: If a clean way to move this code in each criterion class is found, it should be done.
-		// I have not found a "clean" way to do it yet, as static methods can not be abstract nor overridden.
-		// A possible solution would be to create an instance method which creates a new criterion based on the formatted string, but it
-		// requires to first create a "blank" instance of the corresponding criterion class, which is not ideal.
-
-
-		
-		AbstractPointSaladCriterion criterion = null;
+	private static final class Parser {
+		private final String text;
+		private int position = 0;
 
-		if (type == CriterionType.MOST || type == CriterionType.FEWEST) {
-			// Both MOST and FEWEST have the same format
-			// example: "MOST LETTUCE = 10"
-			// example: "FEWEST CARROT = 7"
-			Vegetable veggie = null;
-			int points = 0;
-
-			String[] parts = formattedString.split(" ");
+		private Parser(String text) {
+			this.text = text;
+		}
 
-			String veggieString = parts[1];
-			String pointsString = parts[3];
+		/**
+		 * Creates the exception for an unexpected token at the current offset.
+		 * 
+		 * @param expected The description of the expected token
+		 * 
+		 * @return The exception to throw
+		 */
+		private CriterionFactoryException error(String expected) {
+			String found = position < text.length() ? "'" + text.charAt(position) + "'" : "the end of the string";
+			return new CriterionFactoryException("Invalid formatted string '" + text + "': expected " + expected +
+					" at offset " + position + ", found " + found + ".");
+		}
 
-			try {
-				veggie = Vegetable.valueOf(veggieString);
-			} catch (IllegalArgumentException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the vegetable from '" + veggieString + "' of " + type + "-type criterion.", e);
+		private void skipWhitespace() {
+			while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+				position++;
 			}
+		}
 
-			try {
-				points = Integer.parseInt(pointsString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the points from '" + pointsString + "' of " + type + "-type criterion.", e);
+		/**
+		 * Consumes the given character if it is the next token.
+		 * 
+		 * @param c The character to consume
+		 * 
+		 * @return True if the character was consumed, false otherwise
+		 */
+		private boolean accept(char c) {
+			skipWhitespace();
+			if (position < text.length() && text.charAt(position) == c) {
+				position++;
+				return true;
 			}
+			return false;
+		}
 
-			if (type == CriterionType.MOST) {
-				criterion = new PointSaladMostCriterion(veggie, points);
-			} else {
-				criterion = new PointSaladFewestCriterion(veggie, points);
+		private void expect(char c) throws CriterionFactoryException {
+			if (!accept(c)) {
+				throw error("'" + c + "'");
 			}
 		}
 
-		else if (type == CriterionType.EVEN_ODD) {
-			// example: "ONION: EVEN=7, ODD=3"
-			Vegetable veggie = null;
-			int evenPoints = 0;
-			int oddPoints = 0;
-			
-			String veggieString = formattedString.split(":")[0];
-
-			String[] parts = formattedString.replace(",", "").split(" ");
-			String evenString = parts[1].split("=")[1];
-			String oddString = parts[2].split("=")[1];
-
-			try {
-				veggie = Vegetable.valueOf(veggieString);
-			} catch (IllegalArgumentException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the vegetable from '" + veggieString + "' of " + type + "-type criterion.", e);
+		private void expect(String symbol) throws CriterionFactoryException {
+			skipWhitespace();
+			if (!text.startsWith(symbol, position)) {
+				throw error("'" + symbol + "'");
 			}
+			position += symbol.length();
+		}
 
-			try {
-				evenPoints = Integer.parseInt(evenString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the even points from '" + evenString + "' for even " + type + "-type criterion.", e);
+		/**
+		 * Gets the end offset of the word starting at the next token, which is empty if the next token is not a word.
+		 * 
+		 * @return The end offset of the word
+		 */
+		private int wordEnd() {
+			skipWhitespace();
+			int end = position;
+			while (end < text.length() && (text.charAt(end) >= 'A' && text.charAt(end) <= 'Z' || text.charAt(end) == '_')) {
+				end++;
 			}
+			return end;
+		}
 
-			try {
-				oddPoints = Integer.parseInt(oddString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the odd points from '" + oddString + "' for odd " + type + "-type criterion.", e);
+		/**
+		 * Consumes the given keyword if it is the next word.
+		 * 
+		 * @param keyword The keyword to consume
+		 * 
+		 * @return True if the keyword was consumed, false otherwise
+		 */
+		private boolean acceptKeyword(String keyword) {
+			int end = wordEnd();
+			if (end - position == keyword.length() && text.startsWith(keyword, position)) {
+				position = end;
+				return true;
 			}
-
-			criterion = new PointSaladEvenOddCriterion(veggie, evenPoints, oddPoints);
+			return false;
 		}
 
-		else if (type == CriterionType.PER_VEGGIE) {
-			// examples: "2 / TOMATO",	"1 / LETTUCE, 1 / TOMATO",	"3 / CARROT, -2 / ONION",	"4/LETTUCE, -2/TOMATO, -2/CABBAGE"
-			ArrayList<Vegetable> veggies = new ArrayList<>();
-			ArrayList<Integer> points = new ArrayList<>();
-
-			String[] commaParts = formattedString.split(",");
-			for (int i = 0; i < commaParts.length; i++) {
-				String commaPart = commaParts[i];
-				String[] parts = commaPart.split("/");
-				Vegetable veggie = null;
-				int veggiePoints = 0;
-
-				String pointsString = parts[0].trim();
-				String veggieString = parts[1].trim();
-
-				try {
-					veggie = Vegetable.valueOf(veggieString);
-				} catch (IllegalArgumentException e) {
-					throw new CriterionFactoryException("Invalid formatted string '" +
-					formattedString + "': could not parse the vegetable from '" + veggieString + "' in part '" + commaPart + 
-					"' of " + type + "-type criterion.", e);
-				}
-
-				try {
-					veggiePoints = Integer.parseInt(pointsString);
-				} catch (NumberFormatException e) {
-					throw new CriterionFactoryException("Invalid formatted string '" +
-					formattedString + "': could not parse the points from '" + pointsString + "' in part '" + commaPart + 
-					"' of " + type + "-type criterion.", e);
-				}
-
-				veggies.add(veggie);
-				points.add(veggiePoints);
+		private void expectKeyword(String keyword) throws CriterionFactoryException {
+			if (!acceptKeyword(keyword)) {
+				throw error("'" + keyword + "'");
 			}
-
-			criterion = new PointSaladPerVeggieCriterion(veggies, points);
 		}
 
-		else if (type == CriterionType.COMBINATION) {
-			// example: "LETTUCE + LETTUCE = 5",	"CABBAGE + ONION = 5",	"CARROT + CARROT + CARROT = 8"
-			ArrayList<Vegetable> veggies = new ArrayList<>();
-			int points = 0;
-
-			String[] parts = formattedString.split("=");
-			String[] veggieParts = parts[0].replaceAll("\\s", "").split("\\+");
-			String pointsString = parts[1].trim();
-
-			for (int i = 0; i < veggieParts.length; i++) {
-				Vegetable veggie = null;
-
-				String veggieString = veggieParts[i];
-
-				try {
-					veggie = Vegetable.valueOf(veggieString);
-				} catch (IllegalArgumentException e) {
-					throw new CriterionFactoryException("Invalid formatted string '" +
-					formattedString + "': could not parse the vegetable from '" + veggieString + "' of " + type + "-type criterion.", e);
+		/**
+		 * Consumes the next word if it is a vegetable.
+		 * 
+		 * @return The vegetable consumed, or null if the next word is not a vegetable
+		 */
+		private Vegetable acceptVegetable() {
+			int end = wordEnd();
+			for (Vegetable veggie : VEGETABLES) {
+				String name = veggie.name();
+				if (end - position == name.length() && text.startsWith(name, position)) {
+					position = end;
+					return veggie;
 				}
+			}
+			return null;
+		}
 
-				veggies.add(veggie);
+		private Vegetable expectVegetable() throws CriterionFactoryException {
+			Vegetable veggie = acceptVegetable();
+			if (veggie == null) {
+				throw error("a vegetable");
 			}
+			return veggie;
+		}
 
-			try {
-				points = Integer.parseInt(pointsString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the points from '" + pointsString + "' of " + type + "-type criterion.", e);
+		private boolean atInteger() {
+			skipWhitespace();
+			if (position >= text.length()) {
+				return false;
 			}
+			char c = text.charAt(position);
+			return c == '-' || (c >= '0' && c <= '9');
+		}
 
-			if (veggies.size() < 1) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': a combination criterion should have at least two vegetables.");
-			} else if (veggies.size() == 1) {
-				System.err.println("Warning: a combination criterion should have at least two vegetables. Creating a PointSaladPerVeggieCriterion instead.");
-				ArrayList<Integer> pointsList = new ArrayList<>();
-				pointsList.add(points);
-				criterion = new PointSaladPerVeggieCriterion(veggies, pointsList);
+		private int expectInteger() throws CriterionFactoryException {
+			skipWhitespace();
+			int start = position;
+			boolean negative = position < text.length() && text.charAt(position) == '-';
+			if (negative) {
+				position++;
 			}
-			else {
-				try {
-					criterion = new PointSaladCombinationCriterion(veggies, points);
-				} catch (CriterionException e) {
-					// Should never happen thanks to the check above
-					throw new CriterionFactoryException("Invalid formatted string '" +
-					formattedString + "' for a Combination criterion: " + e.getMessage(), e);
+			if (position >= text.length() || text.charAt(position) < '0' || text.charAt(position) > '9') {
+				position = start;
+				throw error("an integer");
+			}
+
+			long value = 0;
+			while (position < text.length() && text.charAt(position) >= '0' && text.charAt(position) <= '9') {
+				value = value * 10 + (text.charAt(position) - '0');
+				if (value > (long) Integer.MAX_VALUE + 1) {
+					position = start;
+					throw error("an integer in the int range");
 				}
+				position++;
+			}
+			value = negative ? -value : value;
+			if (value > Integer.MAX_VALUE) {
+				position = start;
+				throw error("an integer in the int range");
 			}
+			return (int) value;
 		}
-		
-		else if (type == CriterionType.MOST_TOTAL || type == CriterionType.FEWEST_TOTAL) {
-			// Most and Fewest Total have the same format
-			// example: "MOST TOTAL VEGETABLE = 10",	"FEWEST TOTAL VEGETABLE = 7"
-			int points = 0;
 
-			String[] parts = formattedString.split("=");
-			String pointsString = parts[1].trim();
-
-			try {
-				points = Integer.parseInt(pointsString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the points from '" + pointsString + "' of " + type + "-type criterion.", e);
+		/**
+		 * Parses the whole formatted string.
+		 * 
+		 * @return The criterion described by the formatted string
+		 * 
+		 * @throws CriterionFactoryException If the formatted string does not follow the grammar
+		 */
+		private AbstractPointSaladCriterion parseCriterion() throws CriterionFactoryException {
+			AbstractPointSaladCriterion criterion;
+
+			if (atInteger()) {
+				criterion = parsePerCriterion();
+			} else if (acceptKeyword("MOST")) {
+				criterion = parseMostOrFewest(true);
+			} else if (acceptKeyword("FEWEST")) {
+				criterion = parseMostOrFewest(false);
+			} else if (acceptKeyword("COMPLETE")) {
+				expectKeyword("SET");
+				expect('=');
+				criterion = new PointSaladCompleteSetCriterion(expectInteger());
+			} else {
+				Vegetable veggie = acceptVegetable();
+				if (veggie == null) {
+					throw error("an integer, a vegetable, 'MOST', 'FEWEST' or 'COMPLETE'");
+				}
+				if (accept(':')) {
+					criterion = parseEvenOdd(veggie);
+				} else {
+					criterion = parseCombination(veggie);
+				}
 			}
 
-			if (type == CriterionType.MOST_TOTAL) {
-				criterion = new PointSaladMostTotalCriterion(points);
-			} else {
-				criterion = new PointSaladFewestTotalCriterion(points);
+			skipWhitespace();
+			if (position < text.length()) {
+				throw error("the end of the string");
 			}
+			return criterion;
 		}
 
-		else if (type == CriterionType.COMPLETE_SET) {
-			// example: "COMPLETE SET = 12"
-			int points = 0;
-
-			String[] parts = formattedString.split("=");
-			String pointsString = parts[1].trim();
+		/**
+		 * Parses the rest of a MOST, FEWEST, MOST TOTAL or FEWEST TOTAL criterion, after its first keyword.
+		 * 
+		 * @param most True for a MOST or MOST TOTAL criterion, false for a FEWEST or FEWEST TOTAL criterion
+		 * 
+		 * @return The criterion parsed
+		 * 
+		 * @throws CriterionFactoryException If the formatted string does not follow the grammar
+		 */
+		private AbstractPointSaladCriterion parseMostOrFewest(boolean most) throws CriterionFactoryException {
+			if (acceptKeyword("TOTAL")) {
+				expectKeyword("VEGETABLE");
+				expect('=');
+				int points = expectInteger();
+				if (most) {
+					return new PointSaladMostTotalCriterion(points);
+				}
+				return new PointSaladFewestTotalCriterion(points);
+			}
 
-			try {
-				points = Integer.parseInt(pointsString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the points from '" + pointsString + "' of " + type + "-type criterion.", e);
+			Vegetable veggie = expectVegetable();
+			expect('=');
+			int points = expectInteger();
+			if (most) {
+				return new PointSaladMostCriterion(veggie, points);
 			}
+			return new PointSaladFewestCriterion(veggie, points);
+		}
 
-			criterion = new PointSaladCompleteSetCriterion(points);
+		/**
+		 * Parses the rest of an EVEN_ODD criterion, after its colon.
+		 * 
+		 * @param veggie The vegetable already parsed
+		 * 
+		 * @return The criterion parsed
+		 * 
+		 * @throws CriterionFactoryException If the formatted string does not follow the grammar
+		 */
+		private AbstractPointSaladCriterion parseEvenOdd(Vegetable veggie) throws CriterionFactoryException {
+			expectKeyword("EVEN");
+			expect('=');
+			int evenPoints = expectInteger();
+			expect(',');
+			expectKeyword("ODD");
+			expect('=');
+			int oddPoints = expectInteger();
+			return new PointSaladEvenOddCriterion(veggie, evenPoints, oddPoints);
 		}
 
-		else if (type == CriterionType.MISSING_TYPE) {
-			// example: "5 / MISSING VEGETABLE TYPE"
-			int points = 0;
+		/**
+		 * Parses the rest of a COMBINATION criterion, after its first vegetable.
+		 * 
+		 * @param firstVeggie The first vegetable, already parsed
+		 * 
+		 * @return The criterion parsed
+		 * 
+		 * @throws CriterionFactoryException If the formatted string does not follow the grammar
+		 */
+		private AbstractPointSaladCriterion parseCombination(Vegetable firstVeggie) throws CriterionFactoryException {
+			ArrayList<Vegetable> veggies = new ArrayList<>(4);
+			veggies.add(firstVeggie);
+			expect('+');
+			veggies.add(expectVegetable());
+			while (accept('+')) {
+				veggies.add(expectVegetable());
+			}
 
-			String[] parts = formattedString.split("/");
-			String pointsString = parts[0].trim();
+			expect('=');
+			int points = expectInteger();
 
 			try {
-				points = Integer.parseInt(pointsString);
-			} catch (NumberFormatException e) {
+				return new PointSaladCombinationCriterion(veggies, points);
+			} catch (CriterionException e) {
+				// Should never happen, the grammar requires at least two vegetables
 				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the points from '" + pointsString + "' of " + type + "-type criterion.", e);
+				text + "' for a Combination criterion: " + e.getMessage(), e);
 			}
-
-			criterion = new PointSaladPerMissingVeggieTypeCriterion(points);
 		}
 
-		else if (type == CriterionType.PER_VEGGIE_TYPE) {
-			// example: "5 / VEGETABLE TYPE >=3", "3 / VEGETABLE TYPE >=2"
-			int minNumberOfEachVeggie = 0;
-			int pointsPerVeggieType = 0;
-
-			String[] pointParts = formattedString.split("/");
-			String[] nbParts = formattedString.split(">=");
-			String pointsString = pointParts[0].trim();
-			String nbString = nbParts[1].trim();
-
-			try {
-				pointsPerVeggieType = Integer.parseInt(pointsString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the points from '" + pointsString + "' of " + type + "-type criterion.", e);
+		/**
+		 * Parses a criterion starting with points per something: PER_VEGGIE, MISSING_TYPE or PER_VEGGIE_TYPE.
+		 * 
+		 * @return The criterion parsed
+		 * 
+		 * @throws CriterionFactoryException If the formatted string does not follow the grammar
+		 */
+		private AbstractPointSaladCriterion parsePerCriterion() throws CriterionFactoryException {
+			int points = expectInteger();
+			expect('/');
+
+			if (acceptKeyword("MISSING")) {
+				expectKeyword("VEGETABLE");
+				expectKeyword("TYPE");
+				return new PointSaladPerMissingVeggieTypeCriterion(points);
 			}
 
-			try {
-				minNumberOfEachVeggie = Integer.parseInt(nbString);
-			} catch (NumberFormatException e) {
-				throw new CriterionFactoryException("Invalid formatted string '" +
-				formattedString + "': could not parse the minimum number of each vegetable from '" + nbString + "' of " + type + "-type criterion.", e);
+			if (acceptKeyword("VEGETABLE")) {
+				expectKeyword("TYPE");
+				expect(">=");
+				int minNumberOfEachVeggie = expectInteger();
+				return new PointSaladPerVeggieTypeCriterion(minNumberOfEachVeggie, points);
 			}
 
-			criterion = new PointSaladPerVeggieTypeCriterion(minNumberOfEachVeggie, pointsPerVeggieType);
-		}
-
-		else {
-			// Given type is not supported
-			throw new CriterionFactoryException("Invalid criterion type: " + type);
+			ArrayList<Vegetable> veggies = new ArrayList<>(4);
+			ArrayList<Integer> pointsPerVeggie = new ArrayList<>(4);
+			veggies.add(expectVegetable());
+			pointsPerVeggie.add(points);
+			while (accept(',')) {
+				pointsPerVeggie.add(expectInteger());
+				expect('/');
+				veggies.add(expectVegetable());
+			}
+			return new PointSaladPerVeggieCriterion(veggies, pointsPerVeggie);
 		}
-
-		return criterion;
 	}
 
 	@Override
 	public AbstractPointSaladCriterion createCriterionFromFormattedString(String formattedString) throws CriterionFactoryException {
-		// First determines the criterion type
-		CriterionType type = getCriterionType(formattedString);
-
-		// Then creates the criterion based on the type
-		AbstractPointSaladCriterion criterion = createCriterionOfType(formattedString, type);
-
-		return criterion;
+		if (formattedString == null) {
+			throw new CriterionFactoryException("The formatted string is null.");
+		}
+		return new Parser(formattedString).parseCriterion();
 	}
 }
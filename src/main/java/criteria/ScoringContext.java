@@ -0,0 +1,230 @@
+package criteria;
+
+import java.util.ArrayList;
+
+import cards.ICard;
+import cards.PointSaladTableCounts;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+
+/**
+ * Everything a criterion needs to score one player, built once per scoring call and shared by all the criteria of the player.
+ * It holds the counts of the whole table, so the hands are counted once whatever the number of criteria,
+ * and comparative criteria read the precomputed extremes instead of comparing every hand.
+ */
+public class ScoringContext {
+
+	private final PointSaladTableCounts tableCounts;
+	private final int seat;
+	private ArrayList<PointSaladVeggieCounts> otherCounts;
+
+	/**
+	 * Creates the context for scoring a seat of the table.
+	 * 
+	 * @param tableCounts The vegetable counts of every seat of the table
+	 * @param seat The index of the seat to score
+	 */
+	public ScoringContext(PointSaladTableCounts tableCounts, int seat) {
+		if (seat < 0 || seat >= tableCounts.getNbSeats()) {
+			throw new IllegalArgumentException("Invalid seat " + seat + " for a table of " + tableCounts.getNbSeats() + " seats.");
+		}
+		this.tableCounts = tableCounts;
+		this.seat = seat;
+	}
+
+	/**
+	 * Creates the context for scoring a player from already computed counts.
+	 * 
+	 * @param playerCounts The vegetable counts of the player to score
+	 * @param otherCounts The vegetable counts of the other players
+	 * 
+	 * @return The context, where the player is the first seat
+	 */
+	public static ScoringContext fromCounts(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
+		ArrayList<PointSaladVeggieCounts> counts = new ArrayList<PointSaladVeggieCounts>(otherCounts.size() + 1);
+		counts.add(playerCounts);
+		counts.addAll(otherCounts);
+
+		ScoringContext context = new ScoringContext(new PointSaladTableCounts(counts), 0);
+		context.otherCounts = otherCounts;
+		return context;
+	}
+
+	/**
+	 * Creates the context for scoring a hand, counting every hand once.
+	 * 
+	 * @param hand The hand to score
+	 * @param otherHands The hands of the other players
+	 * 
+	 * @return The context, where the hand is the first seat
+	 */
+	public static ScoringContext fromHands(ArrayList<ICard> hand, ArrayList<ArrayList<ICard>> otherHands) {
+		return fromCounts(PointSaladVeggieCounts.fromHand(hand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	/**
+	 * Gets the counts of the whole table.
+	 * 
+	 * @return The counts of the table
+	 */
+	public PointSaladTableCounts getTableCounts() {
+		return tableCounts;
+	}
+
+	/**
+	 * Gets the index of the scored seat in the table.
+	 * 
+	 * @return The index of the scored seat
+	 */
+	public int getSeat() {
+		return seat;
+	}
+
+	/**
+	 * Gets the vegetable counts of the scored player.
+	 * 
+	 * @return The vegetable counts of the player
+	 */
+	public PointSaladVeggieCounts getPlayerCounts() {
+		return tableCounts.get(seat);
+	}
+
+	/**
+	 * Gets the vegetable counts of the other players. The list is built at the first call, then shared by every criterion.
+	 * 
+	 * @return The vegetable counts of the other players
+	 */
+	public ArrayList<PointSaladVeggieCounts> getOtherCounts() {
+		if (otherCounts == null) {
+			otherCounts = tableCounts.getOtherCounts(seat);
+		}
+		return otherCounts;
+	}
+
+	/**
+	 * Gets the total number of vegetable cards of the scored player.
+	 * 
+	 * @return The total number of vegetable cards of the player
+	 */
+	public int getPlayerTotal() {
+		return tableCounts.get(seat).getTotal();
+	}
+
+	/**
+	 * Gets the number of vegetable types missing from the scored player.
+	 * 
+	 * @return The number of missing vegetable types
+	 */
+	public int getNbMissingTypes() {
+		return tableCounts.getNbMissingTypes(seat);
+	}
+
+	/**
+	 * Gets the highest count of a vegetable at the table, the scored player included.
+	 * 
+	 * @param vegetable The vegetable
+	 * 
+	 * @return The highest count of this vegetable
+	 */
+	public int getMax(Vegetable vegetable) {
+		return tableCounts.getMax(vegetable.ordinal());
+	}
+
+	/**
+	 * Gets the lowest count of a vegetable at the table, the scored player included.
+	 * 
+	 * @param vegetable The vegetable
+	 * 
+	 * @return The lowest count of this vegetable
+	 */
+	public int getMin(Vegetable vegetable) {
+		return tableCounts.getMin(vegetable.ordinal());
+	}
+
+	/**
+	 * Gets the highest total number of vegetable cards at the table, the scored player included.
+	 * 
+	 * @return The highest total
+	 */
+	public int getMaxTotal() {
+		return tableCounts.getMaxTotal();
+	}
+
+	/**
+	 * Gets the lowest total number of vegetable cards at the table, the scored player included.
+	 * 
+	 * @return The lowest total
+	 */
+	public int getMinTotal() {
+		return tableCounts.getMinTotal();
+	}
+
+	/**
+	 * Tells if there are other players than the scored one.
+	 * 
+	 * @return True if there is at least one other player, false otherwise
+	 */
+	public boolean hasOtherPlayers() {
+		return tableCounts.getNbSeats() > 1;
+	}
+
+	/**
+	 * Gets the highest count of a vegetable among the other players.
+	 * 
+	 * @param vegetable The vegetable
+	 * 
+	 * @return The highest count of this vegetable, or Integer.MIN_VALUE if there is no other player
+	 */
+	public int getOtherMax(Vegetable vegetable) {
+		int max = Integer.MIN_VALUE;
+		ArrayList<PointSaladVeggieCounts> others = getOtherCounts();
+		for (int i = 0; i < others.size(); i++) {
+			max = Math.max(max, others.get(i).get(vegetable));
+		}
+		return max;
+	}
+
+	/**
+	 * Gets the lowest count of a vegetable among the other players.
+	 * 
+	 * @param vegetable The vegetable
+	 * 
+	 * @return The lowest count of this vegetable, or Integer.MAX_VALUE if there is no other player
+	 */
+	public int getOtherMin(Vegetable vegetable) {
+		int min = Integer.MAX_VALUE;
+		ArrayList<PointSaladVeggieCounts> others = getOtherCounts();
+		for (int i = 0; i < others.size(); i++) {
+			min = Math.min(min, others.get(i).get(vegetable));
+		}
+		return min;
+	}
+
+	/**
+	 * Gets the highest total number of vegetable cards among the other players.
+	 * 
+	 * @return The highest total, or Integer.MIN_VALUE if there is no other player
+	 */
+	public int getOtherMaxTotal() {
+		int max = Integer.MIN_VALUE;
+		ArrayList<PointSaladVeggieCounts> others = getOtherCounts();
+		for (int i = 0; i < others.size(); i++) {
+			max = Math.max(max, others.get(i).getTotal());
+		}
+		return max;
+	}
+
+	/**
+	 * Gets the lowest total number of vegetable cards among the other players.
+	 * 
+	 * @return The lowest total, or Integer.MAX_VALUE if there is no other player
+	 */
+	public int getOtherMinTotal() {
+		int min = Integer.MAX_VALUE;
+		ArrayList<PointSaladVeggieCounts> others = getOtherCounts();
+		for (int i = 0; i < others.size(); i++) {
+			min = Math.min(min, others.get(i).getTotal());
+		}
+		return min;
+	}
+}
@@ -4,12 +4,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import cards.ICard;
+import cards.PointSaladTableCounts;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
 import criteria.ICriterion;
+import criteria.ScoringContext;
 import exceptions.CriterionException;
 import players.AbstractPlayer;
 
 /**
  * Abstract Class to hold criteria for the Point Salad card.
+ * Criteria are immutable once created: they can be shared between cards, and copying them returns the same instance.
  */
 public abstract class AbstractPointSaladCriterion implements ICriterion {
 
@@ -29,6 +34,13 @@ public abstract class AbstractPointSaladCriterion implements ICriterion {
 		PER_VEGGIE_TYPE, 	// examples:	"5 / VEGETABLE TYPE >=3", "3 / VEGETABLE TYPE >=2"
 	}
 
+	/**
+	 * Gets the type of the criterion.
+	 * 
+	 * @return The type of the criterion
+	 */
+	public abstract CriterionType getCriterionType();
+
 	@Override
 	public String getCriterionDisplay() {
 		return this.toString();
@@ -36,21 +48,162 @@ public abstract class AbstractPointSaladCriterion implements ICriterion {
 
 	@Override
 	public int computePlayerScore(HashMap<Integer, AbstractPlayer> players, int playerID) throws CriterionException {
-		AbstractPlayer player = players.get(playerID);
 		ArrayList<AbstractPlayer> playersList = new ArrayList<>(players.values());
-		ArrayList<AbstractPlayer> otherPlayers = AbstractPlayer.getOtherPlayers(playersList, playerID);
-		ArrayList<ICard> hand = player.getHand();
-		ArrayList<ArrayList<ICard>> otherHands = AbstractPlayer.getHands(otherPlayers);
+		int seat = playersList.indexOf(players.get(playerID));
+		PointSaladTableCounts tableCounts = new PointSaladTableCounts(AbstractPlayer.getVeggieCounts(playersList));
 
-		return computePlayerScore(hand, otherHands);
+		return computePlayerScore(new ScoringContext(tableCounts, seat));
 	}
 
 	@Override
 	public abstract int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) throws CriterionException;
 
+	@Override
+	public abstract int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) throws CriterionException;
+
+	@Override
+	public int computePlayerScore(ScoringContext context) throws CriterionException {
+		// Criteria which can use the precomputed values of the context override it
+		return computePlayerScore(context.getPlayerCounts(), context.getOtherCounts());
+	}
+
+	@Override
+	public int computeScoreDelta(ScoringContext context, Vegetable veggie, int amount) throws CriterionException {
+		// Only the six counts of the player are copied, never its hand
+		PointSaladVeggieCounts changedCounts = context.getPlayerCounts().copy();
+		changedCounts.add(veggie, amount);
+		return computePlayerScore(changedCounts, context.getOtherCounts()) - computePlayerScore(context);
+	}
+
+	@Override
+	public boolean isAffectedBy(Vegetable veggie) {
+		// By default, any count may change the score
+		return true;
+	}
+
+	@Override
+	public boolean isComparative() {
+		return false;
+	}
+
+	@Override
+	public int[] computeScoresForAll(PointSaladTableCounts tableCounts) throws CriterionException {
+		int[] scores = new int[tableCounts.getNbSeats()];
+		for (int seat = 0; seat < scores.length; seat++) {
+			scores[seat] = computePlayerScore(new ScoringContext(tableCounts, seat));
+		}
+		return scores;
+	}
+
+	/**
+	 * Range of the score a player can still get from a criterion.
+	 * Both bounds come from the same analysis of the criterion, so it is done once for both.
+	 */
+	protected static final class ScoreBounds {
+		private final int min;
+		private final int max;
+
+		private ScoreBounds(int min, int max) {
+			this.min = min;
+			this.max = max;
+		}
+
+		/**
+		 * Gets the bounds of a score which is already known.
+		 * 
+		 * @param points The score
+		 * 
+		 * @return The bounds, both equal to the score
+		 */
+		protected static ScoreBounds exactly(int points) {
+			return new ScoreBounds(points, points);
+		}
+
+		/**
+		 * Gets the bounds of a score which can be either of two values.
+		 * 
+		 * @param points The first possible score
+		 * @param otherPoints The second possible score
+		 * 
+		 * @return The bounds, from the lowest to the highest of the scores
+		 */
+		protected static ScoreBounds between(int points, int otherPoints) {
+			return new ScoreBounds(Math.min(points, otherPoints), Math.max(points, otherPoints));
+		}
+
+		/**
+		 * Gets the bounds of points times a factor, when the factor can be anything between two bounds.
+		 * 
+		 * @param points The points, which may be negative
+		 * @param lowFactor The lowest factor
+		 * @param highFactor The highest factor
+		 * 
+		 * @return The bounds of the score
+		 */
+		protected static ScoreBounds scaled(int points, int lowFactor, int highFactor) {
+			return between(points * lowFactor, points * highFactor);
+		}
+
+		/**
+		 * Gets the bounds of a criterion granting either some points or nothing.
+		 * 
+		 * @param points The points granted
+		 * @param canScore True if the points may still be granted
+		 * @param canFail True if the points may still not be granted
+		 * 
+		 * @return The bounds of the score
+		 */
+		protected static ScoreBounds outcome(int points, boolean canScore, boolean canFail) {
+			if (!canScore) {
+				return exactly(0);
+			}
+			return canFail ? between(points, 0) : exactly(points);
+		}
+
+		/**
+		 * Gets the bounds of the sum of two scores.
+		 * 
+		 * @param other The bounds of the other score
+		 * 
+		 * @return The bounds of the sum
+		 */
+		protected ScoreBounds plus(ScoreBounds other) {
+			return new ScoreBounds(min + other.min, max + other.max);
+		}
+	}
+
+	/**
+	 * Computes the range of the score a player can still get from the criterion by the end of the game.
+	 * See {@link #computeMaxScore(ScoringContext, PointSaladVeggieCounts)} for the assumptions made.
+	 * 
+	 * @param context The current counts of the table, and the seat of the player
+	 * @param remainingCounts The vegetable counts of every card which may still end in a hand on its vegetable side
+	 * 
+	 * @return The bounds of the score the player can still get
+	 * 
+	 * @throws CriterionException If the criterion object is not correctly initialized
+	 */
+	protected abstract ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) throws CriterionException;
+
+	@Override
+	public final int computeMaxScore(ScoringContext context, PointSaladVeggieCounts remainingCounts) throws CriterionException {
+		return computeScoreBounds(context, remainingCounts).max;
+	}
+
+	@Override
+	public final int computeMinScore(ScoringContext context, PointSaladVeggieCounts remainingCounts) throws CriterionException {
+		return computeScoreBounds(context, remainingCounts).min;
+	}
+
 	@Override
 	public abstract String toString();
 
+	/**
+	 * Gets a copy of the criterion.
+	 * Criteria are immutable, so every subclass returns the same instance, shared by every copy of a card.
+	 * 
+	 * @return The criterion itself
+	 */
 	@Override
 	public abstract AbstractPointSaladCriterion copy();
 }
@@ -4,8 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
 import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
 import exceptions.CriterionException;
 import players.AbstractPlayer;
 
@@ -17,8 +18,9 @@ import players.AbstractPlayer;
  */
 public class PointSaladCombinationCriterion extends AbstractPointSaladCriterion {
 
-	private ArrayList<Vegetable> vegetables;
-	private int pointsPerCombination;
+	private final ArrayList<Vegetable> vegetables;
+	private final int pointsPerCombination;
+	private final int[] requiredCounts; // Number of each vegetable required for one combination, indexed by ordinal
 
 	/**
 	 * Creates a PointSaladCombinationCriterion with the given vegetables and points per combination.
@@ -35,18 +37,36 @@ public class PointSaladCombinationCriterion extends AbstractPointSaladCriterion
 			throw new CriterionException("A combination criterion should have at least two vegetables.");
 		}
 
-		this.vegetables = vegetables;
+		this.vegetables = new ArrayList<>(vegetables);
 		this.pointsPerCombination = pointsPerCombination;
+		this.requiredCounts = computeRequiredCounts(vegetables);
 	}
 
 	/**
 	 * Creates a PointSaladCombinationCriterion copy of the given criterion.
+	 * As criteria are immutable, the copy shares its data with the given criterion.
 	 * 
 	 * @param other The criterion to copy
 	 */
 	public PointSaladCombinationCriterion(PointSaladCombinationCriterion other) {
-		this.vegetables = new ArrayList<>(other.vegetables);
+		this.vegetables = other.vegetables;
 		this.pointsPerCombination = other.pointsPerCombination;
+		this.requiredCounts = other.requiredCounts;
+	}
+
+	/**
+	 * Gets the number of each vegetable required for a single combination.
+	 * 
+	 * @param vegetables The vegetables of the combination
+	 * 
+	 * @return The number of each vegetable required, indexed by the vegetables ordinals
+	 */
+	private static int[] computeRequiredCounts(ArrayList<Vegetable> vegetables) {
+		int[] required = new int[PointSaladVeggieCounts.NB_VEGGIES];
+		for (Vegetable veggie : vegetables) {
+			required[veggie.ordinal()]++;
+		}
+		return required;
 	}
 
 	@Override
@@ -61,40 +81,80 @@ public class PointSaladCombinationCriterion extends AbstractPointSaladCriterion
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
 		// Checks if the criterion is empty
 		if (vegetables.isEmpty()) {
 			return 0;
 		}
 
-		int points = 0;
-		ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> veggieCounts = PointSaladCard.countVeggiesInHand(hand);
-
-		// Get the number of each vegetable required for the criterion
-		HashMap<Vegetable, Integer> veggiesRequired = new HashMap<>();
-		for (Vegetable veggie : vegetables) {
-			if (veggiesRequired.containsKey(veggie)) {
-				veggiesRequired.put(veggie, veggiesRequired.get(veggie) + 1);
-			} else {
-				veggiesRequired.put(veggie, 1);
-			}
-		}
-
 		// Get the number of combinations doable for each vegetable
 		int minCombinations = Integer.MAX_VALUE;
-		for (Vegetable veggie : vegetables) {
-			int required = veggiesRequired.get(veggie);
-			int available = veggieCounts.getOrDefault(veggie, 0);
-			int combinations = available / required;
+		for (int i = 0; i < PointSaladVeggieCounts.NB_VEGGIES; i++) {
+			int required = requiredCounts[i];
+			if (required == 0) {
+				continue;
+			}
+			int combinations = playerCounts.get(i) / required;
 			if (combinations < minCombinations) {
 				minCombinations = combinations;
 			}
 		}
 
 		// minCombinations can not be Integer.MAX_VALUE anymore here because at least one vegetable is required
-		points = minCombinations * pointsPerCombination;
+		return minCombinations * pointsPerCombination;
+	}
+
+	@Override
+	public boolean isAffectedBy(Vegetable veggie) {
+		return vegetables.contains(veggie);
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		// Each vegetable is bounded by its current count and its count with every remaining card
+		int minCombinations = Integer.MAX_VALUE;
+		int maxCombinations = Integer.MAX_VALUE;
+		for (int i = 0; i < PointSaladVeggieCounts.NB_VEGGIES; i++) {
+			int required = requiredCounts[i];
+			if (required == 0) {
+				continue;
+			}
+			int count = context.getPlayerCounts().get(i);
+			minCombinations = Math.min(minCombinations, count / required);
+			maxCombinations = Math.min(maxCombinations, (count + remainingCounts.get(i)) / required);
+		}
+		if (minCombinations == Integer.MAX_VALUE) {
+			return ScoreBounds.exactly(0);
+		}
+		return ScoreBounds.scaled(pointsPerCombination, minCombinations, maxCombinations);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.COMBINATION;
+	}
+
+	/**
+	 * Gets the vegetables required for one combination.
+	 * A copy is returned, as the criterion is immutable.
+	 * 
+	 * @return The vegetables required for one combination
+	 */
+	public ArrayList<Vegetable> getVegetables() {
+		return new ArrayList<>(vegetables);
+	}
 
-		return points;
+	/**
+	 * Gets the points granted per combination.
+	 * 
+	 * @return The points granted per combination
+	 */
+	public int getPointsPerCombination() {
+		return pointsPerCombination;
 	}
 
 	@Override
@@ -112,6 +172,6 @@ public class PointSaladCombinationCriterion extends AbstractPointSaladCriterion
 
 	@Override
 	public PointSaladCombinationCriterion copy() {
-		return new PointSaladCombinationCriterion(this);
+		return this;
 	}
 }
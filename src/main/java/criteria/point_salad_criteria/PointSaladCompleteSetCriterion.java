@@ -1,11 +1,10 @@
 package criteria.point_salad_criteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
-import cards.PointSaladCard.Vegetable;
+import cards.PointSaladVeggieCounts;
+import criteria.ScoringContext;
 
 /**
  * Criterion for having a at least one of every vegetable.
@@ -13,7 +12,7 @@ import cards.PointSaladCard.Vegetable;
  */
 public class PointSaladCompleteSetCriterion extends AbstractPointSaladCriterion {
 
-	private int pointsGranted;
+	private final int pointsGranted;
 	
 	/**
 	 * Creates a PointSaladCompleteSetCriterion with the given points granted.
@@ -35,15 +34,52 @@ public class PointSaladCompleteSetCriterion extends AbstractPointSaladCriterion
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
-		ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> veggieCount = PointSaladCard.countVeggiesInHand(hand);
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
+		if (playerCounts.getNbMissingTypes() > 0) {
+			return 0;
+		}
 		
-		for (Vegetable veggie : Vegetable.values()) {
-			if (veggieCount.getOrDefault(veggie, 0) == 0) {
-				return 0;
+		return pointsGranted;
+	}
+
+	@Override
+	public int computePlayerScore(ScoringContext context) {
+		// The number of missing types is counted once per context
+		if (context.getNbMissingTypes() > 0) {
+			return 0;
+		}
+
+		return pointsGranted;
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		// A vegetable already present stays present, a missing one can only be filled by the remaining cards
+		boolean canScore = true;
+		for (int i = 0; i < PointSaladVeggieCounts.NB_VEGGIES; i++) {
+			if (context.getPlayerCounts().get(i) + remainingCounts.get(i) == 0) {
+				canScore = false;
 			}
 		}
-		
+		boolean canFail = context.getNbMissingTypes() > 0;
+		return ScoreBounds.outcome(pointsGranted, canScore, canFail);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.COMPLETE_SET;
+	}
+
+	/**
+	 * Gets the points granted per complete set.
+	 * 
+	 * @return The points granted per complete set
+	 */
+	public int getPointsGranted() {
 		return pointsGranted;
 	}
 
@@ -54,6 +90,6 @@ public class PointSaladCompleteSetCriterion extends AbstractPointSaladCriterion
 
 	@Override
 	public PointSaladCompleteSetCriterion copy() {
-		return new PointSaladCompleteSetCriterion(this);
+		return this;
 	}
 }
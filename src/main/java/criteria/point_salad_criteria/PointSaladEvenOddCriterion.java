@@ -1,11 +1,11 @@
 package criteria.point_salad_criteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
 import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
 
 /**
  * Criterion for the even or odd number of a certain type of vegetable card.
@@ -13,9 +13,9 @@ import cards.PointSaladCard.Vegetable;
  */
 public class PointSaladEvenOddCriterion extends AbstractPointSaladCriterion {
 
-	private Vegetable vegetable;
-	private int evenPoints;
-	private int oddPoints;
+	private final Vegetable vegetable;
+	private final int evenPoints;
+	private final int oddPoints;
 
 	/**
 	 * Creates a PointSaladEvenOddCriterion with the given vegetable, even points, and odd points.
@@ -43,13 +43,12 @@ public class PointSaladEvenOddCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
-		int veggieCount = 0;
-		ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> veggieCounts = PointSaladCard.countVeggiesInHand(hand);
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
 
-		if (veggieCounts.containsKey(vegetable)) {
-			veggieCount = veggieCounts.get(vegetable);
-		}
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
+		int veggieCount = playerCounts.get(vegetable);
 
 		if (veggieCount % 2 == 0) {
 			return evenPoints;
@@ -58,6 +57,52 @@ public class PointSaladEvenOddCriterion extends AbstractPointSaladCriterion {
 		}
 	}
 
+	@Override
+	public boolean isAffectedBy(Vegetable veggie) {
+		return vegetable == veggie;
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		if (remainingCounts.get(vegetable) == 0) {
+			return ScoreBounds.exactly(computePlayerScore(context.getPlayerCounts(), context.getOtherCounts()));
+		}
+		// With at least one card left, both parities can be reached
+		return ScoreBounds.between(evenPoints, oddPoints);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.EVEN_ODD;
+	}
+
+	/**
+	 * Gets the vegetable of the criterion.
+	 * 
+	 * @return The vegetable of the criterion
+	 */
+	public Vegetable getVegetable() {
+		return vegetable;
+	}
+
+	/**
+	 * Gets the points granted for an even number of the vegetable.
+	 * 
+	 * @return The points granted for an even number of the vegetable
+	 */
+	public int getEvenPoints() {
+		return evenPoints;
+	}
+
+	/**
+	 * Gets the points granted for an odd number of the vegetable.
+	 * 
+	 * @return The points granted for an odd number of the vegetable
+	 */
+	public int getOddPoints() {
+		return oddPoints;
+	}
+
 	@Override
 	public String toString() {
 		return vegetable + ": EVEN=" + evenPoints + ", ODD=" + oddPoints;
@@ -65,6 +110,6 @@ public class PointSaladEvenOddCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public PointSaladEvenOddCriterion copy() {
-		return new PointSaladEvenOddCriterion(this);
+		return this;
 	}
 }
@@ -1,11 +1,11 @@
 package criteria.point_salad_criteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
 import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
 
 /**
  * Criterion for the most of a certain type of vegetable card.
@@ -13,8 +13,8 @@ import cards.PointSaladCard.Vegetable;
  */
 public class PointSaladMostCriterion extends AbstractPointSaladCriterion {
 	
-	private int pointsGranted;
-	private Vegetable vegetable;
+	private final int pointsGranted;
+	private final Vegetable vegetable;
 
 	/**
 	 * Creates a PointSaladMostCriterion with the given vegetable and points granted.
@@ -39,19 +39,19 @@ public class PointSaladMostCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
 		// Player processing
-		ArrayList<PointSaladCard> playerHandConverted = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> playerVeggieCount = PointSaladCard.countVeggiesInHand(playerHandConverted);
-		int playerCount = playerVeggieCount.getOrDefault(vegetable , 0);
+		int playerCount = playerCounts.get(vegetable);
 
 		int maxCount = playerCount;
 
 		// Other players processing
-		for (int i = 0; i < otherHands.size(); i++) {
-			ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(otherHands.get(i));
-			HashMap<Vegetable, Integer> veggieCount = PointSaladCard.countVeggiesInHand(hand);
-
-			int count = veggieCount.getOrDefault(vegetable, 0);
+		for (int i = 0; i < otherCounts.size(); i++) {
+			int count = otherCounts.get(i).get(vegetable);
 
 			if (count > maxCount) {
 				maxCount = count;
@@ -65,6 +65,59 @@ public class PointSaladMostCriterion extends AbstractPointSaladCriterion {
 		}
 	}
 
+	@Override
+	public int computePlayerScore(ScoringContext context) {
+		// The extremes of the table include the player, so there is no need to compare with each other player
+		if (context.getPlayerCounts().get(vegetable) == context.getMax(vegetable)) {
+			return pointsGranted;
+		} else {
+			return 0;
+		}
+	}
+
+	@Override
+	public boolean isAffectedBy(Vegetable veggie) {
+		return vegetable == veggie;
+	}
+
+	@Override
+	public boolean isComparative() {
+		return true;
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		int count = context.getPlayerCounts().get(vegetable);
+		int remaining = remainingCounts.get(vegetable);
+		// The others can only gain cards, the player can gain every remaining one
+		boolean canScore = !context.hasOtherPlayers() || count + remaining >= context.getOtherMax(vegetable);
+		boolean canFail = context.hasOtherPlayers() && context.getOtherMax(vegetable) + remaining > count;
+		return ScoreBounds.outcome(pointsGranted, canScore, canFail);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.MOST;
+	}
+
+	/**
+	 * Gets the vegetable of the criterion.
+	 * 
+	 * @return The vegetable of the criterion
+	 */
+	public Vegetable getVegetable() {
+		return vegetable;
+	}
+
+	/**
+	 * Gets the points granted by the criterion.
+	 * 
+	 * @return The points granted by the criterion
+	 */
+	public int getPointsGranted() {
+		return pointsGranted;
+	}
+
 	@Override
 	public String toString() {
 		return "MOST " + vegetable + " = " + pointsGranted;
@@ -72,6 +125,6 @@ public class PointSaladMostCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public PointSaladMostCriterion copy() {
-		return new PointSaladMostCriterion(this);
+		return this;
 	}
 }
@@ -1,11 +1,10 @@
 package criteria.point_salad_criteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
-import cards.PointSaladCard.Vegetable;
+import cards.PointSaladVeggieCounts;
+import criteria.ScoringContext;
 
 /**
  * Criterion for the player with the most total vegetables.
@@ -13,7 +12,7 @@ import cards.PointSaladCard.Vegetable;
  */
 public class PointSaladMostTotalCriterion extends AbstractPointSaladCriterion {
 	
-	private int pointsGranted;
+	private final int pointsGranted;
 
 	/**
 	 * Creates a PointSaladMostTotalCriterion with the given points granted.
@@ -35,24 +34,19 @@ public class PointSaladMostTotalCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
 		// Player processing
-		ArrayList<PointSaladCard> playerHandConverted = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> playerVeggieCount = PointSaladCard.countVeggiesInHand(playerHandConverted);
-		int playerTotalCount = 0;
-		for (Vegetable veggie : playerVeggieCount.keySet()) {
-			playerTotalCount += playerVeggieCount.getOrDefault(veggie, 0);
-		}
+		int playerTotalCount = playerCounts.getTotal();
 
 		int maxTotalCount = playerTotalCount;
 
 		// Other players processing
-		for (int i = 0; i < otherHands.size(); i++) {
-			ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(otherHands.get(i));
-			HashMap<Vegetable, Integer> veggieCount = PointSaladCard.countVeggiesInHand(hand);
-			int totalCount = 0;
-			for (Vegetable veggie : veggieCount.keySet()) {
-				totalCount += veggieCount.getOrDefault(veggie, 0);
-			}
+		for (int i = 0; i < otherCounts.size(); i++) {
+			int totalCount = otherCounts.get(i).getTotal();
 
 			if (totalCount > maxTotalCount) {
 				maxTotalCount = totalCount;
@@ -66,6 +60,44 @@ public class PointSaladMostTotalCriterion extends AbstractPointSaladCriterion {
 		}
 	}
 
+	@Override
+	public int computePlayerScore(ScoringContext context) {
+		// The extremes of the table include the player, so there is no need to compare with each other player
+		if (context.getPlayerTotal() == context.getMaxTotal()) {
+			return pointsGranted;
+		} else {
+			return 0;
+		}
+	}
+
+	@Override
+	public boolean isComparative() {
+		return true;
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		int total = context.getPlayerTotal();
+		int remaining = remainingCounts.getTotal();
+		boolean canScore = !context.hasOtherPlayers() || total + remaining >= context.getOtherMaxTotal();
+		boolean canFail = context.hasOtherPlayers() && context.getOtherMaxTotal() + remaining > total;
+		return ScoreBounds.outcome(pointsGranted, canScore, canFail);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.MOST_TOTAL;
+	}
+
+	/**
+	 * Gets the points granted by the criterion.
+	 * 
+	 * @return The points granted by the criterion
+	 */
+	public int getPointsGranted() {
+		return pointsGranted;
+	}
+
 	@Override
 	public String toString() {
 		return "MOST TOTAL VEGETABLE = " + pointsGranted;
@@ -73,6 +105,6 @@ public class PointSaladMostTotalCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public PointSaladMostTotalCriterion copy() {
-		return new PointSaladMostTotalCriterion(this);
+		return this;
 	}
 }
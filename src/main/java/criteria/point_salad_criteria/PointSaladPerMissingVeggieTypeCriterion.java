@@ -1,11 +1,10 @@
 package criteria.point_salad_criteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
-import cards.PointSaladCard.Vegetable;
+import cards.PointSaladVeggieCounts;
+import criteria.ScoringContext;
 
 /**
  * Criterion for the Point Salad game that awards points for each missing type of vegetable.
@@ -13,7 +12,7 @@ import cards.PointSaladCard.Vegetable;
  */
 public class PointSaladPerMissingVeggieTypeCriterion extends AbstractPointSaladCriterion {
 	
-	private int pointsPerMissingVeggieType;
+	private final int pointsPerMissingVeggieType;
 
 	/**
 	 * Creates a PointSaladPerMissingVeggieTypeCriterion with the given points per missing vegetable type.
@@ -35,18 +34,45 @@ public class PointSaladPerMissingVeggieTypeCriterion extends AbstractPointSaladC
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
-		int points = 0;
-
-		ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> veggieCount = PointSaladCard.countVeggiesInHand(hand);
-		
-		for (Vegetable veggie : Vegetable.values()) {
-			if (veggieCount.getOrDefault(veggie, 0) == 0) {
-				points += pointsPerMissingVeggieType;
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
+		return playerCounts.getNbMissingTypes() * pointsPerMissingVeggieType;
+	}
+
+	@Override
+	public int computePlayerScore(ScoringContext context) {
+		// The number of missing types is counted once per context
+		return context.getNbMissingTypes() * pointsPerMissingVeggieType;
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		// A missing vegetable can only be filled if cards of it remain
+		int nbMissingTypes = context.getNbMissingTypes();
+		int nbUnfillableTypes = 0;
+		for (int i = 0; i < PointSaladVeggieCounts.NB_VEGGIES; i++) {
+			if (context.getPlayerCounts().get(i) == 0 && remainingCounts.get(i) == 0) {
+				nbUnfillableTypes++;
 			}
 		}
-		
-		return points;
+		return ScoreBounds.scaled(pointsPerMissingVeggieType, nbUnfillableTypes, nbMissingTypes);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.MISSING_TYPE;
+	}
+
+	/**
+	 * Gets the points granted per missing vegetable type.
+	 * 
+	 * @return The points granted per missing vegetable type
+	 */
+	public int getPointsPerMissingVeggieType() {
+		return pointsPerMissingVeggieType;
 	}
 
 	@Override
@@ -56,6 +82,6 @@ public class PointSaladPerMissingVeggieTypeCriterion extends AbstractPointSaladC
 
 	@Override
 	public PointSaladPerMissingVeggieTypeCriterion copy() {
-		return new PointSaladPerMissingVeggieTypeCriterion(this);
+		return this;
 	}
 }
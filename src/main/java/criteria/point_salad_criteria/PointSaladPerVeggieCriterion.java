@@ -4,8 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
 import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
 import exceptions.CriterionException;
 import players.AbstractPlayer;
 
@@ -15,8 +16,8 @@ import players.AbstractPlayer;
  */
 public class PointSaladPerVeggieCriterion extends AbstractPointSaladCriterion {
 
-	private ArrayList<Vegetable> vegetables;
-	private ArrayList<Integer> pointsPerVeggie;
+	private final ArrayList<Vegetable> vegetables;
+	private final ArrayList<Integer> pointsPerVeggie;
 
 	/**
 	 * Creates a PointSaladPerVeggieCriterion for a single vegetable with the given points granted.
@@ -39,18 +40,19 @@ public class PointSaladPerVeggieCriterion extends AbstractPointSaladCriterion {
 	 * @param pointsPerVeggie The points granted per vegetable by the criterion
 	 */
 	public PointSaladPerVeggieCriterion(ArrayList<Vegetable> vegetables, ArrayList<Integer> pointsPerVeggie) {
-		this.vegetables = vegetables;
-		this.pointsPerVeggie = pointsPerVeggie;
+		this.vegetables = new ArrayList<>(vegetables);
+		this.pointsPerVeggie = new ArrayList<>(pointsPerVeggie);
 	}
 
 	/**
 	 * Creates a PointSaladPerVeggieCriterion copy of the given criterion.
+	 * As criteria are immutable, the copy shares its data with the given criterion.
 	 * 
 	 * @param other The criterion to copy
 	 */
 	public PointSaladPerVeggieCriterion(PointSaladPerVeggieCriterion other) {
-		this.vegetables = new ArrayList<>(other.vegetables);
-		this.pointsPerVeggie = new ArrayList<>(other.pointsPerVeggie);
+		this.vegetables = other.vegetables;
+		this.pointsPerVeggie = other.pointsPerVeggie;
 	}
 
 	private void checkValidCriterion() throws CriterionException {
@@ -74,6 +76,11 @@ public class PointSaladPerVeggieCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) throws CriterionException {
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
+
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) throws CriterionException {
 		checkValidCriterion();
 		
 		// Checks if the criterion is empty
@@ -82,17 +89,59 @@ public class PointSaladPerVeggieCriterion extends AbstractPointSaladCriterion {
 		}
 
 		int points = 0;
-		ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> veggieCounts = PointSaladCard.countVeggiesInHand(hand);
 
-		for (Vegetable veggie : vegetables) {
+		for (int i = 0; i < vegetables.size(); i++) {
+			Vegetable veggie = vegetables.get(i);
 			int veggiePoints = this.pointsPerVeggie.get(vegetables.indexOf(veggie));
-			points += veggieCounts.getOrDefault(veggie, 0) * veggiePoints;
+			points += playerCounts.get(veggie) * veggiePoints;
 		}
 
 		return points;
 	}
 
+	@Override
+	public boolean isAffectedBy(Vegetable veggie) {
+		return vegetables.contains(veggie);
+	}
+
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) throws CriterionException {
+		checkValidCriterion();
+
+		ScoreBounds bounds = ScoreBounds.exactly(0);
+		for (int i = 0; i < vegetables.size(); i++) {
+			Vegetable veggie = vegetables.get(i);
+			int count = context.getPlayerCounts().get(veggie);
+			bounds = bounds.plus(ScoreBounds.scaled(pointsPerVeggie.get(vegetables.indexOf(veggie)), count, count + remainingCounts.get(veggie)));
+		}
+		return bounds;
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.PER_VEGGIE;
+	}
+
+	/**
+	 * Gets the vegetables of the criterion.
+	 * A copy is returned, as the criterion is immutable.
+	 * 
+	 * @return The vegetables of the criterion
+	 */
+	public ArrayList<Vegetable> getVegetables() {
+		return new ArrayList<>(vegetables);
+	}
+
+	/**
+	 * Gets the points granted per vegetable, in the same order as the vegetables.
+	 * A copy is returned, as the criterion is immutable.
+	 * 
+	 * @return The points granted per vegetable, in the same order as the vegetables
+	 */
+	public ArrayList<Integer> getPointsPerVeggie() {
+		return new ArrayList<>(pointsPerVeggie);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder criterionString = new StringBuilder();
@@ -107,6 +156,6 @@ public class PointSaladPerVeggieCriterion extends AbstractPointSaladCriterion {
 
 	@Override
 	public PointSaladPerVeggieCriterion copy() {
-		return new PointSaladPerVeggieCriterion(this);
+		return this;
 	}
 }
@@ -1,11 +1,10 @@
 package criteria.point_salad_criteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import cards.ICard;
-import cards.PointSaladCard;
-import cards.PointSaladCard.Vegetable;
+import cards.PointSaladVeggieCounts;
+import criteria.ScoringContext;
 
 /**
  * A criterion for the Point Salad game that awards points for having a minimum number of each vegetable type.
@@ -13,8 +12,8 @@ import cards.PointSaladCard.Vegetable;
  */
 public class PointSaladPerVeggieTypeCriterion extends AbstractPointSaladCriterion {
 	
-	private int minNumberOfEachVeggie;
-	private int pointsPerVeggieType;
+	private final int minNumberOfEachVeggie;
+	private final int pointsPerVeggieType;
 
 	/**
 	 * Creates a PointSaladPerVeggieTypeCriterion with the given minimum number of each vegetable and points per vegetable type.
@@ -39,13 +38,15 @@ public class PointSaladPerVeggieTypeCriterion extends AbstractPointSaladCriterio
 
 	@Override
 	public int computePlayerScore(ArrayList<ICard> playerHand, ArrayList<ArrayList<ICard>> otherHands) {
-		int points = 0;
+		return computePlayerScore(PointSaladVeggieCounts.fromHand(playerHand), PointSaladVeggieCounts.fromHands(otherHands));
+	}
 
-		ArrayList<PointSaladCard> hand = PointSaladCard.convertHand(playerHand);
-		HashMap<Vegetable, Integer> veggieCount = PointSaladCard.countVeggiesInHand(hand);
+	@Override
+	public int computePlayerScore(PointSaladVeggieCounts playerCounts, ArrayList<PointSaladVeggieCounts> otherCounts) {
+		int points = 0;
 		
-		for (Vegetable veggie : Vegetable.values()) {
-			if (veggieCount.getOrDefault(veggie, 0) >= minNumberOfEachVeggie) {
+		for (int i = 0; i < PointSaladVeggieCounts.NB_VEGGIES; i++) {
+			if (playerCounts.get(i) >= minNumberOfEachVeggie) {
 				points += pointsPerVeggieType;
 			}
 		}
@@ -53,6 +54,45 @@ public class PointSaladPerVeggieTypeCriterion extends AbstractPointSaladCriterio
 		return points;
 	}
 
+	@Override
+	protected ScoreBounds computeScoreBounds(ScoringContext context, PointSaladVeggieCounts remainingCounts) {
+		int nbReachedTypes = 0;
+		int nbReachableTypes = 0;
+		for (int i = 0; i < PointSaladVeggieCounts.NB_VEGGIES; i++) {
+			int count = context.getPlayerCounts().get(i);
+			if (count >= minNumberOfEachVeggie) {
+				nbReachedTypes++;
+			}
+			if (count + remainingCounts.get(i) >= minNumberOfEachVeggie) {
+				nbReachableTypes++;
+			}
+		}
+		return ScoreBounds.scaled(pointsPerVeggieType, nbReachedTypes, nbReachableTypes);
+	}
+
+	@Override
+	public CriterionType getCriterionType() {
+		return CriterionType.PER_VEGGIE_TYPE;
+	}
+
+	/**
+	 * Gets the minimum number of cards of a vegetable type for it to count.
+	 * 
+	 * @return The minimum number of cards of a vegetable type for it to count
+	 */
+	public int getMinNumberOfEachVeggie() {
+		return minNumberOfEachVeggie;
+	}
+
+	/**
+	 * Gets the points granted per vegetable type.
+	 * 
+	 * @return The points granted per vegetable type
+	 */
+	public int getPointsPerVeggieType() {
+		return pointsPerVeggieType;
+	}
+
 	@Override
 	public String toString() {
 		return pointsPerVeggieType + " / VEGETABLE TYPE >= " + minNumberOfEachVeggie;
@@ -60,6 +100,6 @@ public class PointSaladPerVeggieTypeCriterion extends AbstractPointSaladCriterio
 
 	@Override
 	public PointSaladPerVeggieTypeCriterion copy() {
-		return new PointSaladPerVeggieTypeCriterion(this);
+		return this;
 	}
 }
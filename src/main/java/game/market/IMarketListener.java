@@ -0,0 +1,16 @@
+package game.market;
+
+/**
+ * Interface for the objects which follow the changes of a Point Salad market.
+ * The listener is called after the change, once the market is up to date.
+ */
+public interface IMarketListener {
+
+	/**
+	 * Called when the market has changed.
+	 * 
+	 * @param market The market which changed
+	 * @param event The change
+	 */
+	public void marketChanged(PointSaladMarket market, PointSaladMarketEvent event);
+}
@@ -0,0 +1,106 @@
+package game.market;
+
+/**
+ * A draft in the Point Salad market, either from the criterion piles or from the vegetable slots.
+ * The drafted piles or slots are stored as a bitmask, bit i standing for the pile or the slot at index i.
+ * 
+ * A move is immutable. It only tells which cards to take: whether they are available is checked by the market.
+ */
+public final class PointSaladDraftMove {
+
+	private final boolean criterionDraft;
+	private final int mask;
+
+	private PointSaladDraftMove(boolean criterionDraft, int mask) {
+		if (mask <= 0) {
+			throw new IllegalArgumentException("A draft must take at least one card, and only use the 31 lowest bits: " + mask);
+		}
+		this.criterionDraft = criterionDraft;
+		this.mask = mask;
+	}
+
+	/**
+	 * Creates a draft of the top cards of some criterion piles.
+	 * 
+	 * @param pileMask The bitmask of the piles to draft from
+	 * 
+	 * @return The draft
+	 */
+	public static PointSaladDraftMove criteria(int pileMask) {
+		return new PointSaladDraftMove(true, pileMask);
+	}
+
+	/**
+	 * Creates a draft of some vegetable cards.
+	 * 
+	 * @param slotMask The bitmask of the vegetable slots to draft from
+	 * 
+	 * @return The draft
+	 */
+	public static PointSaladDraftMove vegetables(int slotMask) {
+		return new PointSaladDraftMove(false, slotMask);
+	}
+
+	/**
+	 * Checks if the draft takes criterion cards.
+	 * 
+	 * @return True if the draft takes criterion cards, false if it takes vegetable cards
+	 */
+	public boolean isCriterionDraft() {
+		return criterionDraft;
+	}
+
+	/**
+	 * Gets the bitmask of the piles or of the slots drafted from.
+	 * 
+	 * @return The bitmask of the draft
+	 */
+	public int getMask() {
+		return mask;
+	}
+
+	/**
+	 * Gets the number of cards taken by the draft.
+	 * 
+	 * @return The number of cards
+	 */
+	public int getNbCards() {
+		return Integer.bitCount(mask);
+	}
+
+	/**
+	 * Gets the string identifier of the draft, as typed by a player: digits for the piles, letters for the slots.
+	 * 
+	 * @return The string identifier of the draft
+	 */
+	public String toCardsString() {
+		StringBuilder builder = new StringBuilder(getNbCards());
+		for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+			int index = Integer.numberOfTrailingZeros(remaining);
+			builder.append(criterionDraft ? (char) ('0' + index) : PointSaladMarket.ALPHABET.charAt(index));
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof PointSaladDraftMove)) {
+			return false;
+		}
+		PointSaladDraftMove other = (PointSaladDraftMove) obj;
+		return criterionDraft == other.criterionDraft && mask == other.mask;
+	}
+
+	@Override
+	public int hashCode() {
+		return criterionDraft ? ~mask : mask;
+	}
+
+	@Override
+	public String toString() {
+		return toCardsString();
+	}
+}
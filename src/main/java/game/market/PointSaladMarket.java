@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import cards.ICard;
 import cards.Pile;
 import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
 import exceptions.ConfigException;
 import exceptions.MarketException;
 import tools.Config;
@@ -15,73 +16,110 @@ import tools.Config;
  */
 public class PointSaladMarket implements IMarket {
 
-	/** Enum used to detect the type of a player's draft */
-	private enum DraftType {
-		CRITERION,
-		VEGETABLE
-	}
-
-	/** Number of criterion drawing piles. */
-	public static final int NUM_DRAW_PILES;
-	/** Number of vegetable cards. */
-	public static final int NUM_VEGETABLE_CARDS;
-	/** Number of criterion cards to be drafted by a player. */
-	public static final int CRITERION_DRAFT;
-	/** Number of vegetable cards to be drafted by a player. */
-	public static final int VEGETABLE_DRAFT;
 	/** Alphabet to display the vegetable cards codes. */
 	public static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
 
-	static {
-		// Load final variables from the configuration file
-		int numDrawPiles = 3;
-        int numVegetableCards = 6;
-        int criterionDraft = 1;
-        int vegetableDraft = 2;
-
-        try {
-            Config config = Config.getInstance();
-            numDrawPiles = config.getInt("PS_numDrawPiles");
-            numVegetableCards = config.getInt("PS_numVegetableCards");
-            criterionDraft = config.getInt("PS_numCriterionDraft");
-            vegetableDraft = config.getInt("PS_numVegetableDraft");
-        } catch (ConfigException e) {
-            e.printStackTrace();
-            // Use default values if configuration loading fails
-        }
-
-        NUM_DRAW_PILES = numDrawPiles;
-        NUM_VEGETABLE_CARDS = numVegetableCards;
-        CRITERION_DRAFT = criterionDraft;
-        VEGETABLE_DRAFT = vegetableDraft;
+	/**
+	 * One change of the market, kept to be undone.
+	 */
+	private static final class UndoOperation {
+		private static final int CRITERION_DRAW = 0; // A card was drawn from pile, its top card
+		private static final int SLOT_CHANGE = 1; // The slot at index held card
+		private static final int FLIP = 2; // Card was flipped
+		private static final int SPLIT = 3; // The pile at index was pile, and was replaced by the bottom half of source
+
+		private final int type;
+		private final int index;
+		private final PointSaladCard card;
+		private final Pile<PointSaladCard> pile;
+		private final Pile<PointSaladCard> source;
+
+		private UndoOperation(int type, int index, PointSaladCard card, Pile<PointSaladCard> pile, Pile<PointSaladCard> source) {
+			this.type = type;
+			this.index = index;
+			this.card = card;
+			this.pile = pile;
+			this.source = source;
+		}
 	}
 
+	/**
+	 * Record of a draft applied to the market with {@link PointSaladMarket#apply(PointSaladDraftMove)},
+	 * holding what is needed to undo it.
+	 */
+	public static final class UndoRecord {
+		private final ArrayList<UndoOperation> operations = new ArrayList<UndoOperation>();
+		private ArrayList<ICard> draftedCards;
+
+		private UndoRecord() {}
+
+		/**
+		 * Gets the cards taken from the market by the draft.
+		 * 
+		 * @return The cards drafted
+		 */
+		public ArrayList<ICard> getDraftedCards() {
+			return draftedCards;
+		}
+	}
+
+	private final PointSaladMarketSettings settings;
 	private ArrayList<Pile<PointSaladCard>> criterionPiles;
 	private ArrayList<PointSaladCard> vegetableCards;
+	private int version; // Incremented on every change of the market made through its methods
+	private UndoRecord recording; // Record of the draft being applied, null when not recording
+	private volatile PointSaladMarketSnapshot snapshot; // Last published view of the market, read by any thread
+	private ArrayList<IMarketListener> listeners = new ArrayList<IMarketListener>();
+
+	// Cached string representation, valid while the market shows the same cards on the same sides
+	private String cachedString;
+	private PointSaladCard[] cachedCards; // Top card of each pile, then the card of each slot
+	private boolean[] cachedSides; // True if the cached card was criterion side up
 
 	/**
-	 * Creates an empty market.
+	 * Creates an empty market, with the settings of the configuration file.
 	 */
 	public PointSaladMarket() {
+		this(PointSaladMarketSettings.getDefault());
+	}
+
+	/**
+	 * Creates an empty market with the given layout.
+	 * 
+	 * @param settings The layout of the market
+	 */
+	public PointSaladMarket(PointSaladMarketSettings settings) {
+		this.settings = settings;
 		criterionPiles = new ArrayList<Pile<PointSaladCard>>();
 		vegetableCards = new ArrayList<PointSaladCard>();
 
 		// Create the criterion piles
-		for (int i = 0; i<NUM_DRAW_PILES; i++)
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
 			criterionPiles.add(null);
 		}
 
 		// Create the cards space
-		for (int i = 0; i<NUM_VEGETABLE_CARDS; i++)
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
 			vegetableCards.add(null);
 		}
+
+		publishSnapshot();
+	}
+
+	/**
+	 * Gets the layout of the market.
+	 * 
+	 * @return The settings of the market
+	 */
+	public PointSaladMarketSettings getSettings() {
+		return settings;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		for (int i = 0; i<NUM_DRAW_PILES; i++)
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
 			Pile<PointSaladCard> pile = criterionPiles.get(i);
 			if (pile != null && !pile.isEmpty())
@@ -90,7 +128,7 @@ public class PointSaladMarket implements IMarket {
 			}
 		}
 
-		for (int i = 0; i<NUM_VEGETABLE_CARDS; i++)
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
 			if (vegetableCards.get(i) != null)
 			{
@@ -103,6 +141,7 @@ public class PointSaladMarket implements IMarket {
 
 	/**
 	 * Gets the criterion piles.
+	 * Changes made through this list are not notified to the listeners, nor counted by the version of the market.
 	 * 
 	 * @return The criterion piles
 	 */
@@ -117,10 +156,13 @@ public class PointSaladMarket implements IMarket {
 	 */
 	public void setCriterionPiles(ArrayList<Pile<PointSaladCard>> criterionPiles) {
 		this.criterionPiles = criterionPiles;
+		version++;
+		notifyListeners(PointSaladMarketEvent.reset());
 	}
 
 	/**
 	 * Gets the vegetable cards.
+	 * Changes made through this list are not notified to the listeners, nor counted by the version of the market.
 	 * 
 	 * @return The vegetable cards
 	 */
@@ -135,6 +177,8 @@ public class PointSaladMarket implements IMarket {
 	 */
 	public void setVegetableCards(ArrayList<PointSaladCard> vegetableCards) {
 		this.vegetableCards = vegetableCards;
+		version++;
+		notifyListeners(PointSaladMarketEvent.reset());
 	}
 
 	/**
@@ -144,7 +188,7 @@ public class PointSaladMarket implements IMarket {
 	 */
 	public ArrayList<PointSaladCard> getAvailableCriteria() {
 		ArrayList<PointSaladCard> availableCriteria = new ArrayList<PointSaladCard>();
-		for (int i = 0; i<NUM_DRAW_PILES; i++)
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
 			Pile<PointSaladCard> pile = criterionPiles.get(i);
 			if (pile != null && !pile.isEmpty())
@@ -163,7 +207,7 @@ public class PointSaladMarket implements IMarket {
 	 */
 	public ArrayList<String> getAvailableCriteriaStrings() {
 		ArrayList<String> availableCriteriaStrings = new ArrayList<String>();
-		for (int i = 0; i<NUM_DRAW_PILES; i++)
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
 			Pile<PointSaladCard> pile = criterionPiles.get(i);
 			if (pile != null && !pile.isEmpty())
@@ -181,7 +225,7 @@ public class PointSaladMarket implements IMarket {
 	 */
 	public ArrayList<PointSaladCard> getAvailableVegetables() {
 		ArrayList<PointSaladCard> availableVegetables = new ArrayList<PointSaladCard>();
-		for (int i = 0; i<NUM_VEGETABLE_CARDS; i++)
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
 			PointSaladCard card = vegetableCards.get(i);
 			if (card != null)
@@ -200,7 +244,7 @@ public class PointSaladMarket implements IMarket {
 	 */
 	public ArrayList<String> getAvailableVegetableStrings() {
 		ArrayList<String> availableVegetableStrings = new ArrayList<String>();
-		for (int i = 0; i<NUM_VEGETABLE_CARDS; i++)
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
 			PointSaladCard card = vegetableCards.get(i);
 			if (card != null)
@@ -211,6 +255,52 @@ public class PointSaladMarket implements IMarket {
 		return availableVegetableStrings;
 	}
 
+	/**
+	 * Counts the vegetables of every card left in the market, in the piles and in the vegetable slots.
+	 * The criterion cards held in hands may also be flipped to their vegetable side: use
+	 * {@link #getRemainingVeggieCounts(ArrayList)} to bound what the players can still get.
+	 * 
+	 * @return The vegetable counts of the cards left in the market
+	 */
+	public PointSaladVeggieCounts getRemainingVeggieCounts() {
+		PointSaladVeggieCounts remainingCounts = new PointSaladVeggieCounts();
+		for (int i = 0; i < criterionPiles.size(); i++) {
+			Pile<PointSaladCard> pile = criterionPiles.get(i);
+			if (pile == null) {
+				continue;
+			}
+			for (int j = 0; j < pile.size(); j++) {
+				remainingCounts.increment(pile.getCard(j).getVegetable());
+			}
+		}
+		for (int i = 0; i < vegetableCards.size(); i++) {
+			PointSaladCard card = vegetableCards.get(i);
+			if (card != null) {
+				remainingCounts.increment(card.getVegetable());
+			}
+		}
+		return remainingCounts;
+	}
+
+	/**
+	 * Counts the vegetables of every card which may still end in a hand on its vegetable side: the cards left in the market,
+	 * and the criterion cards held in the hands of the players, which may still be flipped.
+	 * These counts bound what the players can still get.
+	 * 
+	 * @param criteriaHands The criterion cards held by each player
+	 * 
+	 * @return The vegetable counts of the cards which may still be gained
+	 */
+	public PointSaladVeggieCounts getRemainingVeggieCounts(ArrayList<ArrayList<PointSaladCard>> criteriaHands) {
+		PointSaladVeggieCounts remainingCounts = getRemainingVeggieCounts();
+		for (ArrayList<PointSaladCard> criteriaHand : criteriaHands) {
+			for (PointSaladCard card : criteriaHand) {
+				remainingCounts.increment(card.getVegetable());
+			}
+		}
+		return remainingCounts;
+	}
+
 	/**
 	 * Gets the pile at the given index.
 	 * 
@@ -220,7 +310,7 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the pile index is invalid
 	 */
 	public Pile<PointSaladCard> getPile(int pileIndex) throws MarketException {
-		if (pileIndex < 0 || pileIndex >= NUM_DRAW_PILES)
+		if (pileIndex < 0 || pileIndex >= settings.getNumDrawPiles())
 		{
 			throw new MarketException("Invalid pile index");
 		}
@@ -236,11 +326,13 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the pile index is invalid
 	 */
 	public void setPile(int pileIndex, Pile<PointSaladCard> pile) throws MarketException {
-		if (pileIndex < 0 || pileIndex >= NUM_DRAW_PILES)
+		if (pileIndex < 0 || pileIndex >= settings.getNumDrawPiles())
 		{
 			throw new MarketException("Invalid pile index");
 		}
 		criterionPiles.set(pileIndex, pile);
+		version++;
+		notifyListeners(PointSaladMarketEvent.reset());
 	}
 
 	/**
@@ -252,7 +344,7 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the card index is invalid
 	 */
 	public PointSaladCard getCard(int cardIndex) throws MarketException {
-		if (cardIndex < 0 || cardIndex >= NUM_VEGETABLE_CARDS)
+		if (cardIndex < 0 || cardIndex >= settings.getNumVegetableCards())
 		{
 			throw new MarketException("Invalid card index");
 		}
@@ -268,11 +360,13 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the card index is invalid
 	 */
 	public void setCard(int cardIndex, PointSaladCard card) throws MarketException {
-		if (cardIndex < 0 || cardIndex >= NUM_VEGETABLE_CARDS)
+		if (cardIndex < 0 || cardIndex >= settings.getNumVegetableCards())
 		{
 			throw new MarketException("Invalid card index");
 		}
 		vegetableCards.set(cardIndex, card);
+		version++;
+		notifyListeners(card == null ? PointSaladMarketEvent.slotEmptied(cardIndex) : PointSaladMarketEvent.slotFilled(cardIndex, card));
 	}
 
 	/**
@@ -284,12 +378,17 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the card index is invalid
 	 */
 	private PointSaladCard drawVegetableCard(int cardIndex) throws MarketException {
-		if (cardIndex < 0 || cardIndex >= NUM_VEGETABLE_CARDS)
+		if (cardIndex < 0 || cardIndex >= settings.getNumVegetableCards())
 		{
 			throw new MarketException("Invalid card index");
 		}
 		PointSaladCard card = vegetableCards.get(cardIndex);
+		record(UndoOperation.SLOT_CHANGE, cardIndex, card, null, null);
 		vegetableCards.set(cardIndex, null);
+		version++;
+		if (card != null) {
+			notifyListeners(PointSaladMarketEvent.slotEmptied(cardIndex));
+		}
 		return card;
 	}
 
@@ -302,167 +401,270 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the pile index is invalid
 	 */
 	private PointSaladCard drawCriterionCard(int pileIndex) throws MarketException {
-		if (pileIndex < 0 || pileIndex >= NUM_DRAW_PILES)
+		if (pileIndex < 0 || pileIndex >= settings.getNumDrawPiles())
 		{
 			throw new MarketException("Invalid pile index");
 		}
 		Pile<PointSaladCard> pile = criterionPiles.get(pileIndex);
 		PointSaladCard card = pile.draw();
+		version++;
+		if (card != null) {
+			record(UndoOperation.CRITERION_DRAW, pileIndex, card, pile, null);
+			notifyListeners(PointSaladMarketEvent.pileDrawn(pileIndex, card));
+		}
 		return card;
 	}
 
 	@Override
 	public String getDraftingInstruction() {
-		return "Please draft a single type of cards, up to " + CRITERION_DRAFT + " criterion card, or " + VEGETABLE_DRAFT +
+		return "Please draft a single type of cards, up to " + settings.getCriterionDraft() + " criterion card, or " + settings.getVegetableDraft() +
 		" vegetable cards, where each should be unique. (examples: '1' or 'AC', 'B')";
 	}
 
-	private DraftType getDraftType(String cardsString) {
-		DraftType draftType = null;
-		try {
-			Integer.parseInt(cardsString);
-			draftType = DraftType.CRITERION;
-		} catch (NumberFormatException e) {
-			draftType = DraftType.VEGETABLE;
-		}
-		return draftType;
-	}
-
-	@Override
-	public boolean isCardsStringValid(String cardsString) {
-		int length = cardsString.length();
-
-		if (length <= 0 || length > Integer.max(CRITERION_DRAFT, VEGETABLE_DRAFT))
+	/**
+	 * Gets the bitmask of the criterion piles which have cards left, bit i standing for the pile at index i.
+	 * 
+	 * @return The bitmask of the available piles
+	 */
+	public int getAvailablePileMask() {
+		int mask = 0;
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
-			return false;
+			Pile<PointSaladCard> pile = criterionPiles.get(i);
+			if (pile != null && !pile.isEmpty())
+			{
+				mask |= 1 << i;
+			}
 		}
+		return mask;
+	}
 
-		// Checks if each drafted card is unique
-		ArrayList<String> usedChars = new ArrayList<String>();
-		for (int i = 0; i<length; i++)
+	/**
+	 * Gets the bitmask of the vegetable slots holding a card, bit i standing for the slot at index i.
+	 * 
+	 * @return The bitmask of the available slots
+	 */
+	public int getAvailableSlotMask() {
+		int mask = 0;
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
-			String c = cardsString.substring(i, i + 1);
-			if (usedChars.contains(c))
+			if (vegetableCards.get(i) != null)
 			{
-				return false;
+				mask |= 1 << i;
 			}
-			usedChars.add(c);
 		}
+		return mask;
+	}
 
-		// Verify that only criterion or vegetable cards are drafted at the same time, not a mix of both.
-		// Also verifies if every card is available in the market.
-		DraftType draftType = getDraftType(cardsString);
+	/**
+	 * Lists every legal draft in the current market: every set of available piles up to the criterion draft of the settings,
+	 * and every set of available vegetable slots up to the vegetable draft of the settings.
+	 * 
+	 * @return The legal drafts
+	 */
+	public ArrayList<PointSaladDraftMove> getLegalMoves() {
+		ArrayList<PointSaladDraftMove> moves = new ArrayList<PointSaladDraftMove>();
+		addMoves(moves, true, getAvailablePileMask(), settings.getCriterionDraft(), 0, 0);
+		addMoves(moves, false, getAvailableSlotMask(), settings.getVegetableDraft(), 0, 0);
+		return moves;
+	}
 
-		if (draftType.equals(DraftType.CRITERION)) {
-			for (String c: usedChars) {
-				try {
-					int index = Integer.parseInt(c);
-					Pile<PointSaladCard> pile = getPile(index);
-					if (pile == null || pile.isEmpty()) {
-						return false;
-					}
-				} catch (NumberFormatException e) {
-					return false;
-				} catch (MarketException e) {
-					return false;
-				}
-			}
+	/**
+	 * Adds the given draft, then every draft made of it and of higher available indices, up to the maximum size.
+	 * 
+	 * @param moves The list to add the drafts to
+	 * @param criterionDraft Whether the drafts take criterion cards
+	 * @param available The bitmask of the available piles or slots
+	 * @param maxSize The maximum number of cards of a draft
+	 * @param chosen The bitmask of the draft being built
+	 * @param size The number of cards of the draft being built
+	 */
+	private static void addMoves(ArrayList<PointSaladDraftMove> moves, boolean criterionDraft, int available, int maxSize, int chosen, int size) {
+		if (chosen != 0) {
+			moves.add(criterionDraft ? PointSaladDraftMove.criteria(chosen) : PointSaladDraftMove.vegetables(chosen));
 		}
-		
-		else if (draftType.equals(DraftType.VEGETABLE)) {
-			for (String c: usedChars) {
-				try {
-					// Will return -1 if the character is not found, which will detect that the draft is invalid
-					int index = ALPHABET.indexOf(c);
-					PointSaladCard card = getCard(index);
-					if (card == null) {
-						return false;
-					}
-				} catch (MarketException e) {
-					return false;
-				}
-			}
+		if (size >= maxSize) {
+			return;
 		}
 
-		return true;
+		// Only indices above the highest chosen one are added, so each set is built once
+		int candidates = chosen == 0 ? available : available & -(Integer.highestOneBit(chosen) << 1);
+		while (candidates != 0) {
+			int bit = Integer.lowestOneBit(candidates);
+			candidates &= ~bit;
+			addMoves(moves, criterionDraft, available, maxSize, chosen | bit, size + 1);
+		}
 	}
 
-	@Override
-	public ArrayList<ICard> draftCards(String cardsString) throws MarketException {
-		ArrayList<ICard> cards = new ArrayList<ICard>();
+	/**
+	 * Checks if a draft is legal in the current market.
+	 * 
+	 * @param move The draft to check
+	 * 
+	 * @return True if the draft takes a legal number of cards, all of them available, false otherwise
+	 */
+	public boolean isMoveValid(PointSaladDraftMove move) {
+		if (move == null) {
+			return false;
+		}
+		if (move.isCriterionDraft()) {
+			return move.getNbCards() <= settings.getCriterionDraft() && (move.getMask() & ~getAvailablePileMask()) == 0;
+		}
+		return move.getNbCards() <= settings.getVegetableDraft() && (move.getMask() & ~getAvailableSlotMask()) == 0;
+	}
 
+	/**
+	 * Reads a string identifier of cards as a draft, without checking if the cards are available.
+	 * Digits stand for the criterion piles and letters for the vegetable slots, both types cannot be mixed,
+	 * and each card may only be given once.
+	 * 
+	 * @param cardsString The string identifier of the cards, case sensitive
+	 * 
+	 * @return The draft, or null if the string does not describe one
+	 */
+	public PointSaladDraftMove parseMove(String cardsString) {
 		int length = cardsString.length();
-		// Converts the string to uppercase to avoid case sensitivity
-		cardsString = cardsString.toUpperCase();
-
-		if (!isCardsStringValid(cardsString))
+		if (length <= 0 || length > Integer.max(settings.getCriterionDraft(), settings.getVegetableDraft()))
 		{
-			throw new MarketException("Invalid choice. " +
-				"You may either draft a single type of card, up to " + CRITERION_DRAFT + " criterion card, or " +
-				 VEGETABLE_DRAFT + " vegetable cards, where each should be unique.");
+			return null;
 		}
 
-		// We know the string is valid, so we just need to check the type of draft it is.
-		DraftType draftType = getDraftType(cardsString);
-
-
-		// Process criterion drafting (using numbers)
-		if (draftType.equals(DraftType.CRITERION))
+		boolean criterionDraft = cardsString.charAt(0) >= '0' && cardsString.charAt(0) <= '9';
+		int mask = 0;
+		for (int i = 0; i<length; i++)
 		{
-			for (int i = 0; i<length; i++)
+			char c = cardsString.charAt(i);
+			int index;
+			if (criterionDraft)
 			{
-				String c = cardsString.substring(i, i + 1);
-				try
+				index = c >= '0' && c <= '9' ? c - '0' : -1;
+				if (index >= settings.getNumDrawPiles())
 				{
-					int pileIndex = Integer.parseInt(c);
-					PointSaladCard card = drawCriterionCard(pileIndex);
-					cards.add(card);
+					return null;
 				}
-				catch (NumberFormatException e)
+			}
+			else
+			{
+				index = ALPHABET.indexOf(c);
+				if (index >= settings.getNumVegetableCards())
 				{
-					throw new MarketException("Invalid choice. " +
-						"Criterion card identifier must be a number.", e);
+					return null;
 				}
 			}
+
+			// Each drafted card must be a single card of the same type, given only once
+			if (index < 0 || (mask & (1 << index)) != 0)
+			{
+				return null;
+			}
+			mask |= 1 << index;
+		}
+
+		return criterionDraft ? PointSaladDraftMove.criteria(mask) : PointSaladDraftMove.vegetables(mask);
+	}
+
+	@Override
+	public boolean isCardsStringValid(String cardsString) {
+		return isMoveValid(parseMove(cardsString));
+	}
+
+	/**
+	 * Drafts the cards of a legal draft from the market, in increasing order of their piles or slots.
+	 * 
+	 * @param move The draft to make
+	 * 
+	 * @return The cards drafted
+	 * 
+	 * @throws MarketException If the draft is not legal in the current market
+	 */
+	public ArrayList<ICard> draft(PointSaladDraftMove move) throws MarketException {
+		return draft(move, null);
+	}
+
+	/**
+	 * Drafts the cards of a legal draft from the market.
+	 * 
+	 * @param move The draft to make
+	 * @param cardsString The string the draft was parsed from, giving the order of the cards, or null for the increasing
+	 * order of their piles or slots
+	 * 
+	 * @return The cards drafted, in the given order
+	 * 
+	 * @throws MarketException If the draft is not legal in the current market
+	 */
+	private ArrayList<ICard> draft(PointSaladDraftMove move, String cardsString) throws MarketException {
+		if (!isMoveValid(move))
+		{
+			throw new MarketException("Invalid choice. " +
+				"You may either draft a single type of card, up to " + settings.getCriterionDraft() + " criterion card, or " +
+				 settings.getVegetableDraft() + " vegetable cards, where each should be unique.");
 		}
 
-		// Process vegetable drafting (using letters)
-		else if (draftType.equals(DraftType.VEGETABLE))
+		ArrayList<ICard> cards = new ArrayList<ICard>(move.getNbCards());
+		if (cardsString != null)
 		{
-			for (int i = 0; i<length; i++)
+			for (int i = 0; i < cardsString.length(); i++)
 			{
 				char c = cardsString.charAt(i);
-				int cardIndex = ALPHABET.indexOf(c);
-				try
+				if (move.isCriterionDraft())
 				{
-					PointSaladCard card = drawVegetableCard(cardIndex);
-					cards.add(card);
+					cards.add(drawCriterionCard(c - '0'));
 				}
-				catch (MarketException e)
+				else
 				{
-					throw new MarketException("Invalid choice. " +
-						"Vegetable card identifier must be a letter.", e);
+					cards.add(drawVegetableCard(ALPHABET.indexOf(c)));
 				}
 			}
+			return cards;
 		}
 
+		for (int remaining = move.getMask(); remaining != 0; remaining &= remaining - 1)
+		{
+			int index = Integer.numberOfTrailingZeros(remaining);
+			if (move.isCriterionDraft())
+			{
+				cards.add(drawCriterionCard(index));
+			}
+			else
+			{
+				cards.add(drawVegetableCard(index));
+			}
+		}
 		return cards;
 	}
 
+	@Override
+	public ArrayList<ICard> draftCards(String cardsString) throws MarketException {
+		// Converts the string to uppercase to avoid case sensitivity. The cards are drafted in the order they were typed.
+		String upperCardsString = cardsString.toUpperCase();
+		return draft(parseMove(upperCardsString), upperCardsString);
+	}
+
 	/**
-	 * Refills the vegetable market by drawing cards from the corresponding criterion piles.
+	 * Refills the vegetable market by drawing cards from the corresponding criterion piles,
+	 * then publishes a new snapshot of the market.
 	 */
 	public void refillVegetables() {
-		for (int i = 0; i<NUM_VEGETABLE_CARDS; i++)
+		refillSlots();
+		publishSnapshot();
+	}
+
+	/**
+	 * Refills the empty vegetable slots by drawing cards from the corresponding criterion piles.
+	 */
+	private void refillSlots() {
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
 			if (vegetableCards.get(i) == null)
 			{
-				int pileIndex = i % NUM_DRAW_PILES;
+				int pileIndex = i % settings.getNumDrawPiles();
 				try {
 					PointSaladCard card = drawCriterionCard(pileIndex);
 					if (card != null)
 					{
 						card.flip();
+						record(UndoOperation.FLIP, i, card, null, null);
+						record(UndoOperation.SLOT_CHANGE, i, null, null, null);
 						this.setCard(i, card);
 					}
 				}
@@ -481,7 +683,7 @@ public class PointSaladMarket implements IMarket {
 	 * If a pile is empty, it is refilled with half the bottom cards of the larger pile.
 	 */
 	public void balancePiles() {
-		for (int i = 0; i<NUM_DRAW_PILES; i++)
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
 			Pile<PointSaladCard> pile = criterionPiles.get(i);
 
@@ -509,7 +711,7 @@ public class PointSaladMarket implements IMarket {
 	 * @throws MarketException If the pile index is invalid
 	 */
 	private void refillPileAt(int pileIndex) throws MarketException {
-		if (pileIndex < 0 || pileIndex >= NUM_DRAW_PILES)
+		if (pileIndex < 0 || pileIndex >= settings.getNumDrawPiles())
 		{
 			throw new MarketException("Invalid pile index");
 		}
@@ -517,15 +719,15 @@ public class PointSaladMarket implements IMarket {
 		Pile<PointSaladCard> pile = criterionPiles.get(pileIndex);
 		if (pile.isEmpty())
 		{
-			int[] pileSizes = new int[NUM_DRAW_PILES];
-			for (int i = 0; i<NUM_DRAW_PILES; i++)
+			int[] pileSizes = new int[settings.getNumDrawPiles()];
+			for (int i = 0; i<settings.getNumDrawPiles(); i++)
 			{
 				pileSizes[i] = criterionPiles.get(i).size();
 			}
 
 			int maxPileIndex = 0;
 			int maxPileSize = 0;
-			for (int i = 0; i<NUM_DRAW_PILES; i++)
+			for (int i = 0; i<settings.getNumDrawPiles(); i++)
 			{
 				if (pileSizes[i] > maxPileSize)
 				{
@@ -535,10 +737,82 @@ public class PointSaladMarket implements IMarket {
 			}
 
 			Pile<PointSaladCard> maxPile = criterionPiles.get(maxPileIndex);
-			this.setPile(pileIndex, maxPile.splitInTwo());
+			record(UndoOperation.SPLIT, pileIndex, null, pile, maxPile);
+			criterionPiles.set(pileIndex, maxPile.splitInTwo());
+			version++;
+			notifyListeners(PointSaladMarketEvent.pileRebalanced(pileIndex, maxPileIndex));
 		}
 	}
 
+	/**
+	 * Keeps a change of the market in the record of the draft being applied, if any.
+	 */
+	private void record(int type, int index, PointSaladCard card, Pile<PointSaladCard> pile, Pile<PointSaladCard> source) {
+		if (recording != null) {
+			recording.operations.add(new UndoOperation(type, index, card, pile, source));
+		}
+	}
+
+	/**
+	 * Applies a whole turn of the market: drafts the cards of a legal draft, then refills the market.
+	 * The changes are recorded so that {@link #undo(UndoRecord)} can restore the market as it was,
+	 * which lets a search explore drafts without copying the market.
+	 * 
+	 * @param move The draft to make
+	 * 
+	 * @return The record of the draft, holding the cards drafted
+	 * 
+	 * @throws MarketException If the draft is not legal in the current market
+	 */
+	public UndoRecord apply(PointSaladDraftMove move) throws MarketException {
+		if (recording != null) {
+			throw new IllegalStateException("A draft is already being applied to the market.");
+		}
+		UndoRecord record = new UndoRecord();
+		recording = record;
+		try {
+			record.draftedCards = draft(move);
+			refill();
+		}
+		finally {
+			recording = null;
+		}
+		return record;
+	}
+
+	/**
+	 * Undoes a draft applied with {@link #apply(PointSaladDraftMove)}: the drafted cards, the vegetable slots,
+	 * the piles and the sides of the cards are restored as they were before the draft.
+	 * The market must not have been modified since, except by drafts applied after it and already undone.
+	 * The drafted cards are put back in the market, so they should be removed from the hand they were added to.
+	 * 
+	 * @param record The record returned by apply
+	 */
+	public void undo(UndoRecord record) {
+		ArrayList<UndoOperation> operations = record.operations;
+		for (int i = operations.size() - 1; i >= 0; i--) {
+			UndoOperation operation = operations.get(i);
+			switch (operation.type) {
+				case UndoOperation.CRITERION_DRAW:
+					operation.pile.putBack(operation.card);
+					break;
+				case UndoOperation.SLOT_CHANGE:
+					vegetableCards.set(operation.index, operation.card);
+					break;
+				case UndoOperation.FLIP:
+					operation.card.flip();
+					break;
+				case UndoOperation.SPLIT:
+					operation.source.mergeSplit(criterionPiles.get(operation.index));
+					criterionPiles.set(operation.index, operation.pile);
+					break;
+				default:
+					throw new IllegalStateException("Unknown undo operation: " + operation.type);
+			}
+		}
+		version++;
+	}
+
 	/**
 	 * Updates the market to ensure there are no empty vegetable card slot if it can be refilled,
 	 * and that there are no empty criterion pile if it can be balanced.
@@ -546,52 +820,187 @@ public class PointSaladMarket implements IMarket {
 	@Override
 	public void refill() {
 		balancePiles();
-		refillVegetables();
+		refillSlots();
 		balancePiles();
+		publishSnapshot();
 	}
 
+	/**
+	 * Adds a listener to the changes of the market.
+	 * Only the changes made through the methods of the market are notified, not the ones made through its lists,
+	 * and the drafts applied to explore the market are not notified either.
+	 * 
+	 * @param listener The listener to add
+	 */
+	public void addMarketListener(IMarketListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener to the changes of the market.
+	 * 
+	 * @param listener The listener to remove
+	 */
+	public void removeMarketListener(IMarketListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Notifies the listeners of a change of the market, unless a draft is being applied to explore it.
+	 */
+	private void notifyListeners(PointSaladMarketEvent event) {
+		if (recording != null) {
+			return;
+		}
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).marketChanged(this, event);
+		}
+	}
+
+	/**
+	 * Publishes a snapshot of the current market, unless a draft is being applied to explore it.
+	 */
+	private void publishSnapshot() {
+		if (recording == null) {
+			snapshot = createSnapshot();
+		}
+	}
+
+	/**
+	 * Creates an immutable snapshot of the current market, in O(piles + slots).
+	 * The piles are shared instead of copied, so they copy their cards before their next modification.
+	 * 
+	 * @return The snapshot of the market
+	 */
+	public PointSaladMarketSnapshot createSnapshot() {
+		ArrayList<Pile<PointSaladCard>> piles = new ArrayList<Pile<PointSaladCard>>(criterionPiles.size());
+		for (int i = 0; i < criterionPiles.size(); i++) {
+			Pile<PointSaladCard> pile = criterionPiles.get(i);
+			piles.add(pile == null ? null : pile.share());
+		}
+		return new PointSaladMarketSnapshot(version, piles, new ArrayList<PointSaladCard>(vegetableCards));
+	}
+
+	/**
+	 * Gets the last snapshot published by the market, after its creation and after every refill.
+	 * It can be called from any thread, while the game thread modifies the market.
+	 * 
+	 * @return The last published snapshot of the market
+	 */
+	public PointSaladMarketSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Gets the version of the market.
+	 * It changes every time the market is modified through its methods: a card drawn from a pile or a slot, a slot
+	 * filled, a pile rebalanced, or a draft undone. Requesting the lists of the market does not change it, and neither do
+	 * the changes made through these lists.
+	 * 
+	 * @return The version of the market
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the cards shown by the string representation of the market: the top card of each pile, then the card of each slot.
+	 * 
+	 * @return The shown cards, null for an empty pile or slot
+	 */
+	private PointSaladCard[] getShownCards() {
+		PointSaladCard[] cards = new PointSaladCard[criterionPiles.size() + vegetableCards.size()];
+		for (int i = 0; i < criterionPiles.size(); i++) {
+			Pile<PointSaladCard> pile = criterionPiles.get(i);
+			cards[i] = pile == null ? null : pile.getTopCard();
+		}
+		for (int i = 0; i < vegetableCards.size(); i++) {
+			cards[criterionPiles.size() + i] = vegetableCards.get(i);
+		}
+		return cards;
+	}
+
+	/**
+	 * Checks if the cached string representation of the market is still up to date.
+	 * The shown cards are compared instead of a version, so that changes made through the lists of the market are seen too.
+	 * 
+	 * @param cards The cards currently shown by the market
+	 * @return True if the cached string can be used, false otherwise
+	 */
+	private boolean isCachedStringValid(PointSaladCard[] cards) {
+		if (cachedString == null || cachedCards.length != cards.length) {
+			return false;
+		}
+
+		for (int i = 0; i < cards.length; i++) {
+			if (cachedCards[i] != cards[i] || (cards[i] != null && cachedSides[i] != cards[i].isCriterionSideUp())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the string representation of the market.
+	 * It is built on the first call, then cached until the market shows other cards.
+	 * 
+	 * @return The string representation of the market
+	 */
 	@Override
 	public String toString() {
-		String marketString = "Market:\n";
+		PointSaladCard[] cards = getShownCards();
+		if (isCachedStringValid(cards)) {
+			return cachedString;
+		}
 
-		marketString += "Point cards:\t";
+		StringBuilder marketString = new StringBuilder("Market:\n");
 
-		for (int i = 0; i<NUM_DRAW_PILES; i++)
+		marketString.append("Point cards:\t");
+
+		for (int i = 0; i<settings.getNumDrawPiles(); i++)
 		{
-			marketString += "[" + i + "] ";
+			marketString.append("[").append(i).append("] ");
 
 			if (criterionPiles.get(i) != null)
 			{
-				marketString += criterionPiles.get(i).getTopCard() + "\t";
+				marketString.append(criterionPiles.get(i).getTopCard()).append("\t");
 			}
 			else
 			{
-				marketString += "Empty\t";
+				marketString.append("Empty\t");
 			}
 		}
 
-		marketString += "\nVeggie cards:\t";
+		marketString.append("\nVeggie cards:\t");
 
-		for (int i = 0; i<NUM_VEGETABLE_CARDS; i++)
+		for (int i = 0; i<settings.getNumVegetableCards(); i++)
 		{
-			if (i != 0 && i % NUM_DRAW_PILES == 0)
+			if (i != 0 && i % settings.getNumDrawPiles() == 0)
 			{
 				// Gets to the next line to respect the column display
-				marketString += "\n\t\t";
+				marketString.append("\n\t\t");
 			}
 
-			marketString += "[" + ALPHABET.charAt(i) + "] ";
+			marketString.append("[").append(ALPHABET.charAt(i)).append("] ");
 
 			if (vegetableCards.get(i) != null)
 			{
-				marketString += vegetableCards.get(i) + "\t";
+				marketString.append(vegetableCards.get(i)).append("\t");
 			}
 			else
 			{
-				marketString += "Empty\t";
+				marketString.append("Empty\t");
 			}
 		}
 
-		return marketString;
+		// Caches the result, with what it depends on
+		cachedString = marketString.toString();
+		cachedCards = cards;
+		cachedSides = new boolean[cards.length];
+		for (int i = 0; i < cards.length; i++) {
+			cachedSides[i] = cards[i] != null && cards[i].isCriterionSideUp();
+		}
+
+		return cachedString;
 	}
 }
@@ -0,0 +1,149 @@
+package game.market;
+
+import cards.PointSaladCard;
+
+/**
+ * A change of a Point Salad market, small enough to be sent or logged instead of the whole market.
+ * Replaying the events of a market on a copy of it gives the same market.
+ */
+public final class PointSaladMarketEvent {
+
+	/** Types of the changes of a market. */
+	public enum Type {
+		/** The card of a vegetable slot was taken. */
+		SLOT_EMPTIED,
+		/** A vegetable slot received a card. */
+		SLOT_FILLED,
+		/** The top card of a criterion pile was taken. */
+		PILE_DRAWN,
+		/** An empty criterion pile received the bottom half of another pile. */
+		PILE_REBALANCED,
+		/** Several parts of the market were replaced at once, so the whole market should be read again. */
+		RESET
+	}
+
+	private final Type type;
+	private final int index;
+	private final int sourceIndex;
+	private final PointSaladCard card;
+
+	private PointSaladMarketEvent(Type type, int index, int sourceIndex, PointSaladCard card) {
+		this.type = type;
+		this.index = index;
+		this.sourceIndex = sourceIndex;
+		this.card = card;
+	}
+
+	/**
+	 * Creates the event of a vegetable slot being emptied.
+	 * 
+	 * @param slotIndex The index of the slot
+	 * 
+	 * @return The event
+	 */
+	public static PointSaladMarketEvent slotEmptied(int slotIndex) {
+		return new PointSaladMarketEvent(Type.SLOT_EMPTIED, slotIndex, -1, null);
+	}
+
+	/**
+	 * Creates the event of a vegetable slot being filled.
+	 * 
+	 * @param slotIndex The index of the slot
+	 * @param card The card put in the slot
+	 * 
+	 * @return The event
+	 */
+	public static PointSaladMarketEvent slotFilled(int slotIndex, PointSaladCard card) {
+		return new PointSaladMarketEvent(Type.SLOT_FILLED, slotIndex, -1, card);
+	}
+
+	/**
+	 * Creates the event of the top card of a criterion pile being drawn.
+	 * 
+	 * @param pileIndex The index of the pile
+	 * @param card The card drawn
+	 * 
+	 * @return The event
+	 */
+	public static PointSaladMarketEvent pileDrawn(int pileIndex, PointSaladCard card) {
+		return new PointSaladMarketEvent(Type.PILE_DRAWN, pileIndex, -1, card);
+	}
+
+	/**
+	 * Creates the event of an empty criterion pile being refilled from another one.
+	 * 
+	 * @param pileIndex The index of the refilled pile
+	 * @param sourceIndex The index of the pile which gave its bottom half
+	 * 
+	 * @return The event
+	 */
+	public static PointSaladMarketEvent pileRebalanced(int pileIndex, int sourceIndex) {
+		return new PointSaladMarketEvent(Type.PILE_REBALANCED, pileIndex, sourceIndex, null);
+	}
+
+	/**
+	 * Creates the event of the market being replaced.
+	 * 
+	 * @return The event
+	 */
+	public static PointSaladMarketEvent reset() {
+		return new PointSaladMarketEvent(Type.RESET, -1, -1, null);
+	}
+
+	/**
+	 * Gets the type of the change.
+	 * 
+	 * @return The type of the change
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the index of the slot or of the pile which changed.
+	 * 
+	 * @return The index of the slot or of the pile, or -1 for a reset
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the index of the pile which gave its bottom half, for a rebalanced pile.
+	 * 
+	 * @return The index of the source pile, or -1 for the other types
+	 */
+	public int getSourceIndex() {
+		return sourceIndex;
+	}
+
+	/**
+	 * Gets the card which was drawn or put in a slot.
+	 * 
+	 * @return The card, or null for the types without a card
+	 */
+	public PointSaladCard getCard() {
+		return card;
+	}
+
+	/**
+	 * Gets a short description of the change, such as "SLOT_FILLED B CARROT" or "PILE_REBALANCED 2 FROM 0".
+	 * 
+	 * @return The description of the change
+	 */
+	@Override
+	public String toString() {
+		switch (type) {
+			case SLOT_EMPTIED:
+				return type + " " + PointSaladMarket.ALPHABET.charAt(index);
+			case SLOT_FILLED:
+				return type + " " + PointSaladMarket.ALPHABET.charAt(index) + " " + card.getVegetable();
+			case PILE_DRAWN:
+				return type + " " + index;
+			case PILE_REBALANCED:
+				return type + " " + index + " FROM " + sourceIndex;
+			default:
+				return type.toString();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package game.market;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import cards.PointSaladCard;
+import exceptions.MarketException;
+
+/**
+ * Feed of the changes of a Point Salad market for the players, sent in place of the whole market.
+ *
+ * The first time a player reads the market, and after the market was replaced, the whole market is given.
+ * Afterwards, only the changes since the last time the player read the market are given, one short line per change.
+ * The change of a pile also gives its new top card, since the event does not carry it.
+ */
+public class PointSaladMarketFeed implements IMarketListener {
+
+	/**
+	 * What a player has yet to read of the market.
+	 */
+	private static class Reader {
+		private final ArrayList<String> changes = new ArrayList<String>();
+		private boolean needsWholeMarket = true;
+		private String lastView; // Last view read by the player, given again until the market changes
+	}
+
+	private final HashMap<Integer, Reader> readers = new HashMap<Integer, Reader>();
+
+	/**
+	 * Creates a feed for the given players.
+	 *
+	 * @param playerIDs The IDs of the players reading the market
+	 */
+	public PointSaladMarketFeed(Iterable<Integer> playerIDs) {
+		for (int playerID : playerIDs) {
+			readers.put(playerID, new Reader());
+		}
+	}
+
+	@Override
+	public void marketChanged(PointSaladMarket market, PointSaladMarketEvent event) {
+		String change = null;
+		if (event.getType() != PointSaladMarketEvent.Type.RESET) {
+			change = describe(market, event);
+		}
+
+		for (Reader reader : readers.values()) {
+			reader.lastView = null;
+			if (change == null) {
+				reader.changes.clear();
+				reader.needsWholeMarket = true;
+			} else if (!reader.needsWholeMarket) {
+				reader.changes.add(change);
+			}
+		}
+	}
+
+	/**
+	 * Describes a change of the market in one line.
+	 */
+	private static String describe(PointSaladMarket market, PointSaladMarketEvent event) {
+		if (event.getType() != PointSaladMarketEvent.Type.PILE_DRAWN && event.getType() != PointSaladMarketEvent.Type.PILE_REBALANCED) {
+			return event.toString();
+		}
+		try {
+			PointSaladCard topCard = market.getPile(event.getIndex()).getTopCard();
+			return event + ", top: " + (topCard == null ? "Empty" : topCard.toString());
+		} catch (MarketException e) {
+			// The event comes from the market, so its index is always valid
+			return event.toString();
+		}
+	}
+
+	/**
+	 * Gets what the given player has yet to read of the market, and marks it as read.
+	 *
+	 * @param playerID The ID of the player
+	 * @param market The market followed by the feed
+	 *
+	 * @return The whole market, or the changes since the player last read it
+	 */
+	public String getMarketView(int playerID, PointSaladMarket market) {
+		Reader reader = readers.get(playerID);
+		if (reader == null) {
+			return "The piles are: " + market.toString();
+		}
+		if (reader.lastView != null) {
+			return reader.lastView;
+		}
+
+		if (reader.needsWholeMarket) {
+			reader.lastView = "The piles are: " + market.toString();
+			reader.needsWholeMarket = false;
+		} else {
+			StringBuilder view = new StringBuilder("Market changes since your last turn:");
+			for (String change : reader.changes) {
+				view.append("\n  ").append(change);
+			}
+			reader.lastView = view.toString();
+		}
+		reader.changes.clear();
+		return reader.lastView;
+	}
+}
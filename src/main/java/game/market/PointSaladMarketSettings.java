@@ -0,0 +1,149 @@
+package game.market;
+
+import exceptions.ConfigException;
+import tools.Config;
+
+/**
+ * Immutable layout of a Point Salad market: its number of criterion piles and vegetable slots,
+ * and how many cards of each type a player may draft in a turn.
+ * 
+ * Each market has its own settings, so games with different layouts can run in the same process.
+ */
+public final class PointSaladMarketSettings {
+
+	/** Maximum number of criterion piles, each one being drafted with a single digit. */
+	public static final int MAX_DRAW_PILES = 10;
+	/** Maximum number of vegetable slots, each one being drafted with a single letter. */
+	public static final int MAX_VEGETABLE_CARDS = PointSaladMarket.ALPHABET.length();
+
+	private final int numDrawPiles;
+	private final int numVegetableCards;
+	private final int criterionDraft;
+	private final int vegetableDraft;
+
+	/**
+	 * Settings read from the configuration file, only loaded when first needed.
+	 */
+	private static final class DefaultHolder {
+		private static final PointSaladMarketSettings DEFAULT = fromConfig();
+	}
+
+	/**
+	 * Constructor for the PointSaladMarketSettings class.
+	 * 
+	 * @param numDrawPiles The number of criterion piles
+	 * @param numVegetableCards The number of vegetable slots
+	 * @param criterionDraft The maximum number of criterion cards drafted in a turn
+	 * @param vegetableDraft The maximum number of vegetable cards drafted in a turn
+	 */
+	public PointSaladMarketSettings(int numDrawPiles, int numVegetableCards, int criterionDraft, int vegetableDraft) {
+		if (numDrawPiles <= 0 || numDrawPiles > MAX_DRAW_PILES) {
+			throw new IllegalArgumentException("The number of criterion piles must be between 1 and " + MAX_DRAW_PILES + ": " + numDrawPiles);
+		}
+		if (numVegetableCards <= 0 || numVegetableCards > MAX_VEGETABLE_CARDS) {
+			throw new IllegalArgumentException("The number of vegetable cards must be between 1 and " + MAX_VEGETABLE_CARDS + ": " + numVegetableCards);
+		}
+		if (criterionDraft <= 0 || vegetableDraft <= 0) {
+			throw new IllegalArgumentException("A player must be able to draft at least one card of each type: " +
+			criterionDraft + " criterion, " + vegetableDraft + " vegetable");
+		}
+		this.numDrawPiles = numDrawPiles;
+		this.numVegetableCards = numVegetableCards;
+		this.criterionDraft = criterionDraft;
+		this.vegetableDraft = vegetableDraft;
+	}
+
+	/**
+	 * Reads the settings from the configuration file, using the default layout if it cannot be loaded.
+	 * 
+	 * @return The settings of the configuration file
+	 */
+	public static PointSaladMarketSettings fromConfig() {
+		int numDrawPiles = 3;
+		int numVegetableCards = 6;
+		int criterionDraft = 1;
+		int vegetableDraft = 2;
+
+		try {
+			Config config = Config.getInstance();
+			numDrawPiles = config.getInt("PS_numDrawPiles");
+			numVegetableCards = config.getInt("PS_numVegetableCards");
+			criterionDraft = config.getInt("PS_numCriterionDraft");
+			vegetableDraft = config.getInt("PS_numVegetableDraft");
+		} catch (ConfigException e) {
+			e.printStackTrace();
+			// Use default values if configuration loading fails
+		}
+
+		return new PointSaladMarketSettings(numDrawPiles, numVegetableCards, criterionDraft, vegetableDraft);
+	}
+
+	/**
+	 * Gets the settings of the configuration file, loaded on the first call.
+	 * 
+	 * @return The default settings
+	 */
+	public static PointSaladMarketSettings getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Gets the number of criterion piles.
+	 * 
+	 * @return The number of criterion piles
+	 */
+	public int getNumDrawPiles() {
+		return numDrawPiles;
+	}
+
+	/**
+	 * Gets the number of vegetable slots.
+	 * 
+	 * @return The number of vegetable slots
+	 */
+	public int getNumVegetableCards() {
+		return numVegetableCards;
+	}
+
+	/**
+	 * Gets the maximum number of criterion cards drafted in a turn.
+	 * 
+	 * @return The maximum number of criterion cards drafted
+	 */
+	public int getCriterionDraft() {
+		return criterionDraft;
+	}
+
+	/**
+	 * Gets the maximum number of vegetable cards drafted in a turn.
+	 * 
+	 * @return The maximum number of vegetable cards drafted
+	 */
+	public int getVegetableDraft() {
+		return vegetableDraft;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof PointSaladMarketSettings)) {
+			return false;
+		}
+		PointSaladMarketSettings other = (PointSaladMarketSettings) obj;
+		return numDrawPiles == other.numDrawPiles && numVegetableCards == other.numVegetableCards
+				&& criterionDraft == other.criterionDraft && vegetableDraft == other.vegetableDraft;
+	}
+
+	@Override
+	public int hashCode() {
+		return ((numDrawPiles * 31 + numVegetableCards) * 31 + criterionDraft) * 31 + vegetableDraft;
+	}
+
+	@Override
+	public String toString() {
+		return numDrawPiles + " piles, " + numVegetableCards + " vegetable cards, drafting " + criterionDraft +
+		" criterion or " + vegetableDraft + " vegetable cards";
+	}
+}
@@ -0,0 +1,189 @@
+package game.market;
+
+import java.util.ArrayList;
+
+import cards.Pile;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+
+/**
+ * Immutable view of a Point Salad market at a given time, which any thread can read without locking.
+ * 
+ * A snapshot is created in O(piles + slots): the piles are shared views of the piles of the market,
+ * which copy their cards before being modified again, and only the slots are copied.
+ * 
+ * The cards themselves are shared with the market, and may be flipped after the snapshot is taken.
+ * Readers should rely on the position of a card instead of its side: the cards of the piles are
+ * on their criterion side, and the cards of the slots on their vegetable side.
+ */
+public final class PointSaladMarketSnapshot {
+
+	private final int version;
+	private final ArrayList<Pile<PointSaladCard>> piles;
+	private final ArrayList<PointSaladCard> slots;
+
+	/**
+	 * Creates a snapshot. The given lists are owned by the snapshot, and should not be modified anymore.
+	 * 
+	 * @param version The version of the market
+	 * @param piles The shared views of the piles of the market, or null for a missing pile
+	 * @param slots The cards of the vegetable slots, or null for an empty slot
+	 */
+	PointSaladMarketSnapshot(int version, ArrayList<Pile<PointSaladCard>> piles, ArrayList<PointSaladCard> slots) {
+		this.version = version;
+		this.piles = piles;
+		this.slots = slots;
+	}
+
+	/**
+	 * Gets the version of the market when the snapshot was taken.
+	 * 
+	 * @return The version of the market
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the number of criterion piles.
+	 * 
+	 * @return The number of piles
+	 */
+	public int getNbPiles() {
+		return piles.size();
+	}
+
+	/**
+	 * Gets the number of cards of a criterion pile.
+	 * 
+	 * @param pileIndex The index of the pile
+	 * 
+	 * @return The number of cards of the pile, 0 if the pile is missing
+	 */
+	public int getPileSize(int pileIndex) {
+		Pile<PointSaladCard> pile = piles.get(pileIndex);
+		return pile == null ? 0 : pile.size();
+	}
+
+	/**
+	 * Gets a card of a criterion pile.
+	 * 
+	 * @param pileIndex The index of the pile
+	 * @param cardIndex The index of the card, from 0 for the bottom card to getPileSize() - 1 for the top card
+	 * 
+	 * @return The card at the given index
+	 */
+	public PointSaladCard getPileCard(int pileIndex, int cardIndex) {
+		Pile<PointSaladCard> pile = piles.get(pileIndex);
+		if (pile == null) {
+			throw new IndexOutOfBoundsException("The pile " + pileIndex + " is missing.");
+		}
+		return pile.getCard(cardIndex);
+	}
+
+	/**
+	 * Gets the top card of a criterion pile, which can be drafted.
+	 * 
+	 * @param pileIndex The index of the pile
+	 * 
+	 * @return The top card of the pile, or null if the pile is empty or missing
+	 */
+	public PointSaladCard getTopCard(int pileIndex) {
+		Pile<PointSaladCard> pile = piles.get(pileIndex);
+		return pile == null ? null : pile.getTopCard();
+	}
+
+	/**
+	 * Gets the criterion of the top card of a criterion pile.
+	 * 
+	 * @param pileIndex The index of the pile
+	 * 
+	 * @return The criterion of the top card, or null if the pile is empty or missing
+	 */
+	public ICriterion getTopCriterion(int pileIndex) {
+		PointSaladCard card = getTopCard(pileIndex);
+		return card == null ? null : card.getCriterion();
+	}
+
+	/**
+	 * Gets the number of vegetable slots.
+	 * 
+	 * @return The number of slots
+	 */
+	public int getNbSlots() {
+		return slots.size();
+	}
+
+	/**
+	 * Gets the card of a vegetable slot.
+	 * 
+	 * @param slotIndex The index of the slot
+	 * 
+	 * @return The card of the slot, or null if the slot is empty
+	 */
+	public PointSaladCard getSlotCard(int slotIndex) {
+		return slots.get(slotIndex);
+	}
+
+	/**
+	 * Gets the vegetable of a vegetable slot.
+	 * 
+	 * @param slotIndex The index of the slot
+	 * 
+	 * @return The vegetable of the card of the slot, or null if the slot is empty
+	 */
+	public Vegetable getSlotVegetable(int slotIndex) {
+		PointSaladCard card = slots.get(slotIndex);
+		return card == null ? null : card.getVegetable();
+	}
+
+	/**
+	 * Gets the bitmask of the criterion piles which have cards left, bit i standing for the pile at index i.
+	 * 
+	 * @return The bitmask of the available piles
+	 */
+	public int getAvailablePileMask() {
+		int mask = 0;
+		for (int i = 0; i < piles.size(); i++) {
+			if (getPileSize(i) > 0) {
+				mask |= 1 << i;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Gets the bitmask of the vegetable slots holding a card, bit i standing for the slot at index i.
+	 * 
+	 * @return The bitmask of the available slots
+	 */
+	public int getAvailableSlotMask() {
+		int mask = 0;
+		for (int i = 0; i < slots.size(); i++) {
+			if (slots.get(i) != null) {
+				mask |= 1 << i;
+			}
+		}
+		return mask;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Market:\nPoint cards:\t");
+		for (int i = 0; i < piles.size(); i++) {
+			PointSaladCard card = getTopCard(i);
+			builder.append("[").append(i).append("] ");
+			builder.append(card == null ? "Empty" : card.getCriterion().getCriterionDisplay() + " (" + card.getVegetable() + ")").append("\t");
+		}
+		builder.append("\nVeggie cards:\t");
+		for (int i = 0; i < slots.size(); i++) {
+			if (i != 0 && piles.size() != 0 && i % piles.size() == 0) {
+				builder.append("\n\t\t");
+			}
+			Vegetable veggie = getSlotVegetable(i);
+			builder.append("[").append(PointSaladMarket.ALPHABET.charAt(i)).append("] ").append(veggie == null ? "Empty" : veggie).append("\t");
+		}
+		return builder.toString();
+	}
+}
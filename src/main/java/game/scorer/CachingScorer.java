@@ -0,0 +1,349 @@
+package game.scorer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.ScoringContext;
+import exceptions.ScorerException;
+import players.AbstractPlayer;
+
+/**
+ * Scorer keeping the scores computed by another scorer in a bounded cache, evicting the least recently used ones.
+ * 
+ * A score is keyed by a canonical signature of the position: the multiset of the criteria of the hand, the vegetable
+ * counts of the hand, and the multiset of the vegetable counts of the other players. Two positions with the same
+ * signature always have the same score, whatever the order of the cards or of the players.
+ * Criteria are compared by identity, which works because criteria are immutable and shared between the cards.
+ * The signatures hold their criteria, so the criteria seen by the cache are only kept as long as their scores are.
+ * 
+ * The cache can be used by several threads at once: it is split in stripes, each with its own lock, evicting its own
+ * least recently used score. The score changes of the delta methods are not cached, since computing them is already
+ * cheaper than building a signature.
+ */
+public class CachingScorer implements IScorer {
+
+	/** The default number of scores kept in the cache. */
+	public static final int DEFAULT_CAPACITY = 10000;
+	/** The maximum number of stripes of the cache. */
+	private static final int MAX_STRIPES = 16;
+	/** The minimum capacity of a stripe, so that small caches keep an exact least recently used order. */
+	private static final int MIN_STRIPE_CAPACITY = 256;
+
+	/**
+	 * Canonical signature of a position.
+	 */
+	private static final class Signature {
+		private final ICriterion[] criteria; // Sorted by identity hash code
+		private final int[] playerCounts;
+		private final int[][] otherCounts;
+		private final int hash;
+
+		private Signature(ICriterion[] criteria, int[] playerCounts, int[][] otherCounts) {
+			this.criteria = criteria;
+			this.playerCounts = playerCounts;
+			this.otherCounts = otherCounts;
+			int criteriaHash = 1;
+			for (ICriterion criterion : criteria) {
+				criteriaHash = 31 * criteriaHash + System.identityHashCode(criterion);
+			}
+			this.hash = 31 * (31 * criteriaHash + Arrays.hashCode(playerCounts)) + Arrays.deepHashCode(otherCounts);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Signature)) {
+				return false;
+			}
+			Signature other = (Signature) obj;
+			if (hash != other.hash || criteria.length != other.criteria.length) {
+				return false;
+			}
+			for (int i = 0; i < criteria.length; i++) {
+				if (criteria[i] != other.criteria[i]) {
+					return false;
+				}
+			}
+			return Arrays.equals(playerCounts, other.playerCounts) && Arrays.deepEquals(otherCounts, other.otherCounts);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Part of the cache, evicting its least recently used score.
+	 */
+	private static final class Stripe extends LinkedHashMap<Signature, Integer> {
+		private static final long serialVersionUID = 1L;
+		private final int capacity;
+
+		private Stripe(int capacity) {
+			// An access ordered map evicts its least recently used entry
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Signature, Integer> eldest) {
+			return size() > capacity;
+		}
+	}
+
+	private final IScorer scorer;
+	private final Stripe[] stripes;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Creates a caching scorer for the given scorer, keeping at most {@link #DEFAULT_CAPACITY} scores.
+	 * 
+	 * @param scorer The scorer used to compute the scores which are not cached
+	 */
+	public CachingScorer(IScorer scorer) {
+		this(scorer, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a caching scorer for the given scorer.
+	 * 
+	 * @param scorer The scorer used to compute the scores which are not cached
+	 * @param capacity The maximum number of scores kept in the cache
+	 */
+	public CachingScorer(IScorer scorer, int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("The capacity of the cache must be positive: " + capacity);
+		}
+		this.scorer = scorer;
+
+		// A power of two number of stripes, each large enough to keep its least recently used order meaningful
+		int nbStripes = 1;
+		while (nbStripes < MAX_STRIPES && capacity / (nbStripes * 2) >= MIN_STRIPE_CAPACITY) {
+			nbStripes *= 2;
+		}
+		this.stripes = new Stripe[nbStripes];
+		for (int i = 0; i < nbStripes; i++) {
+			// The first stripes take the remainder of the capacity
+			stripes[i] = new Stripe(capacity / nbStripes + (i < capacity % nbStripes ? 1 : 0));
+		}
+	}
+
+	/**
+	 * Gets the stripe of the cache holding a signature.
+	 */
+	private Stripe getStripe(Signature signature) {
+		int hash = signature.hashCode();
+		return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+	}
+
+	/**
+	 * Gets a cached score, counting a hit or a miss.
+	 * 
+	 * @return The cached score, or null if it is not in the cache
+	 */
+	private Integer getCached(Signature signature) {
+		Stripe stripe = getStripe(signature);
+		Integer score;
+		synchronized (stripe) {
+			score = stripe.get(signature);
+		}
+		if (score != null) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+		}
+		return score;
+	}
+
+	/**
+	 * Adds a score to the cache.
+	 */
+	private void putCached(Signature signature, int score) {
+		Stripe stripe = getStripe(signature);
+		synchronized (stripe) {
+			stripe.put(signature, score);
+		}
+	}
+
+	/**
+	 * Creates the signature of a position.
+	 */
+	private Signature createSignature(ArrayList<PointSaladCard> criteriaHand, PointSaladVeggieCounts playerCounts,
+										ArrayList<PointSaladVeggieCounts> otherCounts) {
+		ICriterion[] criteria = new ICriterion[criteriaHand.size()];
+		for (int i = 0; i < criteria.length; i++) {
+			criteria[i] = criteriaHand.get(i).getCriterion();
+		}
+		// Criteria with the same identity hash code may stay unordered, which only costs a cache miss
+		Arrays.sort(criteria, (a, b) -> Integer.compare(System.identityHashCode(a), System.identityHashCode(b)));
+
+		int[] counts = new int[PointSaladVeggieCounts.NB_VEGGIES];
+		playerCounts.copyTo(counts);
+
+		int[][] others = new int[otherCounts.size()][PointSaladVeggieCounts.NB_VEGGIES];
+		for (int i = 0; i < others.length; i++) {
+			otherCounts.get(i).copyTo(others[i]);
+		}
+		// The score does not depend on the order of the other players
+		Arrays.sort(others, (a, b) -> {
+			for (int v = 0; v < a.length; v++) {
+				if (a[v] != b[v]) {
+					return Integer.compare(a[v], b[v]);
+				}
+			}
+			return 0;
+		});
+
+		return new Signature(criteria, counts, others);
+	}
+
+	/**
+	 * Creates the signature of the position of a player of the table.
+	 */
+	private Signature createSignature(HashMap<Integer, AbstractPlayer> players, int playerID) {
+		AbstractPlayer player = players.get(playerID);
+		ArrayList<AbstractPlayer> otherPlayers = AbstractPlayer.getOtherPlayers(new ArrayList<>(players.values()), playerID);
+		return createSignature(player.getIndexedHand().getCriteriaCards(), player.getIndexedHand().getVeggieCounts(),
+								AbstractPlayer.getVeggieCounts(otherPlayers));
+	}
+
+	@Override
+	public int calculateScore(HashMap<Integer, AbstractPlayer> players, int playerID) throws ScorerException {
+		Signature signature = createSignature(players, playerID);
+		Integer score = getCached(signature);
+		if (score == null) {
+			score = scorer.calculateScore(players, playerID);
+			putCached(signature, score);
+		}
+		return score;
+	}
+
+	@Override
+	public HashMap<Integer, Integer> calculateScores(HashMap<Integer, AbstractPlayer> players) throws ScorerException {
+		HashMap<Integer, Integer> scores = new HashMap<>();
+		HashMap<Integer, Signature> missedSignatures = new HashMap<>();
+		for (int id : players.keySet()) {
+			Signature signature = createSignature(players, id);
+			Integer score = getCached(signature);
+			if (score == null) {
+				missedSignatures.put(id, signature);
+			} else {
+				scores.put(id, score);
+			}
+		}
+		if (missedSignatures.isEmpty()) {
+			return scores;
+		}
+
+		// The other scorer scores the whole table at once, sharing its work between the players
+		HashMap<Integer, Integer> computedScores = scorer.calculateScores(players);
+		for (Map.Entry<Integer, Signature> entry : missedSignatures.entrySet()) {
+			int score = computedScores.get(entry.getKey());
+			putCached(entry.getValue(), score);
+			scores.put(entry.getKey(), score);
+		}
+		return scores;
+	}
+
+	@Override
+	public ScoreReport calculateScoreReport(HashMap<Integer, AbstractPlayer> players, ForkJoinPool pool) throws ScorerException {
+		// The report times every criterion, so it is never served from the cache
+		return scorer.calculateScoreReport(players, pool);
+	}
+
+	@Override
+	public int calculateScore(ArrayList<ICard> hand, ArrayList<ArrayList<ICard>> otherHands) throws ScorerException {
+		for (int i = 0; i < hand.size(); i++) {
+			if (!(hand.get(i) instanceof PointSaladCard)) {
+				// Only Point Salad hands have a signature
+				misses.incrementAndGet();
+				return scorer.calculateScore(hand, otherHands);
+			}
+		}
+
+		ArrayList<PointSaladCard> criteriaHand = PointSaladCard.getCriteriaHand(PointSaladCard.convertHand(hand));
+		Signature signature = createSignature(criteriaHand, PointSaladVeggieCounts.fromHand(hand), PointSaladVeggieCounts.fromHands(otherHands));
+
+		Integer score = getCached(signature);
+		if (score == null) {
+			score = scorer.calculateScore(hand, otherHands);
+			putCached(signature, score);
+		}
+		return score;
+	}
+
+	@Override
+	public int calculateAddVeggieDelta(ArrayList<PointSaladCard> criteriaHand, ScoringContext context, Vegetable veggie) throws ScorerException {
+		return scorer.calculateAddVeggieDelta(criteriaHand, context, veggie);
+	}
+
+	@Override
+	public int calculateAddCriterionDelta(ScoringContext context, PointSaladCard criterionCard) throws ScorerException {
+		return scorer.calculateAddCriterionDelta(context, criterionCard);
+	}
+
+	@Override
+	public int calculateFlipDelta(ArrayList<PointSaladCard> criteriaHand, ScoringContext context, PointSaladCard cardToFlip) throws ScorerException {
+		return scorer.calculateFlipDelta(criteriaHand, context, cardToFlip);
+	}
+
+	/**
+	 * Gets the number of scores served from the cache.
+	 * 
+	 * @return The number of cache hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of scores computed by the other scorer.
+	 * 
+	 * @return The number of cache misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the number of scores currently in the cache.
+	 * 
+	 * @return The number of cached scores
+	 */
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Empties the cache and resets the counters.
+	 */
+	public void clear() {
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+}
@@ -2,8 +2,12 @@ package game.scorer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
 import exceptions.ScorerException;
 import players.AbstractPlayer;
 
@@ -24,6 +28,29 @@ public interface IScorer {
 	 */
 	public int calculateScore(HashMap<Integer, AbstractPlayer> players, int playerID) throws ScorerException;
 
+	/**
+	 * Calculates the score of every player at once. It may depend on other players' hands.
+	 * 
+	 * @param players The HashMap of players
+	 * 
+	 * @return The score of each player, by player ID
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	public HashMap<Integer, Integer> calculateScores(HashMap<Integer, AbstractPlayer> players) throws ScorerException;
+
+	/**
+	 * Calculates the score of every player, with the points given by each criterion and how long it took to evaluate.
+	 * 
+	 * @param players The HashMap of players
+	 * @param pool The pool on which the players are scored in parallel, or null to score them one after another
+	 * 
+	 * @return The report of the scores
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	public ScoreReport calculateScoreReport(HashMap<Integer, AbstractPlayer> players, ForkJoinPool pool) throws ScorerException;
+
 	/**
 	 * Calculates the score of a hand. It may depend on other players' hands.
 	 * 
@@ -35,4 +62,42 @@ public interface IScorer {
 	 * @throws ScorerException If there is an error during the scoring process
 	 */
 	public int calculateScore(ArrayList<ICard> hand, ArrayList<ArrayList<ICard>> otherHands) throws ScorerException;
+
+	/**
+	 * Calculates how the score of a player would change if a vegetable card was added to its hand.
+	 * 
+	 * @param criteriaHand The criterion side cards of the player's hand
+	 * @param context The scoring context of the player
+	 * @param veggie The vegetable of the added card
+	 * 
+	 * @return The score after adding the card, minus the current score
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	public int calculateAddVeggieDelta(ArrayList<PointSaladCard> criteriaHand, ScoringContext context, Vegetable veggie) throws ScorerException;
+
+	/**
+	 * Calculates how the score of a player would change if a criterion card was added to its hand.
+	 * 
+	 * @param context The scoring context of the player
+	 * @param criterionCard The added card, on its criterion side
+	 * 
+	 * @return The score after adding the card, minus the current score
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	public int calculateAddCriterionDelta(ScoringContext context, PointSaladCard criterionCard) throws ScorerException;
+
+	/**
+	 * Calculates how the score of a player would change if one of its criterion cards was flipped to its vegetable side.
+	 * 
+	 * @param criteriaHand The criterion side cards of the player's hand
+	 * @param context The scoring context of the player
+	 * @param cardToFlip The card to flip, which must be one of the criterion side cards
+	 * 
+	 * @return The score after flipping the card, minus the current score
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	public int calculateFlipDelta(ArrayList<PointSaladCard> criteriaHand, ScoringContext context, PointSaladCard cardToFlip) throws ScorerException;
 }
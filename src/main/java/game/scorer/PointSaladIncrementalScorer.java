@@ -0,0 +1,331 @@
+package game.scorer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.ScoringContext;
+import exceptions.CriterionException;
+import exceptions.ScorerException;
+import players.AbstractPlayer;
+import players.IHandListener;
+
+/**
+ * Scorer keeping a live score for each player of a game, updated on every change of their hands.
+ * 
+ * It listens to the hands of the players it follows. When a card is added or flipped, only the criteria which can be
+ * affected are scored again: the criteria of the player depending on the changed vegetable, and the comparative criteria
+ * of the other players on this vegetable. Cards drafted from the market go through the same path, since drafting adds them
+ * to the hand of the player. The scores of the followed players can then be read in O(1), and the final score report is
+ * built from the kept points of each criterion card, without scoring anything again. The pool given for the report is
+ * therefore only used for a table which is not the followed one.
+ * 
+ * Only the changes made through the methods of the players are seen. Players which are not followed are scored like
+ * {@link PointSaladScorer} does.
+ * 
+ * A criterion failing to score while a hand changes can not be reported to the player changing its hand, so the kept
+ * scores are marked as stale instead. They are all computed again on the next request, which then reports the failure.
+ */
+public class PointSaladIncrementalScorer extends PointSaladScorer implements IHandListener {
+
+	/**
+	 * Live score of a followed player, with the current score of each of its criterion cards.
+	 */
+	private static class TrackedPlayer {
+		private final AbstractPlayer player;
+		private final IdentityHashMap<PointSaladCard, Integer> criterionScores = new IdentityHashMap<PointSaladCard, Integer>();
+		// Time taken by the last evaluation of each criterion card, in nanoseconds
+		private final IdentityHashMap<PointSaladCard, Long> criterionNanos = new IdentityHashMap<PointSaladCard, Long>();
+		private int score;
+		// Context of the player for the change being processed, built at most once per change
+		private ScoringContext context;
+
+		private TrackedPlayer(AbstractPlayer player) {
+			this.player = player;
+		}
+	}
+
+	private final ArrayList<TrackedPlayer> trackedPlayers = new ArrayList<TrackedPlayer>();
+	private final IdentityHashMap<AbstractPlayer, TrackedPlayer> trackedByPlayer = new IdentityHashMap<AbstractPlayer, TrackedPlayer>();
+	private boolean stale = false; // Whether a change of a hand could not be scored, so the kept scores are wrong
+
+	/**
+	 * Creates an incremental scorer following the given players.
+	 * 
+	 * @param players The players of the game
+	 * 
+	 * @throws ScorerException If the current scores of the players could not be computed
+	 */
+	public PointSaladIncrementalScorer(ArrayList<AbstractPlayer> players) throws ScorerException {
+		for (AbstractPlayer player : players) {
+			TrackedPlayer trackedPlayer = new TrackedPlayer(player);
+			trackedPlayers.add(trackedPlayer);
+			trackedByPlayer.put(player, trackedPlayer);
+			player.addHandListener(this);
+		}
+		recomputeAll();
+	}
+
+	/**
+	 * Stops following the players. The scores are not updated anymore.
+	 */
+	public void detach() {
+		for (TrackedPlayer trackedPlayer : trackedPlayers) {
+			trackedPlayer.player.removeHandListener(this);
+		}
+	}
+
+	/**
+	 * Gets the live score of a followed player.
+	 * 
+	 * @param player The player
+	 * 
+	 * @return The current score of the player
+	 * 
+	 * @throws ScorerException If the player is not followed by this scorer, or if the scores could not be computed again
+	 * after a failed change
+	 */
+	public int getScore(AbstractPlayer player) throws ScorerException {
+		TrackedPlayer trackedPlayer = trackedByPlayer.get(player);
+		if (trackedPlayer == null) {
+			throw new ScorerException("Player " + player.getPlayerID() + " is not followed by the incremental scorer.");
+		}
+		refreshIfStale();
+		return trackedPlayer.score;
+	}
+
+	/**
+	 * Computes the kept scores again if a change of a hand could not be scored.
+	 * 
+	 * @throws ScorerException If a criterion could not be scored
+	 */
+	private void refreshIfStale() throws ScorerException {
+		if (stale) {
+			recomputeAll();
+		}
+	}
+
+	/**
+	 * Tells if every given player is followed by this scorer.
+	 */
+	private boolean tracksAll(Iterable<AbstractPlayer> players) {
+		int nbPlayers = 0;
+		for (AbstractPlayer player : players) {
+			if (!trackedByPlayer.containsKey(player)) {
+				return false;
+			}
+			nbPlayers++;
+		}
+		// Other players may change the comparative criteria, so the table must be exactly the followed one
+		return nbPlayers == trackedPlayers.size();
+	}
+
+	@Override
+	public int calculateScore(HashMap<Integer, AbstractPlayer> players, int playerID) throws ScorerException {
+		if (tracksAll(players.values())) {
+			return getScore(players.get(playerID));
+		}
+		return super.calculateScore(players, playerID);
+	}
+
+	@Override
+	public HashMap<Integer, Integer> calculateScores(HashMap<Integer, AbstractPlayer> players) throws ScorerException {
+		if (!tracksAll(players.values())) {
+			return super.calculateScores(players);
+		}
+
+		HashMap<Integer, Integer> scores = new HashMap<>();
+		for (AbstractPlayer player : players.values()) {
+			scores.put(player.getPlayerID(), getScore(player));
+		}
+		return scores;
+	}
+
+	@Override
+	public ScoreReport calculateScoreReport(HashMap<Integer, AbstractPlayer> players, ForkJoinPool pool) throws ScorerException {
+		if (!tracksAll(players.values())) {
+			return super.calculateScoreReport(players, pool);
+		}
+
+		// The points are already known, so the pool is not needed
+		refreshIfStale();
+		long start = System.nanoTime();
+		LinkedHashMap<Integer, ArrayList<ScoreReport.CriterionScore>> criterionScores = new LinkedHashMap<>();
+		for (AbstractPlayer player : players.values()) {
+			TrackedPlayer trackedPlayer = trackedByPlayer.get(player);
+			ArrayList<PointSaladCard> criteriaHand = player.getIndexedHand().getCriteriaCards();
+			ArrayList<ScoreReport.CriterionScore> playerScores = new ArrayList<>(criteriaHand.size());
+			for (PointSaladCard card : criteriaHand) {
+				Integer points = trackedPlayer.criterionScores.get(card);
+				if (points == null) {
+					throw new ScorerException("Criterion '" + card.getCriterion() + "' of player " + player.getPlayerID() +
+							" was changed without notifying the incremental scorer.");
+				}
+				playerScores.add(new ScoreReport.CriterionScore(card.getCriterion().getCriterionDisplay(), points,
+						trackedPlayer.criterionNanos.get(card)));
+			}
+			criterionScores.put(player.getPlayerID(), playerScores);
+		}
+		return new ScoreReport(criterionScores, System.nanoTime() - start);
+	}
+
+	/**
+	 * Gets the scoring context of a followed player for the change being processed.
+	 */
+	private ScoringContext getContext(TrackedPlayer trackedPlayer) {
+		if (trackedPlayer.context == null) {
+			ArrayList<AbstractPlayer> otherPlayers = new ArrayList<AbstractPlayer>(trackedPlayers.size() - 1);
+			for (TrackedPlayer other : trackedPlayers) {
+				if (other != trackedPlayer) {
+					otherPlayers.add(other.player);
+				}
+			}
+			trackedPlayer.context = ScoringContext.fromCounts(trackedPlayer.player.getIndexedHand().getVeggieCounts(), AbstractPlayer.getVeggieCounts(otherPlayers));
+		}
+		return trackedPlayer.context;
+	}
+
+	/**
+	 * Forgets the contexts built for the change which has just been processed.
+	 */
+	private void clearContexts() {
+		for (TrackedPlayer trackedPlayer : trackedPlayers) {
+			trackedPlayer.context = null;
+		}
+	}
+
+	/**
+	 * Scores a criterion card of a followed player, keeping the time the evaluation took.
+	 */
+	private int scoreCard(TrackedPlayer trackedPlayer, PointSaladCard card) throws CriterionException {
+		ScoringContext context = getContext(trackedPlayer);
+		long start = System.nanoTime();
+		int cardScore = card.getCriterion().computePlayerScore(context);
+		trackedPlayer.criterionNanos.put(card, System.nanoTime() - start);
+		return cardScore;
+	}
+
+	/**
+	 * Scores again every criterion of every followed player.
+	 * 
+	 * @throws ScorerException If a criterion could not be scored
+	 */
+	private void recomputeAll() throws ScorerException {
+		stale = true;
+		try {
+			for (TrackedPlayer trackedPlayer : trackedPlayers) {
+				trackedPlayer.criterionScores.clear();
+				trackedPlayer.criterionNanos.clear();
+				trackedPlayer.score = 0;
+				for (PointSaladCard card : trackedPlayer.player.getIndexedHand().getCriteriaCards()) {
+					int cardScore = scoreCard(trackedPlayer, card);
+					trackedPlayer.criterionScores.put(card, cardScore);
+					trackedPlayer.score += cardScore;
+				}
+			}
+			stale = false;
+		} catch (CriterionException e) {
+			throw new ScorerException("Failed to compute the scores of the players.", e);
+		} finally {
+			clearContexts();
+		}
+	}
+
+	/**
+	 * Scores again the criteria which may be affected by a change of a player's count of a vegetable.
+	 * 
+	 * @param changedPlayer The player whose count changed
+	 * @param veggie The vegetable whose count changed
+	 * 
+	 * @throws CriterionException If a criterion could not be scored
+	 */
+	private void veggieChanged(TrackedPlayer changedPlayer, Vegetable veggie) throws CriterionException {
+		for (TrackedPlayer trackedPlayer : trackedPlayers) {
+			boolean isChangedPlayer = trackedPlayer == changedPlayer;
+
+			for (Map.Entry<PointSaladCard, Integer> entry : trackedPlayer.criterionScores.entrySet()) {
+				ICriterion criterion = entry.getKey().getCriterion();
+				if (!criterion.isAffectedBy(veggie) || (!isChangedPlayer && !criterion.isComparative())) {
+					continue;
+				}
+				int cardScore = scoreCard(trackedPlayer, entry.getKey());
+				trackedPlayer.score += cardScore - entry.getValue();
+				entry.setValue(cardScore);
+			}
+		}
+	}
+
+	@Override
+	public void cardAdded(AbstractPlayer player, ICard card) {
+		TrackedPlayer trackedPlayer = trackedByPlayer.get(player);
+		if (trackedPlayer == null || !(card instanceof PointSaladCard)) {
+			return;
+		}
+		PointSaladCard pointSaladCard = (PointSaladCard) card;
+
+		try {
+			if (pointSaladCard.isCriterionSideUp()) {
+				// A criterion card does not change any count
+				int cardScore = scoreCard(trackedPlayer, pointSaladCard);
+				trackedPlayer.criterionScores.put(pointSaladCard, cardScore);
+				trackedPlayer.score += cardScore;
+			} else {
+				veggieChanged(trackedPlayer, pointSaladCard.getVegetable());
+			}
+		} catch (CriterionException e) {
+			stale = true;
+		} finally {
+			clearContexts();
+		}
+	}
+
+	@Override
+	public void cardFlipped(AbstractPlayer player, ICard card) {
+		TrackedPlayer trackedPlayer = trackedByPlayer.get(player);
+		if (trackedPlayer == null || !(card instanceof PointSaladCard)) {
+			return;
+		}
+		PointSaladCard pointSaladCard = (PointSaladCard) card;
+
+		try {
+			if (pointSaladCard.isCriterionSideUp()) {
+				// The other criteria see one card less, then the card scores as a criterion
+				veggieChanged(trackedPlayer, pointSaladCard.getVegetable());
+				int cardScore = scoreCard(trackedPlayer, pointSaladCard);
+				trackedPlayer.criterionScores.put(pointSaladCard, cardScore);
+				trackedPlayer.score += cardScore;
+			} else {
+				// The card stops scoring as a criterion, then the other criteria see one more card
+				Integer cardScore = trackedPlayer.criterionScores.remove(pointSaladCard);
+				trackedPlayer.criterionNanos.remove(pointSaladCard);
+				if (cardScore != null) {
+					trackedPlayer.score -= cardScore;
+				}
+				veggieChanged(trackedPlayer, pointSaladCard.getVegetable());
+			}
+		} catch (CriterionException e) {
+			stale = true;
+		} finally {
+			clearContexts();
+		}
+	}
+
+	@Override
+	public void handReplaced(AbstractPlayer player) {
+		if (!trackedByPlayer.containsKey(player)) {
+			return;
+		}
+		try {
+			recomputeAll();
+		} catch (ScorerException e) {
+			// Left stale, the failure is reported on the next request of the scores
+		}
+	}
+}
@@ -2,9 +2,21 @@ package game.scorer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import cards.ICard;
 import cards.PointSaladCard;
+import cards.PointSaladTableCounts;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.ScoringContext;
 import exceptions.CriterionException;
 import exceptions.ScorerException;
 import players.AbstractPlayer;
@@ -20,10 +32,123 @@ public class PointSaladScorer implements IScorer {
 		AbstractPlayer player = players.get(playerID);
 		ArrayList<AbstractPlayer> everyPlayers = new ArrayList<>(players.values());
 		ArrayList<AbstractPlayer> otherPlayers = AbstractPlayer.getOtherPlayers(everyPlayers, playerID);
-		ArrayList<ICard> hand = player.getHand();
-		ArrayList<ArrayList<ICard>> otherHands = AbstractPlayer.getHands(otherPlayers);
 
-		return calculateScore(hand, otherHands);
+		// The players' hands keep their criteria and counts up to date, so nothing has to be rebuilt here
+		ArrayList<PointSaladCard> criteriaHand = player.getIndexedHand().getCriteriaCards();
+		PointSaladVeggieCounts playerCounts = player.getIndexedHand().getVeggieCounts();
+		ArrayList<PointSaladVeggieCounts> otherCounts = AbstractPlayer.getVeggieCounts(otherPlayers);
+
+		return calculateScore(criteriaHand, playerCounts, otherCounts);
+	}
+
+	@Override
+	public HashMap<Integer, Integer> calculateScores(HashMap<Integer, AbstractPlayer> players) throws ScorerException {
+		ArrayList<AbstractPlayer> seats = new ArrayList<>(players.values());
+		PointSaladTableCounts tableCounts = new PointSaladTableCounts(AbstractPlayer.getVeggieCounts(seats));
+
+		// Criteria are shared between cards, so each distinct criterion scores the whole table only once
+		IdentityHashMap<ICriterion, int[]> criterionScores = new IdentityHashMap<>();
+		HashMap<Integer, Integer> scores = new HashMap<>();
+
+		for (int seat = 0; seat < seats.size(); seat++) {
+			AbstractPlayer player = seats.get(seat);
+			ArrayList<PointSaladCard> criteriaHand = player.getIndexedHand().getCriteriaCards();
+			int score = 0;
+
+			for (int i = 0; i < criteriaHand.size(); i++) {
+				ICriterion criterion = criteriaHand.get(i).getCriterion();
+				int[] tableScores = criterionScores.get(criterion);
+				if (tableScores == null) {
+					try {
+						tableScores = criterion.computeScoresForAll(tableCounts);
+					}
+					catch (CriterionException e) {
+						throw new ScorerException("Error while computing the score for criterion card n°" + (i+1) +
+						" of player " + player.getPlayerID(), e);
+					}
+					criterionScores.put(criterion, tableScores);
+				}
+				score += tableScores[seat];
+			}
+
+			scores.put(player.getPlayerID(), score);
+		}
+
+		return scores;
+	}
+
+	@Override
+	public ScoreReport calculateScoreReport(HashMap<Integer, AbstractPlayer> players, ForkJoinPool pool) throws ScorerException {
+		long start = System.nanoTime();
+		ArrayList<AbstractPlayer> seats = new ArrayList<>(players.values());
+		// The table counts are only read by the tasks, so they can be shared between threads
+		PointSaladTableCounts tableCounts = new PointSaladTableCounts(AbstractPlayer.getVeggieCounts(seats));
+
+		LinkedHashMap<Integer, ArrayList<ScoreReport.CriterionScore>> criterionScores = new LinkedHashMap<>();
+		if (pool == null) {
+			for (int seat = 0; seat < seats.size(); seat++) {
+				criterionScores.put(seats.get(seat).getPlayerID(), calculateCriterionScores(seats.get(seat), tableCounts, seat));
+			}
+		} else {
+			// Each player is scored by its own task, the criteria being immutable
+			ArrayList<Callable<ArrayList<ScoreReport.CriterionScore>>> tasks = new ArrayList<>();
+			for (int seat = 0; seat < seats.size(); seat++) {
+				final int playerSeat = seat;
+				tasks.add(() -> calculateCriterionScores(seats.get(playerSeat), tableCounts, playerSeat));
+			}
+
+			List<Future<ArrayList<ScoreReport.CriterionScore>>> results = pool.invokeAll(tasks);
+			for (int seat = 0; seat < seats.size(); seat++) {
+				try {
+					criterionScores.put(seats.get(seat).getPlayerID(), results.get(seat).get());
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ScorerException("Interrupted while calculating the scores of the players", e);
+				}
+				catch (ExecutionException e) {
+					if (e.getCause() instanceof ScorerException) {
+						throw (ScorerException) e.getCause();
+					}
+					throw new ScorerException("Error while calculating the score of player " + seats.get(seat).getPlayerID(), e.getCause());
+				}
+			}
+		}
+
+		return new ScoreReport(criterionScores, System.nanoTime() - start);
+	}
+
+	/**
+	 * Calculates the points given by each criterion card of a player, timing each criterion.
+	 * 
+	 * @param player The player to score
+	 * @param tableCounts The vegetable counts of every player
+	 * @param seat The seat of the player in the table counts
+	 * 
+	 * @return The points of each criterion card, in the order of the player's hand
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	private ArrayList<ScoreReport.CriterionScore> calculateCriterionScores(AbstractPlayer player, PointSaladTableCounts tableCounts, int seat) throws ScorerException {
+		ArrayList<PointSaladCard> criteriaHand = player.getIndexedHand().getCriteriaCards();
+		ArrayList<ScoreReport.CriterionScore> criterionScores = new ArrayList<>(criteriaHand.size());
+		ScoringContext context = new ScoringContext(tableCounts, seat);
+
+		for (int i = 0; i < criteriaHand.size(); i++) {
+			ICriterion criterion = criteriaHand.get(i).getCriterion();
+			long start = System.nanoTime();
+			int points;
+			try {
+				points = criterion.computePlayerScore(context);
+			}
+			catch (CriterionException e) {
+				throw new ScorerException("Error while computing the score for criterion card n°" + (i+1) +
+				" of player " + player.getPlayerID(), e);
+			}
+			criterionScores.add(new ScoreReport.CriterionScore(criterion.getCriterionDisplay(), points, System.nanoTime() - start));
+		}
+
+		return criterionScores;
 	}
 
 	@Override
@@ -33,10 +158,43 @@ public class PointSaladScorer implements IScorer {
 		ArrayList<PointSaladCard> pointSaladHand = PointSaladCard.convertHand(hand);
 		ArrayList<PointSaladCard> criteriaHand = PointSaladCard.getCriteriaHand(pointSaladHand);
 
+		if (criteriaHand.isEmpty()) {
+			return score;
+		}
+
+		// Counts every hand once, then every criterion reads the same counts
+		PointSaladVeggieCounts playerCounts = PointSaladVeggieCounts.fromHand(hand);
+		ArrayList<PointSaladVeggieCounts> otherCounts = PointSaladVeggieCounts.fromHands(otherHands);
+
+		return calculateScore(criteriaHand, playerCounts, otherCounts);
+	}
+
+	/**
+	 * Calculates the score granted by the given criterion cards, from precomputed vegetable counts.
+	 * 
+	 * @param criteriaHand The criterion side cards of the hand to calculate the score for
+	 * @param playerCounts The vegetable counts of the hand
+	 * @param otherCounts The vegetable counts of the other players' hands
+	 * 
+	 * @return The score of the hand
+	 * 
+	 * @throws ScorerException If there is an error during the scoring process
+	 */
+	public int calculateScore(ArrayList<PointSaladCard> criteriaHand, PointSaladVeggieCounts playerCounts,
+								ArrayList<PointSaladVeggieCounts> otherCounts) throws ScorerException {
+		int score = 0;
+
+		if (criteriaHand.isEmpty()) {
+			return score;
+		}
+
+		// Every criterion reads the same context, so the table is only processed once
+		ScoringContext context = ScoringContext.fromCounts(playerCounts, otherCounts);
+
 		for (int i = 0; i < criteriaHand.size(); i++) {
 			PointSaladCard card = criteriaHand.get(i);
 			try {
-				score += card.getCriterion().computePlayerScore(hand, otherHands);
+				score += card.getCriterion().computePlayerScore(context);
 			}
 			catch (CriterionException e) {
 				throw new ScorerException("Error while computing the score for criterion card n°" + (i+1), e);
@@ -45,5 +203,58 @@ public class PointSaladScorer implements IScorer {
 
 		return score;
 	}
-	
+
+	@Override
+	public int calculateAddVeggieDelta(ArrayList<PointSaladCard> criteriaHand, ScoringContext context, Vegetable veggie) throws ScorerException {
+		int delta = 0;
+
+		for (int i = 0; i < criteriaHand.size(); i++) {
+			try {
+				delta += criteriaHand.get(i).getCriterion().computeScoreDelta(context, veggie, 1);
+			}
+			catch (CriterionException e) {
+				throw new ScorerException("Error while computing the score change for criterion card n°" + (i+1), e);
+			}
+		}
+
+		return delta;
+	}
+
+	@Override
+	public int calculateAddCriterionDelta(ScoringContext context, PointSaladCard criterionCard) throws ScorerException {
+		// A criterion card does not change the counts, so the other criteria keep their score
+		try {
+			return criterionCard.getCriterion().computePlayerScore(context);
+		}
+		catch (CriterionException e) {
+			throw new ScorerException("Error while computing the score of the added criterion card", e);
+		}
+	}
+
+	@Override
+	public int calculateFlipDelta(ArrayList<PointSaladCard> criteriaHand, ScoringContext context, PointSaladCard cardToFlip) throws ScorerException {
+		if (!criteriaHand.contains(cardToFlip)) {
+			throw new ScorerException("The card to flip is not one of the criterion cards of the hand.");
+		}
+
+		int delta = 0;
+
+		for (int i = 0; i < criteriaHand.size(); i++) {
+			PointSaladCard card = criteriaHand.get(i);
+			try {
+				if (card == cardToFlip) {
+					// The flipped card loses its criterion
+					delta -= card.getCriterion().computePlayerScore(context);
+				} else {
+					// The other criteria see one more card of its vegetable
+					delta += card.getCriterion().computeScoreDelta(context, cardToFlip.getVegetable(), 1);
+				}
+			}
+			catch (CriterionException e) {
+				throw new ScorerException("Error while computing the score change for criterion card n°" + (i+1), e);
+			}
+		}
+
+		return delta;
+	}
 }
@@ -0,0 +1,211 @@
+package game.scorer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * Report of the final scores of a game: the points each criterion card gave to each player,
+ * and how long each criterion took to evaluate.
+ * 
+ * A report is immutable, so it can be logged, stored in the state and sent to the players once computed.
+ */
+public class ScoreReport {
+
+	/**
+	 * Points given by one criterion card of a player.
+	 */
+	public static class CriterionScore {
+		private final String criterion;
+		private final int points;
+		private final long nanos;
+
+		/**
+		 * Constructor for the CriterionScore class.
+		 * 
+		 * @param criterion The display of the criterion
+		 * @param points The points given by the criterion
+		 * @param nanos The time taken to evaluate the criterion, in nanoseconds
+		 */
+		public CriterionScore(String criterion, int points, long nanos) {
+			this.criterion = criterion;
+			this.points = points;
+			this.nanos = nanos;
+		}
+
+		/**
+		 * Getter for the display of the criterion.
+		 * 
+		 * @return The display of the criterion
+		 */
+		public String getCriterion() {
+			return criterion;
+		}
+
+		/**
+		 * Getter for the points given by the criterion.
+		 * 
+		 * @return The points given by the criterion
+		 */
+		public int getPoints() {
+			return points;
+		}
+
+		/**
+		 * Getter for the time taken to evaluate the criterion.
+		 * 
+		 * @return The evaluation time, in nanoseconds
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		@Override
+		public String toString() {
+			return criterion + " -> " + points + " points (" + (nanos / 1000) + " µs)";
+		}
+	}
+
+	private final LinkedHashMap<Integer, ArrayList<CriterionScore>> criterionScores;
+	private final LinkedHashMap<Integer, Integer> scores;
+	private final long elapsedNanos;
+
+	/**
+	 * Constructor for the ScoreReport class.
+	 * 
+	 * @param criterionScores The points given by each criterion card, by player ID
+	 * @param elapsedNanos The time taken to compute the whole report, in nanoseconds
+	 */
+	public ScoreReport(LinkedHashMap<Integer, ArrayList<CriterionScore>> criterionScores, long elapsedNanos) {
+		this.criterionScores = new LinkedHashMap<>();
+		this.scores = new LinkedHashMap<>();
+		for (int playerID : criterionScores.keySet()) {
+			ArrayList<CriterionScore> playerScores = new ArrayList<>(criterionScores.get(playerID));
+			int score = 0;
+			for (CriterionScore criterionScore : playerScores) {
+				score += criterionScore.getPoints();
+			}
+			this.criterionScores.put(playerID, playerScores);
+			this.scores.put(playerID, score);
+		}
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Gets the IDs of the players in the report.
+	 * 
+	 * @return The player IDs
+	 */
+	public ArrayList<Integer> getPlayerIDs() {
+		return new ArrayList<>(scores.keySet());
+	}
+
+	/**
+	 * Gets the score of a player.
+	 * 
+	 * @param playerID The ID of the player
+	 * 
+	 * @return The score of the player
+	 */
+	public int getScore(int playerID) {
+		checkPlayer(playerID);
+		return scores.get(playerID);
+	}
+
+	/**
+	 * Gets the score of every player.
+	 * 
+	 * @return The score of each player, by player ID
+	 */
+	public HashMap<Integer, Integer> getScores() {
+		return new HashMap<>(scores);
+	}
+
+	/**
+	 * Gets the points given by each criterion card of a player, in the order of the player's hand.
+	 * 
+	 * @param playerID The ID of the player
+	 * 
+	 * @return The points of each criterion card
+	 */
+	public ArrayList<CriterionScore> getCriterionScores(int playerID) {
+		checkPlayer(playerID);
+		return new ArrayList<>(criterionScores.get(playerID));
+	}
+
+	/**
+	 * Gets the time taken to evaluate every criterion of a player.
+	 * 
+	 * @param playerID The ID of the player
+	 * 
+	 * @return The evaluation time, in nanoseconds
+	 */
+	public long getPlayerNanos(int playerID) {
+		checkPlayer(playerID);
+		long nanos = 0;
+		for (CriterionScore criterionScore : criterionScores.get(playerID)) {
+			nanos += criterionScore.getNanos();
+		}
+		return nanos;
+	}
+
+	/**
+	 * Gets the time taken to compute the whole report. When the players are scored in parallel,
+	 * it is lower than the sum of the evaluation times of the players.
+	 * 
+	 * @return The elapsed time, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets the ID of the player with the highest score. Ties are won by the first player of the report.
+	 * 
+	 * @return The ID of the winner, or -1 if the report has no players
+	 */
+	public int getWinnerID() {
+		int winnerID = -1;
+		int maxScore = Integer.MIN_VALUE;
+		for (int playerID : scores.keySet()) {
+			if (scores.get(playerID) > maxScore) {
+				maxScore = scores.get(playerID);
+				winnerID = playerID;
+			}
+		}
+		return winnerID;
+	}
+
+	/**
+	 * Gets the breakdown of the score of a player, with one line per criterion card.
+	 * 
+	 * @param playerID The ID of the player
+	 * 
+	 * @return The breakdown of the score
+	 */
+	public String getPlayerReport(int playerID) {
+		checkPlayer(playerID);
+		StringBuilder builder = new StringBuilder();
+		for (CriterionScore criterionScore : criterionScores.get(playerID)) {
+			builder.append("  ").append(criterionScore).append("\n");
+		}
+		builder.append("  Total: ").append(scores.get(playerID)).append(" points");
+		return builder.toString();
+	}
+
+	private void checkPlayer(int playerID) {
+		if (!scores.containsKey(playerID)) {
+			throw new IllegalArgumentException("The report has no player with ID " + playerID);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (int playerID : scores.keySet()) {
+			builder.append("Player ").append(playerID).append(":\n").append(getPlayerReport(playerID)).append("\n");
+		}
+		builder.append("Computed in ").append(elapsedNanos / 1000).append(" µs");
+		return builder.toString();
+	}
+}
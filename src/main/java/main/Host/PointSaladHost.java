@@ -6,6 +6,7 @@ import java.util.HashMap;
 import exceptions.ServerException;
 import game.market.IMarket;
 import game.market.PointSaladMarket;
+import game.market.PointSaladMarketSettings;
 import network.IServer;
 import network.Server;
 import phases.IPhase;
@@ -29,16 +30,24 @@ public class PointSaladHost extends AbstractHost {
 	public static final int MIN_NB_PLAYERS;
 	/** The maximum number players in a PointSalad game. */
 	public static final int MAX_NB_PLAYERS;
+	/** Whether the hands and the market are logged in the host's terminal at every turn. */
+	public static final boolean LOG_TURNS;
+	/** Whether the final scores are computed in parallel, on the common fork-join pool. */
+	public static final boolean PARALLEL_SCORING;
 
 	static {
 		// Load final variables from the configuration file
 		int min_nb_players = 2; // Default value
 		int max_nb_players = 6; // Default value
+		boolean log_turns = true; // Default value
+		boolean parallel_scoring = false; // Default value
 
 		try {
 			Config config = Config.getInstance();
 			min_nb_players = config.getInt("PS_minPlayers");
 			max_nb_players = config.getInt("PS_maxPlayers");
+			log_turns = config.getBoolean("PS_logTurns");
+			parallel_scoring = config.getBoolean("PS_parallelScoring");
 		} catch (Exception e) {
 			e.printStackTrace();
 			// Use default values if configuration loading fails
@@ -46,10 +55,14 @@ public class PointSaladHost extends AbstractHost {
 
 		MIN_NB_PLAYERS = min_nb_players;
 		MAX_NB_PLAYERS = max_nb_players;
+		LOG_TURNS = log_turns;
+		PARALLEL_SCORING = parallel_scoring;
 	}
 
 	private int numberOfPlayers; // The total number of players, including bots
 	private int numberOfBots;
+	private PointSaladMarketSettings marketSettings;
+	private Long seed; // Seed of the game, null to draw a random one
 
 	/**
 	 * Creates a host at the given port, with the given number of players and bots.
@@ -63,6 +76,55 @@ public class PointSaladHost extends AbstractHost {
 	 * @throws Exception If an error occurs while creating the host
 	 */
 	public PointSaladHost(int port, int numberOfPlayers, int numberOfBots) throws ServerException, IllegalArgumentException, Exception {
+		this(port, numberOfPlayers, numberOfBots, PointSaladMarketSettings.getDefault());
+	}
+
+	/**
+	 * Creates a host at the given port, with the given number of players and bots, and the given market layout.
+	 * 
+	 * @param port The port of the server
+	 * @param numberOfPlayers The number of players in the game
+	 * @param numberOfBots The number of bots in the game
+	 * @param marketSettings The layout of the market of the game
+	 * 
+	 * @throws ServerException If an error occurs while creating the host
+	 * @throws IllegalArgumentException If the number of players or bots is invalid
+	 * @throws Exception If an error occurs while creating the host
+	 */
+	public PointSaladHost(int port, int numberOfPlayers, int numberOfBots, PointSaladMarketSettings marketSettings) throws ServerException, IllegalArgumentException, Exception {
+		this(port, numberOfPlayers, numberOfBots, marketSettings, null);
+	}
+
+	/**
+	 * Creates a host at the given port, with the given number of players and bots, replaying the game of the given seed.
+	 * 
+	 * @param port The port of the server
+	 * @param numberOfPlayers The number of players in the game
+	 * @param numberOfBots The number of bots in the game
+	 * @param seed The seed of the game, as printed when a game is built
+	 * 
+	 * @throws ServerException If an error occurs while creating the host
+	 * @throws IllegalArgumentException If the number of players or bots is invalid
+	 * @throws Exception If an error occurs while creating the host
+	 */
+	public PointSaladHost(int port, int numberOfPlayers, int numberOfBots, long seed) throws ServerException, IllegalArgumentException, Exception {
+		this(port, numberOfPlayers, numberOfBots, PointSaladMarketSettings.getDefault(), seed);
+	}
+
+	/**
+	 * Creates a host at the given port, with the given number of players and bots, market layout and seed.
+	 * 
+	 * @param port The port of the server
+	 * @param numberOfPlayers The number of players in the game
+	 * @param numberOfBots The number of bots in the game
+	 * @param marketSettings The layout of the market of the game
+	 * @param seed The seed of the game, or null to draw a random one
+	 * 
+	 * @throws ServerException If an error occurs while creating the host
+	 * @throws IllegalArgumentException If the number of players or bots is invalid
+	 * @throws Exception If an error occurs while creating the host
+	 */
+	public PointSaladHost(int port, int numberOfPlayers, int numberOfBots, PointSaladMarketSettings marketSettings, Long seed) throws ServerException, IllegalArgumentException, Exception {
 		super(new Server(port));
 
 		if (numberOfPlayers < MIN_NB_PLAYERS || numberOfPlayers > MAX_NB_PLAYERS) {
@@ -74,6 +136,8 @@ public class PointSaladHost extends AbstractHost {
 
 		this.numberOfPlayers = numberOfPlayers;
 		this.numberOfBots = numberOfBots;
+		this.marketSettings = marketSettings;
+		this.seed = seed;
 	}
 
 	/**
@@ -155,6 +219,15 @@ public class PointSaladHost extends AbstractHost {
 		this.numberOfPlayers = numberOfPlayers;
 	}
 
+	/**
+	 * Gets the seed the game is built with.
+	 * 
+	 * @return The seed of the game, or null if a random one is drawn when the game is built
+	 */
+	public Long getSeed() {
+		return seed;
+	}
+
 	/**
 	 * Gets the number of bots in the game.
 	 * 
@@ -257,17 +330,24 @@ public class PointSaladHost extends AbstractHost {
 
 		int playerTurnIndex = -1; // It is no player turn at the start of the game
 
-		IMarket market = new PointSaladMarket();
+		IMarket market = new PointSaladMarket(marketSettings);
 
 		IPhase initialPhase = new PointSaladSetupPhase();
 
 
-		State initialState = new State(server, players, playerTurnIndex, market, initialPhase);
+		State initialState;
+		if (seed == null) {
+			initialState = new State(server, players, playerTurnIndex, market, initialPhase);
+		} else {
+			initialState = new State(server, players, playerTurnIndex, market, initialPhase, seed);
+		}
+		initialState.setLogTurns(LOG_TURNS);
+		initialState.setParallelScoring(PARALLEL_SCORING);
 		IStateManager gameManager = new StateManager(initialState);
 
 		setGameManager(gameManager);
 
-		System.out.println("Game is ready to start!");
+		System.out.println("Game is ready to start! (seed: " + initialState.getSeed() + ")");
 	}
 
 	@Override
@@ -100,6 +100,22 @@ public class PointSalad {
 					System.err.println(getDummyExample());
 				}
 			}
+		} else if (len == 5) {
+			// Interpret arguments as game mode + (port, nbPlayers, nbBots, seed) for the server only, to replay a game
+			int gameMode = Integer.parseInt(args[0]);
+			int port = Integer.parseInt(args[1]);
+			int numPlayers = Integer.parseInt(args[2]);
+			int numBots = Integer.parseInt(args[3]);
+			long seed = Long.parseLong(args[4]);
+
+			if (gameMode == HOSTING) {
+				try {
+					hostServer(port, numPlayers, numBots, seed);
+				} catch (Exception e) {
+					System.err.println("Error while hosting the server: " + e.getMessage());
+					System.err.println(getDummyExample());
+				}
+			}
 		} else {
 			System.out.println(getDummyExample());
 		}
@@ -144,6 +160,7 @@ public class PointSalad {
 		String errorMessage = "Please enter a valid command line argument.\n";
 		errorMessage += "java PointSalad [gameMode]\n";
 		errorMessage += "1 to host a game, then you can add ([port], optional) [numPlayers] [numBots]\n";
+		errorMessage += "  or [port] [numPlayers] [numBots] [seed] to replay the game of a printed seed\n";
 		errorMessage += "2 to join a game, then you can add [host] ([port], optional)\n";
 		return errorMessage;
 	}
@@ -172,6 +189,21 @@ public class PointSalad {
 		host.run();
 	}
 
+	/**
+	 * Hosts a PointSalad server with the given port, number of players, number of bots and seed of the game.
+	 * 
+	 * @param port The port of the server
+	 * @param numPlayers The number of players in the game
+	 * @param numBots The number of bots in the game
+	 * @param seed The seed of the game
+	 * 
+	 * @throws Exception If an error occurs while hosting the server
+	 */
+	public static void hostServer(int port, int numPlayers, int numBots, long seed) throws Exception {
+		AbstractHost host = new PointSaladHost(port, numPlayers, numBots, seed);
+		host.run();
+	}
+
 	/**
 	 * Joins a PointSalad game as a client.
 	 * 
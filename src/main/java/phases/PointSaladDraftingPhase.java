@@ -1,10 +1,13 @@
 package phases;
 
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
 import cards.ICard;
 import exceptions.DraftingException;
 import game.market.IMarket;
+import game.market.PointSaladMarket;
+import game.market.PointSaladMarketFeed;
 import network.IServer;
 import players.AbstractPlayer;
 import states.State;
@@ -13,7 +16,7 @@ import states.State;
  * Drafting phase for the Point Salad game.
  */
 public class PointSaladDraftingPhase implements IPhase {
-	
+
 	/**
 	 * Helper method to get the command from the current player, based on the current state of the game.
 	 * 
@@ -30,11 +33,12 @@ public class PointSaladDraftingPhase implements IPhase {
 
 		IMarket market = state.getMarket();
 
-		String instruction = "\n\n****************************************************************\nIt's your turn! Your hand is:\n";
-		instruction += player.handToString();
-		instruction += "\nThe piles are: ";
-		instruction += market.toString();
-		instruction += "\n" + market.getDraftingInstruction() + ":\n";
+		// Only built if the player reads it. The market is given as its changes since the last turn of the player, when followed.
+		PointSaladMarketFeed marketFeed = state.getMarketFeed();
+		Supplier<String> instruction = () -> "\n\n****************************************************************\nIt's your turn! Your hand is:\n"
+			+ player.handToString()
+			+ "\n" + (marketFeed != null ? marketFeed.getMarketView(player.getPlayerID(), (PointSaladMarket) market) : "The piles are: " + market.toString())
+			+ "\n" + market.getDraftingInstruction() + ":\n";
 
 		try {
 			command = player.getMove(state, instruction);
@@ -58,10 +62,12 @@ public class PointSaladDraftingPhase implements IPhase {
 
 		String command = "";
 
-		System.out.println("\n ----------------------------------------------------------------- ");
-		System.out.println("Turn of " + player.getName() + " (Player ID: " + playerID + ")\n");
-		System.out.println("Player's hand:\n" + player.handToString() + "\n");
-		System.out.println("Current " + market.toString() + "\n");
+		if (state.isLoggingTurns()) {
+			System.out.println("\n ----------------------------------------------------------------- ");
+			System.out.println("Turn of " + player.getName() + " (Player ID: " + playerID + ")\n");
+			System.out.println("Player's hand:\n" + player.handToString() + "\n");
+			System.out.println("Current " + market.toString() + "\n");
+		}
 
 		while (!validCommand) {
 			command = getPlayerCommand(state);
@@ -81,7 +87,9 @@ public class PointSaladDraftingPhase implements IPhase {
 			}
 		}
 
-		System.out.println(player.getName() + " (Player ID: " + playerID + ") drafted: " + command);
+		if (state.isLoggingTurns()) {
+			System.out.println(player.getName() + " (Player ID: " + playerID + ") drafted: " + command);
+		}
 
 		try {
 			ArrayList<ICard> cards = market.draftCards(command);
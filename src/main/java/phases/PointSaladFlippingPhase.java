@@ -1,8 +1,8 @@
 package phases;
 
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
-import cards.ICard;
 import cards.PointSaladCard;
 import exceptions.FlippingException;
 import game.market.IMarket;
@@ -29,9 +29,10 @@ public class PointSaladFlippingPhase implements IPhase {
 
 		AbstractPlayer player = state.getCurrentPlayer();
 
-		String instruction = "\n";
-		instruction += player.handToString();
-		instruction += "\nWould you like to turn a criterion card into a veggie card? (Syntax examples: 'n' or '0', '1'...)\n";
+		// Only built if the player reads it
+		Supplier<String> instruction = () -> "\n"
+			+ player.handToString()
+			+ "\nWould you like to turn a criterion card into a veggie card? (Syntax examples: 'n' or '0', '1'...)\n";
 
 		try {
 			command = player.getMove(state, instruction);
@@ -43,12 +44,28 @@ public class PointSaladFlippingPhase implements IPhase {
 		return command;
 	}
 	
+	/**
+	 * Checks if there is a human player other than the given one, who would read the messages sent to the players.
+	 * 
+	 * @param state The current state of the game
+	 * @param playerID The ID of the player to exclude
+	 * 
+	 * @return True if there is another human player, false otherwise
+	 */
+	private boolean hasOtherHumanPlayers(State state, int playerID) {
+		for (AbstractPlayer otherPlayer : state.getPlayers().values()) {
+			if (!otherPlayer.getIsBot() && otherPlayer.getPlayerID() != playerID) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void processPhase(State state) throws FlippingException {
 		AbstractPlayer player = state.getCurrentPlayer();
-		ArrayList<ICard> hand = player.getHand();
-		ArrayList<PointSaladCard> pointSaladHand = PointSaladCard.convertHand(hand);
-		ArrayList<PointSaladCard> criteriaHand = PointSaladCard.getCriteriaHand(pointSaladHand);
+		// Copied, since flipping a card updates the criteria of the player's hand
+		ArrayList<PointSaladCard> criteriaHand = new ArrayList<PointSaladCard>(player.getIndexedHand().getCriteriaCards());
 
 		IServer server = state.getServer();
 		int playerID = player.getPlayerID();
@@ -68,7 +85,7 @@ public class PointSaladFlippingPhase implements IPhase {
 						PointSaladCard card = criteriaHand.get(cardIndex);
 						if (card.isCriterionSideUp())
 						{
-							card.flip();
+							player.flipCardInHand(card);
 							validCommand = true;
 						}
 					}
@@ -88,7 +105,9 @@ public class PointSaladFlippingPhase implements IPhase {
 				}
 			}
 			
-			System.out.println(player.getName() + " (Player ID: " + playerID + ") flipped: " + command + "\n");
+			if (state.isLoggingTurns()) {
+				System.out.println(player.getName() + " (Player ID: " + playerID + ") flipped: " + command + "\n");
+			}
 		}
 
 		// Player's turn is completed.
@@ -102,14 +121,24 @@ public class PointSaladFlippingPhase implements IPhase {
 			}
 		}
 
-		String message = player.getName() + "'s hand is now: \n" + player.handToString() + "\n";
-		System.out.println(message);
+		// The updated hand is only built if someone reads it
+		boolean otherHumans = hasOtherHumanPlayers(state, playerID);
+		if (!state.isLoggingTurns() && !otherHumans) {
+			return;
+		}
 
-		try {
-			server.sendMessageToAllExceptId(message, playerID);
+		String message = player.getName() + "'s hand is now: \n" + player.handToString() + "\n";
+		if (state.isLoggingTurns()) {
+			System.out.println(message);
 		}
-		catch (Exception e) {
-			throw new FlippingException("Failed to send updated hand message to all players.", e);
+
+		if (otherHumans) {
+			try {
+				server.sendMessageToAllExceptId(message, playerID);
+			}
+			catch (Exception e) {
+				throw new FlippingException("Failed to send updated hand message to all players.", e);
+			}
 		}
 	}
 
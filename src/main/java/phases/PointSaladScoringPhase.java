@@ -1,11 +1,15 @@
 package phases;
 
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import exceptions.ScorerException;
 import exceptions.ScoringException;
+import game.market.PointSaladMarket;
 import game.scorer.IScorer;
+import game.scorer.PointSaladIncrementalScorer;
 import game.scorer.PointSaladScorer;
+import game.scorer.ScoreReport;
 import network.IServer;
 import players.AbstractPlayer;
 import states.State;
@@ -16,13 +20,14 @@ import states.State;
 public class PointSaladScoringPhase implements IPhase {
 
 	private IScorer scorer;
+	private boolean parallel; // Whether the players are scored in parallel, even if the state does not ask for it
 
 	/**
 	 * Constructor for the PointSaladScoringPhase class.
-	 * By default, uses the PointSaladScorer.
+	 * By default, uses the scorer following the game if the state has one, or a PointSaladScorer otherwise.
 	 */
 	public PointSaladScoringPhase() {
-		this.scorer = new PointSaladScorer();
+		this(null, false);
 	}
 
 	/**
@@ -31,7 +36,20 @@ public class PointSaladScoringPhase implements IPhase {
 	 * @param scorer The scorer to be used for the scoring phase
 	 */
 	public PointSaladScoringPhase(IScorer scorer) {
+		this(scorer, false);
+	}
+
+	/**
+	 * Constructor for the PointSaladScoringPhase class.
+	 * 
+	 * @param scorer The scorer to be used for the scoring phase, or null to use the scorer following the game if the state
+	 * has one, or a PointSaladScorer otherwise
+	 * @param parallel True to score the players in parallel, on the common fork-join pool, even if the state does not ask for it.
+	 * The incremental scorer following the game already knows the scores, so it does not use the pool.
+	 */
+	public PointSaladScoringPhase(IScorer scorer, boolean parallel) {
 		this.scorer = scorer;
+		this.parallel = parallel;
 	}
 
 	@Override
@@ -50,23 +68,30 @@ public class PointSaladScoringPhase implements IPhase {
 
 		HashMap<Integer, AbstractPlayer> players = state.getPlayers();
 
-		for (AbstractPlayer player : players.values()) {
-			try {
-				player.setScore(scorer.calculateScore(players, player.getPlayerID()));
-			}
-			catch (ScorerException e) {
-				throw new ScoringException("Error while calculating the score for player " + player.getPlayerID(), e);
-			}
+		IScorer scorer = this.scorer;
+		if (scorer == null) {
+			scorer = state.getScorer() != null ? state.getScorer() : new PointSaladScorer();
+		}
+
+		// Scores the whole table once, keeping the points of each criterion for the logs and the players
+		ScoreReport report;
+		try {
+			boolean parallelScoring = parallel || state.isParallelScoring();
+			report = scorer.calculateScoreReport(players, parallelScoring ? ForkJoinPool.commonPool() : null);
+		}
+		catch (ScorerException e) {
+			throw new ScoringException("Error while calculating the scores of the players", e);
 		}
+		state.setScoreReport(report);
+		HashMap<Integer, Integer> scores = report.getScores();
 
-		HashMap<Integer, Integer> scores = new HashMap<>();
 		int maxScore = 0;
 		int winnerId = -1;
 
 		for (int id : players.keySet()) {
 			AbstractPlayer player = players.get(id);
-			int score = player.getScore();
-			scores.put(player.getPlayerID(), score);
+			int score = scores.get(id);
+			player.setScore(score);
 			if (score > maxScore) {
 				maxScore = player.getScore();
 				winnerId = id;
@@ -83,23 +108,26 @@ public class PointSaladScoringPhase implements IPhase {
 			int playerID = player.getPlayerID();
 
 			System.out.println(player.getName() + " (Player ID: " + playerID + ") has a score of " + scores.get(playerID) +
-			 " with the following hand:\n" + player.handToString() + "\n");
+			 " with the following hand:\n" + player.handToString() + "\n" + report.getPlayerReport(playerID) + "\n");
 
 			if (playerID == winnerId || player.getIsBot()) {
 				continue;
 			}
 			try {
 				server.sendMessageTo("\nYou lost with a score of " + scores.get(playerID) + "... " + winningPlayer.getName() + " (Player ID: " +
-				winningPlayer.getPlayerID() + ") is the winner with a score of " + maxScore + ".", playerID);
+				winningPlayer.getPlayerID() + ") is the winner with a score of " + maxScore + ".\n" + report.getPlayerReport(playerID), playerID);
 			} catch (Exception e) {
 				throw new ScoringException("Failed to send message to player " + player.getName() + " (PlayerID: " + playerID + ").", e);
 			}
 		}
-		System.out.println();
+		if (state.isLoggingTurns()) {
+			System.out.println("Scores computed in " + (report.getElapsedNanos() / 1000) + " µs.\n");
+		}
 		
 		if (!winningPlayer.getIsBot()) {
 			try {
-				server.sendMessageTo("\nCongratulations! Your are the winner with a score of " + maxScore, winningPlayer.getPlayerID());
+				server.sendMessageTo("\nCongratulations! Your are the winner with a score of " + maxScore + "\n" +
+				report.getPlayerReport(winningPlayer.getPlayerID()), winningPlayer.getPlayerID());
 			} catch (Exception e) {
 				throw new ScoringException("Failed to send message to player " + winningPlayer.getName() +
 				" (PlayerID: " + winningPlayer.getPlayerID() + ").", e);
@@ -107,6 +135,14 @@ public class PointSaladScoringPhase implements IPhase {
 		}
 
 		System.out.println("Messages have been sent to all players.");
+
+		// The game is over, so the scorer and the market feed following it stop listening
+		if (state.getScorer() instanceof PointSaladIncrementalScorer) {
+			((PointSaladIncrementalScorer) state.getScorer()).detach();
+		}
+		if (state.getMarketFeed() != null && state.getMarket() instanceof PointSaladMarket) {
+			((PointSaladMarket) state.getMarket()).removeMarketListener(state.getMarketFeed());
+		}
 	}
 	
 	@Override
@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SplittableRandom;
 
+import cards.CachingCardFactory;
 import cards.ICard;
 import cards.ICardFactory;
 import cards.Pile;
@@ -12,10 +14,14 @@ import cards.PointSaladCard;
 import cards.PointSaladCardFactory;
 import cards.PointSaladCard.Vegetable;
 import exceptions.ConfigException;
+import exceptions.ScorerException;
 import exceptions.SetupException;
 import game.market.IMarket;
 import game.market.PointSaladMarket;
+import game.market.PointSaladMarketFeed;
+import game.scorer.PointSaladIncrementalScorer;
 import network.IServer;
+import players.AbstractPlayer;
 import states.State;
 import tools.Config;
 
@@ -66,10 +72,11 @@ public class PointSaladSetupPhase implements IPhase {
 
 	/**
 	 * Constructor for the PointSaladSetupPhase class.
-	 * By default, uses the PointSaladFactory and the default path for the cards.
+	 * By default, uses the PointSaladFactory, through the process-wide cache of loaded cards,
+	 * and the default path for the cards.
 	 */
 	public PointSaladSetupPhase() {
-		this.cardFactory = new PointSaladCardFactory();
+		this.cardFactory = new CachingCardFactory(new PointSaladCardFactory());
 		this.cardsPath = DEFAULT_PATH;
 	}
 
@@ -86,12 +93,12 @@ public class PointSaladSetupPhase implements IPhase {
 
 	/**
 	 * Constructor for the PointSaladSetupPhase class.
-	 * By default, uses the PointSaladFactory.
+	 * By default, uses the PointSaladFactory, through the process-wide cache of loaded cards.
 	 * 
 	 * @param cardsPath The path to the cards json file
 	 */
 	public PointSaladSetupPhase(String cardsPath) {
-		this.cardFactory = new PointSaladCardFactory();
+		this.cardFactory = new CachingCardFactory(new PointSaladCardFactory());
 		this.cardsPath = cardsPath;
 	}
 
@@ -114,9 +121,22 @@ public class PointSaladSetupPhase implements IPhase {
 	 * @param nbVeggieCards The number of cards to keep in each pile
 	 */
 	public static void shuffleAndRemoveExtraCards(ArrayList<Pile<PointSaladCard>> veggiePiles, int nbVeggieCards) {
+		shuffleAndRemoveExtraCards(veggiePiles, nbVeggieCards, new SplittableRandom());
+	}
+
+	/**
+	 * Shuffles the piles with the given random source and removes extra cards to have the correct number of cards.
+	 * The piles are modified in place.
+	 * 
+	 * @param veggiePiles The list of piles to shuffle and remove cards from
+	 * @param nbVeggieCards The number of cards to keep in each pile
+	 * @param random The random source to shuffle with
+	 */
+	public static void shuffleAndRemoveExtraCards(ArrayList<Pile<PointSaladCard>> veggiePiles, int nbVeggieCards,
+													SplittableRandom random) {
 		for (Pile<PointSaladCard> pile : veggiePiles) {
 			// Shuffle the pile to be sure to remove random cards
-			pile.shuffle();
+			pile.shuffle(random);
 			// Remove the correct number of cards from each pile
 			int removeNumber = pile.size() - nbVeggieCards;
 			pile.draw(removeNumber);
@@ -133,17 +153,31 @@ public class PointSaladSetupPhase implements IPhase {
 	 * @return The initial deck of cards
 	 */
 	public static Pile<PointSaladCard> getInitialDeck(ArrayList<ICard> cards, int nbPlayers) {
+		return getInitialDeck(cards, nbPlayers, new SplittableRandom());
+	}
+
+	/**
+	 * Get the initial deck of cards for the Point Salad game from the full set of cards, using the given random source.
+	 * See {@link #getInitialDeck(ArrayList, int)}.
+	 * 
+	 * @param cards The full set of cards to extract the initial deck from
+	 * @param nbPlayers The number of players in the game
+	 * @param random The random source to shuffle with
+	 * 
+	 * @return The initial deck of cards
+	 */
+	public static Pile<PointSaladCard> getInitialDeck(ArrayList<ICard> cards, int nbPlayers, SplittableRandom random) {
 		int nbVeggieCards = NB_EACH_VEGGIE.get(nbPlayers);
 
 		// Get piles containing cards of a single type of Vegetable
 		ArrayList<Pile<PointSaladCard>> veggiePiles = PointSaladCard.extractVeggiePiles(cards);
 
 		// Shuffle the piles and removes extra cards
-		shuffleAndRemoveExtraCards(veggiePiles, nbVeggieCards);
+		shuffleAndRemoveExtraCards(veggiePiles, nbVeggieCards, random);
 
 		// Prepare the initial deck
 		Pile<PointSaladCard> deck = new Pile<PointSaladCard>().concatenates(veggiePiles);
-		deck.shuffle();
+		deck.shuffle(random);
 		deck.flip();
 
 		return deck;
@@ -172,16 +206,37 @@ public class PointSaladSetupPhase implements IPhase {
 		}
 
 		// Get the initial deck of cards
-		Pile<PointSaladCard> deck = getInitialDeck(cards, nbPlayers);
+		Pile<PointSaladCard> deck = getInitialDeck(cards, nbPlayers, state.getRandom());
 
-		// Split it in three criterion piles
-		ArrayList<Pile<PointSaladCard>> criterionPiles = deck.splitIn(PointSaladMarket.NUM_DRAW_PILES);
+		// Split it in as many criterion piles as the market has
+		PointSaladMarket pointSaladMarket = (PointSaladMarket) market;
+		ArrayList<Pile<PointSaladCard>> criterionPiles = deck.splitIn(pointSaladMarket.getSettings().getNumDrawPiles());
 
 		// Put the final piles in the market
-		PointSaladMarket pointSaladMarket = (PointSaladMarket) market;
 		pointSaladMarket.setCriterionPiles(criterionPiles);
 
 		pointSaladMarket.refillVegetables();
+
+		// The human players are sent the changes of the market between their turns, instead of the whole market
+		ArrayList<Integer> humanPlayerIDs = new ArrayList<Integer>();
+		for (AbstractPlayer player : state.getPlayersList()) {
+			if (!player.getIsBot()) {
+				humanPlayerIDs.add(player.getPlayerID());
+			}
+		}
+		PointSaladMarketFeed marketFeed = new PointSaladMarketFeed(humanPlayerIDs);
+		pointSaladMarket.addMarketListener(marketFeed);
+		state.setMarketFeed(marketFeed);
+
+		// Follows the players' hands from the start, so their scores are known at any time without rescoring,
+		// unless the host already chose the scorer following the game
+		if (state.getScorer() == null) {
+			try {
+				state.setScorer(new PointSaladIncrementalScorer(state.getPlayersList()));
+			} catch (ScorerException e) {
+				throw new SetupException("Failed to compute the initial scores of the players", e);
+			}
+		}
 	}
 
 	@Override
@@ -189,7 +244,7 @@ public class PointSaladSetupPhase implements IPhase {
 		// The next Phase for the PointSalad game is the Drafting Phase for the first player
 
 		// Randomly chooses the first player
-		int startingPlayerIndex = (int) (Math.random() * state.getPlayers().size());
+		int startingPlayerIndex = state.getRandom().nextInt(state.getPlayers().size());
 		state.setPlayerTurnIndex(startingPlayerIndex);
 		
 		state.setPhase(new PointSaladDraftingPhase());
@@ -1,8 +1,11 @@
 package players;
 
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
 import cards.ICard;
+import cards.PointSaladHand;
+import cards.PointSaladVeggieCounts;
 import states.State;
 
 /**
@@ -14,7 +17,13 @@ public abstract class AbstractPlayer {
 	private String name;
 	private boolean isBot;
 	private int score;
-	private ArrayList<ICard> hand;
+	private PointSaladHand hand;
+	private ArrayList<IHandListener> handListeners = new ArrayList<IHandListener>();
+
+	// Cached string representation of the hand, valid while the hand is unchanged
+	private String cachedHandString;
+	private PointSaladHand cachedHand;
+	private int cachedHandVersion;
 
 	/**
 	 * Creates a player with the given ID, name and bot status.
@@ -28,7 +37,7 @@ public abstract class AbstractPlayer {
 		this.name = name;
 		this.isBot = isBot;
 		this.score = 0;
-		this.hand = new ArrayList<ICard>();
+		this.hand = new PointSaladHand();
 	}
 
 	/**
@@ -104,12 +113,15 @@ public abstract class AbstractPlayer {
 	}
 
 	/**
-	 * Gets the player's hand.
+	 * Gets a copy of the player's hand.
+	 * The hand is modified through the methods of the player, which keep its index up to date,
+	 * so changing the returned list does not change the hand, and its cards should not be flipped directly either.
+	 * Use {@link #getIndexedHand()} to read the hand without copying it.
 	 * 
-	 * @return The player's hand
+	 * @return A copy of the player's hand
 	 */
 	public ArrayList<ICard> getHand() {
-		return this.hand;
+		return new ArrayList<ICard>(this.hand.getCards());
 	}
 
 	/**
@@ -118,21 +130,82 @@ public abstract class AbstractPlayer {
 	 * @param hand The player's hand
 	 */
 	public void setHand(ArrayList<ICard> hand) {
-		this.hand = hand;
+		this.hand = new PointSaladHand(hand);
+		for (int i = 0; i < handListeners.size(); i++) {
+			handListeners.get(i).handReplaced(this);
+		}
+	}
+
+	/**
+	 * Gets the player's indexed hand, which keeps its criterion cards and vegetable counts up to date.
+	 * 
+	 * @return The player's indexed hand
+	 */
+	public PointSaladHand getIndexedHand() {
+		return this.hand;
+	}
+
+	/**
+	 * Gets a copy of the vegetable counts of the player's hand.
+	 * Use {@link #getIndexedHand()} to read the counts kept up to date without copying them.
+	 * 
+	 * @return A copy of the vegetable counts of the player's hand
+	 */
+	public PointSaladVeggieCounts getVeggieCounts() {
+		return this.hand.getVeggieCounts().copy();
 	}
 
 	/**
 	 * Adds a card to the player's hand.
 	 */
 	public void addCardToHand(ICard card) {
-		hand.add(card);
+		hand.addCard(card);
+		for (int i = 0; i < handListeners.size(); i++) {
+			handListeners.get(i).cardAdded(this, card);
+		}
 	}
 
 	/**
 	 * Adds a list of cards to the player's hand.
 	 */
 	public void addCardsToHand(ArrayList<ICard> cards) {
-		hand.addAll(cards);
+		hand.addCards(cards);
+		for (int i = 0; i < handListeners.size(); i++) {
+			for (int j = 0; j < cards.size(); j++) {
+				handListeners.get(i).cardAdded(this, cards.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Flips a card of the player's hand.
+	 * 
+	 * @param card The card to flip, which must belong to the player's hand
+	 */
+	public void flipCardInHand(ICard card) {
+		hand.flipCard(card);
+		for (int i = 0; i < handListeners.size(); i++) {
+			handListeners.get(i).cardFlipped(this, card);
+		}
+	}
+
+	/**
+	 * Adds a listener to the changes of the player's hand.
+	 * Only the changes made through the methods of the player are notified.
+	 * 
+	 * @param listener The listener to add
+	 */
+	public void addHandListener(IHandListener listener) {
+		handListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener to the changes of the player's hand.
+	 * 
+	 * @param listener The listener to remove
+	 */
+	public void removeHandListener(IHandListener listener) {
+		handListeners.remove(listener);
 	}
 
 	/**
@@ -141,13 +214,23 @@ public abstract class AbstractPlayer {
 	 * @return The player's hand as a string
 	 */
 	public String handToString() {
+		// The string is only rebuilt when the hand has changed since the last call
+		if (cachedHandString != null && cachedHand == hand && cachedHandVersion == hand.getModificationCount()) {
+			return cachedHandString;
+		}
+
 		String handString = "Empty Hand";
 
-		if (hand.size() > 0) {
-			ICard card = hand.get(0);
-			handString = card.handToString(hand);
+		if (!hand.isEmpty()) {
+			ArrayList<ICard> cards = hand.getCards();
+			ICard card = cards.get(0);
+			handString = card.handToString(cards);
 		}
 
+		cachedHandString = handString;
+		cachedHand = hand;
+		cachedHandVersion = hand.getModificationCount();
+
 		return handString;
 	}
 
@@ -164,7 +247,22 @@ public abstract class AbstractPlayer {
 	public abstract String getMove(State state, String instruction) throws Exception;
 
 	/**
-	 * Gets the players' hands.
+	 * Get the player's move based on the current state and a lazily built instruction.
+	 * The instruction is only built if the player actually needs it. By default, it is always built.
+	 * 
+	 * @param state The current state of the game
+	 * @param instruction The supplier of the instruction to the player
+	 * 
+	 * @return The player's move
+	 * 
+	 * @throws Exception If an error occurs while getting the player's move
+	 */
+	public String getMove(State state, Supplier<String> instruction) throws Exception {
+		return getMove(state, instruction.get());
+	}
+
+	/**
+	 * Gets copies of the players' hands.
 	 * 
 	 * @param players The list of players
 	 * 
@@ -180,6 +278,23 @@ public abstract class AbstractPlayer {
 		return hands;
 	}
 
+	/**
+	 * Gets copies of the vegetable counts of the players' hands.
+	 * 
+	 * @param players The list of players
+	 * 
+	 * @return The players' vegetable counts, in the same order as the players
+	 */
+	public static ArrayList<PointSaladVeggieCounts> getVeggieCounts(ArrayList<AbstractPlayer> players) {
+		ArrayList<PointSaladVeggieCounts> veggieCounts = new ArrayList<PointSaladVeggieCounts>(players.size());
+
+		for (AbstractPlayer player : players) {
+			veggieCounts.add(player.getVeggieCounts());
+		}
+
+		return veggieCounts;
+	}
+
 	/**
 	 * Gets the other players in the game.
 	 * 
@@ -1,5 +1,7 @@
 package players;
 
+import java.util.function.Supplier;
+
 import exceptions.BotLogicException;
 import states.State;
 
@@ -44,4 +46,10 @@ public class IAPlayer extends AbstractPlayer {
 	public String getMove(State state, String instruction) throws BotLogicException {
 		return botLogic.getMove(state, this.getPlayerID());
 	}
+
+	@Override
+	public String getMove(State state, Supplier<String> instruction) throws BotLogicException {
+		// Bots do not read the instruction, so it is never built
+		return botLogic.getMove(state, this.getPlayerID());
+	}
 }
@@ -0,0 +1,33 @@
+package players;
+
+import cards.ICard;
+
+/**
+ * Interface for the objects which follow the changes of players' hands.
+ * The listener is called after the change, once the hand and its index are up to date.
+ */
+public interface IHandListener {
+
+	/**
+	 * Called when a card has been added to the hand of a player.
+	 * 
+	 * @param player The player whose hand changed
+	 * @param card The card added
+	 */
+	public void cardAdded(AbstractPlayer player, ICard card);
+
+	/**
+	 * Called when a card of the hand of a player has been flipped.
+	 * 
+	 * @param player The player whose hand changed
+	 * @param card The card flipped, already showing its new side
+	 */
+	public void cardFlipped(AbstractPlayer player, ICard card);
+
+	/**
+	 * Called when the whole hand of a player has been replaced.
+	 * 
+	 * @param player The player whose hand changed
+	 */
+	public void handReplaced(AbstractPlayer player);
+}
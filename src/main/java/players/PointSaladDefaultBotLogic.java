@@ -5,7 +5,9 @@ import java.util.HashMap;
 
 import cards.ICard;
 import cards.PointSaladCard;
+import criteria.ScoringContext;
 import exceptions.BotLogicException;
+import game.market.PointSaladDraftMove;
 import game.market.PointSaladMarket;
 import game.scorer.IScorer;
 import game.scorer.PointSaladScorer;
@@ -118,6 +120,22 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 	 * @throws BotLogicException If an error occurs in the bot score calculation
 	 */
 	public String getCriterionDraft(ArrayList<ICard> hand, ArrayList<ArrayList<ICard>> otherHands, PointSaladMarket market) throws BotLogicException {
+		return getCriterionDraft(ScoringContext.fromHands(hand, otherHands), market);
+	}
+
+	/**
+	 * Get the best criterion card(s) to draft, based on the current market.
+	 * It always draft the maximum number of cards possible (1 by default).
+	 * Each card is rated by the score it would add to the hand, without copying the hand.
+	 * 
+	 * @param context The scoring context of the bot
+	 * @param market The current market
+	 * 
+	 * @return The drafting command string for the criterion card(s)
+	 * 
+	 * @throws BotLogicException If an error occurs in the bot score calculation
+	 */
+	public String getCriterionDraft(ScoringContext context, PointSaladMarket market) throws BotLogicException {
 		// Draft criterion card(s)
 
 		ArrayList<Integer> scores = new ArrayList<Integer>();
@@ -133,12 +151,9 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 				continue;
 			}
 
-			// Create dummy hand
-			ArrayList<ICard> dummyHand = new ArrayList<ICard>(hand);
-			dummyHand.add(card);
-
 			try {
-				int score = scorer.calculateScore(dummyHand, otherHands);
+				// The current score is the same for every card, so only the score change is compared
+				int score = scorer.calculateAddCriterionDelta(context, card);
 				scores.add(score);
 			}
 			catch (Exception e) {
@@ -160,7 +175,7 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 		}
 
 		// Select the best criterion card(s)
-		int nbCardsDrafted = Integer.min(PointSaladMarket.CRITERION_DRAFT, criterionCards.size());
+		int nbCardsDrafted = Integer.min(market.getSettings().getCriterionDraft(), criterionCards.size());
 
 		String draftString = "";
 		for (int i = 0; i < nbCardsDrafted; i++) {
@@ -183,17 +198,20 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 	public String getVegetableDraft(PointSaladMarket market) {
 		// Draft vegetable cards
 
-		String draftString = "";
-
-		ArrayList<String> availableVegetableStrings = market.getAvailableVegetableStrings();
-		int nbCardsDrafted = Integer.min(PointSaladMarket.VEGETABLE_DRAFT, availableVegetableStrings.size());
+		int availableSlots = market.getAvailableSlotMask();
+		int draftedSlots = 0;
 
 		// Select the first two available vegetable cards
-		for (int i = 0; i < nbCardsDrafted; i++) {
-			draftString += availableVegetableStrings.get(i);
+		for (int i = 0; i < market.getSettings().getVegetableDraft() && availableSlots != 0; i++) {
+			int slot = Integer.lowestOneBit(availableSlots);
+			draftedSlots |= slot;
+			availableSlots &= ~slot;
 		}
 
-		return draftString;
+		if (draftedSlots == 0) {
+			return "";
+		}
+		return PointSaladDraftMove.vegetables(draftedSlots).toCardsString();
 	}
 
 	/**
@@ -221,18 +239,19 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 		HashMap<Integer, AbstractPlayer> players = state.getPlayers();
 		ArrayList<AbstractPlayer> playersList = state.getPlayersList();
 
-		ArrayList<ICard> hand = players.get(botPlayerId).getHand();
-		ArrayList<ArrayList<ICard>> otherHands = AbstractPlayer.getOtherHands(playersList, botPlayerId);
+		// The players' hands keep their counts up to date, so no hand has to be counted or copied
+		ScoringContext context = ScoringContext.fromCounts(players.get(botPlayerId).getIndexedHand().getVeggieCounts(),
+								AbstractPlayer.getVeggieCounts(AbstractPlayer.getOtherPlayers(playersList, botPlayerId)));
 
 		int choice;
-		if (Math.random() < criterionDraftChance) {
+		if (state.getRandom().nextDouble() < criterionDraftChance) {
 			choice = 0;
 		} else {
 			choice = 1;
 		}
 
 		if (choice == 0) {
-			draftString = getCriterionDraft(hand, otherHands, market);
+			draftString = getCriterionDraft(context, market);
 
 			if (draftString.isEmpty()) {
 				// Try drafting vegetable cards instead
@@ -246,7 +265,7 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 
 			if (draftString.isEmpty()) {
 				// Try drafting criterion card(s) instead
-				draftString = getCriterionDraft(hand, otherHands, market);
+				draftString = getCriterionDraft(context, market);
 			}
 		}
 
@@ -276,39 +295,23 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 
 		HashMap<Integer, AbstractPlayer> players = state.getPlayers();
 		ArrayList<AbstractPlayer> playersList = state.getPlayersList();
-		ArrayList<ICard> hand = players.get(botPlayerId).getHand();
-		ArrayList<ArrayList<ICard>> otherHands = AbstractPlayer.getOtherHands(playersList, botPlayerId);
+		AbstractPlayer player = players.get(botPlayerId);
 
-		ArrayList<PointSaladCard> convertedHand = PointSaladCard.convertHand(hand);
-		ArrayList<PointSaladCard> criterionCards = PointSaladCard.getCriteriaHand(convertedHand);
+		ArrayList<PointSaladCard> criterionCards = player.getIndexedHand().getCriteriaCards();
 
 		if (criterionCards.isEmpty()) {
 			// No criterion card to flip
 			return flipString;
 		}
 
-		int currentScore = 0;
-
-		try {
-			currentScore = scorer.calculateScore(hand, otherHands);
-		}
-		catch (Exception e) {
-			throw new BotLogicException("Failed to calculate the current score of the bot.", e);
-		}
+		ScoringContext context = ScoringContext.fromCounts(player.getIndexedHand().getVeggieCounts(),
+								AbstractPlayer.getVeggieCounts(AbstractPlayer.getOtherPlayers(playersList, botPlayerId)));
 
+		// Each flip is rated by the score change it would make, without copying the hand
 		ArrayList<Integer> scores = new ArrayList<Integer>();
 		for (int i = 0; i < criterionCards.size(); i++) {
-			PointSaladCard card = criterionCards.get(i);
-			ArrayList<PointSaladCard> dummyHand = PointSaladCard.copyHand(convertedHand);
-
-			// Flip the card in the dummy hand
-			PointSaladCard cardToFlip = dummyHand.get(convertedHand.indexOf(card));
-			cardToFlip.flip();
-
-			ArrayList<ICard> dummyHandICard = PointSaladCard.convertToICardHand(dummyHand);
-
 			try {
-				int score = scorer.calculateScore(dummyHandICard, otherHands);
+				int score = scorer.calculateFlipDelta(criterionCards, context, criterionCards.get(i));
 				scores.add(score);
 			}
 			catch (Exception e) {
@@ -316,8 +319,8 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 			}
 		}
 
-		// Get the maximum score and index
-		int maxScore = currentScore;
+		// Get the maximum score change and index, a flip must make the bot gain points
+		int maxScore = 0;
 		int maxIndex = -1;
 
 		for (int i = 0; i < scores.size(); i++) {
@@ -329,7 +332,7 @@ public class PointSaladDefaultBotLogic implements IBotLogic {
 		}
 
 		if (maxIndex == -1) {
-			// The maximum score is the current score of the bot.
+			// No flip would make the bot gain points.
 			// Therefore it won't flip any card.
 			return flipString;
 		}
@@ -2,15 +2,20 @@ package states;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.SplittableRandom;
 
-import cards.ICard;
 import game.market.IMarket;
+import game.market.PointSaladMarketFeed;
+import game.scorer.IScorer;
+import game.scorer.ScoreReport;
 import network.IServer;
 import phases.IPhase;
 import players.AbstractPlayer;
 
 /**
  * The State class represents the state of the game.
+ * It holds the random source of the game, created from a seed so that the game can be replayed.
+ * The random source is not thread safe: it is meant to be used by a single game at a time.
  */
 public class State {
 
@@ -19,9 +24,17 @@ public class State {
 	private int playerTurnIndex; // Index of the key of the player's turn
 	private IMarket market;
 	private IPhase phase;
+	private long seed;
+	private SplittableRandom random;
+	private IScorer scorer; // Scorer following the game, may be null
+	private PointSaladMarketFeed marketFeed; // Changes of the market for the human players, may be null
+	private ScoreReport scoreReport; // Final scores, null until the game is scored
+	private boolean logTurns = true; // Whether the turns are logged in the host's terminal
+	private boolean parallelScoring = false; // Whether the final scores are computed on the common fork-join pool
 
 	/**
 	 * Default constructor for the State class.
+	 * The random source of the game is created from a random seed.
 	 */
 	public State() {
 		this.server = null;
@@ -29,10 +42,12 @@ public class State {
 		this.market = null;
 		this.phase = null;
 		this.playerTurnIndex = -1;
+		setSeed(new SplittableRandom().nextLong());
 	}
 
 	/**
 	 * Constructor for the State class.
+	 * The random source of the game is created from a random seed.
 	 * 
 	 * @param server The server hosting the game
 	 * @param players The players in the game, with their IDs as keys
@@ -41,20 +56,135 @@ public class State {
 	 * @param phase The phase of the game
 	 */
 	public State(IServer server, HashMap<Integer, AbstractPlayer> players, int playerTurnIndex, IMarket market, IPhase phase) {
+		this(server, players, playerTurnIndex, market, phase, new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Constructor for the State class, with the seed of the random source of the game.
+	 * Two games created with the same seed, and the same players' answers, are the same.
+	 * 
+	 * @param server The server hosting the game
+	 * @param players The players in the game, with their IDs as keys
+	 * @param playerTurnIndex The index of the player whose turn it is. A value of -1 means it is not any player's turn
+	 * @param market The market in the game
+	 * @param phase The phase of the game
+	 * @param seed The seed of the random source of the game
+	 */
+	public State(IServer server, HashMap<Integer, AbstractPlayer> players, int playerTurnIndex, IMarket market, IPhase phase, long seed) {
 		this.server = server;
 		this.players = players;
 		this.playerTurnIndex = playerTurnIndex;
 		this.market = market;
 		this.phase = phase;
+		setSeed(seed);
 	}
 
 	/**
 	 * Copy constructor for the State class.
+	 * The copy shares the random source of the state, as it belongs to the same game.
 	 * 
 	 * @param state The state to copy
 	 */
 	public State copy() {
-		return new State(this.server, this.players, this.playerTurnIndex, this.market, this.phase);
+		State state = new State(this.server, this.players, this.playerTurnIndex, this.market, this.phase, this.seed);
+		state.random = this.random;
+		state.scorer = this.scorer;
+		state.marketFeed = this.marketFeed;
+		state.scoreReport = this.scoreReport;
+		state.logTurns = this.logTurns;
+		state.parallelScoring = this.parallelScoring;
+		return state;
+	}
+
+	/**
+	 * Getter for the scorer following the game, which keeps the scores of the players up to date.
+	 * 
+	 * @return The scorer following the game, or null if there is none
+	 */
+	public IScorer getScorer() {
+		return scorer;
+	}
+
+	/**
+	 * Setter for the scorer following the game.
+	 * 
+	 * @param scorer The scorer following the game, or null if there is none
+	 */
+	public void setScorer(IScorer scorer) {
+		this.scorer = scorer;
+	}
+
+	/**
+	 * Getter for the feed of the changes of the market, sent to the human players instead of the whole market.
+	 * 
+	 * @return The feed of the changes of the market, or null if there is none
+	 */
+	public PointSaladMarketFeed getMarketFeed() {
+		return marketFeed;
+	}
+
+	/**
+	 * Setter for the feed of the changes of the market.
+	 * 
+	 * @param marketFeed The feed of the changes of the market, or null if there is none
+	 */
+	public void setMarketFeed(PointSaladMarketFeed marketFeed) {
+		this.marketFeed = marketFeed;
+	}
+
+	/**
+	 * Getter for the report of the final scores.
+	 * 
+	 * @return The report of the final scores, or null if the game has not been scored yet
+	 */
+	public ScoreReport getScoreReport() {
+		return scoreReport;
+	}
+
+	/**
+	 * Setter for the report of the final scores.
+	 * 
+	 * @param scoreReport The report of the final scores
+	 */
+	public void setScoreReport(ScoreReport scoreReport) {
+		this.scoreReport = scoreReport;
+	}
+
+	/**
+	 * Checks if the hands and the market are logged in the host's terminal at every turn.
+	 * 
+	 * @return True if the turns are logged, false otherwise
+	 */
+	public boolean isLoggingTurns() {
+		return logTurns;
+	}
+
+	/**
+	 * Setter for the logging of the turns in the host's terminal.
+	 * 
+	 * @param logTurns True to log the hands and the market at every turn, false otherwise
+	 */
+	public void setLogTurns(boolean logTurns) {
+		this.logTurns = logTurns;
+	}
+
+	/**
+	 * Getter for the parallel computation of the final scores.
+	 * 
+	 * @return True if the final scores are computed on the common fork-join pool, false otherwise
+	 */
+	public boolean isParallelScoring() {
+		return parallelScoring;
+	}
+
+	/**
+	 * Setter for the parallel computation of the final scores.
+	 * A scorer which already knows the scores, such as the incremental scorer, does not use the pool.
+	 * 
+	 * @param parallelScoring True to compute the final scores on the common fork-join pool, false otherwise
+	 */
+	public void setParallelScoring(boolean parallelScoring) {
+		this.parallelScoring = parallelScoring;
 	}
 
 	/**
@@ -173,6 +303,35 @@ public class State {
 		this.phase = phase;
 	}
 
+	/**
+	 * Getter for the seed of the random source of the game.
+	 * 
+	 * @return The seed of the game
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Setter for the seed of the random source of the game. The random source is reset from this seed.
+	 * 
+	 * @param seed The seed of the game
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Getter for the random source of the game.
+	 * Every random choice of the game (shuffles, starting player, bots) should use it so that the game can be replayed.
+	 * 
+	 * @return The random source of the game
+	 */
+	public SplittableRandom getRandom() {
+		return random;
+	}
+
 	/**
 	 * Returns a string representation of the state.
 	 * This representation only covers the phase, the player's turn and the market
@@ -182,31 +341,29 @@ public class State {
 	 */
 	@Override
 	public String toString() {
-		String stateString = " ---------- State ---------- \n";
-		stateString += "Current phase of the game: " + phase.getClass().getSimpleName() + "\n";
+		StringBuilder stateString = new StringBuilder(" ---------- State ---------- \n");
+		stateString.append("Current phase of the game: ").append(phase.getClass().getSimpleName()).append("\n");
 		if (playerTurnIndex == -1) {
-			stateString += "No player's turn\n";
+			stateString.append("No player's turn\n");
 		} else {
-			stateString += "Current player turn (" + (playerTurnIndex + 1) + "/" + players.size() + "): "
-					+ getCurrentPlayer().getName() + "\n";
+			stateString.append("Current player turn (").append(playerTurnIndex + 1).append("/").append(players.size()).append("): ")
+					.append(getCurrentPlayer().getName()).append("\n");
 		}
-		stateString += market + "\n";
+		stateString.append(market).append("\n");
 
 		for (AbstractPlayer player : players.values()) {
-			stateString += player.getName() + " (Player ID: " + player.getPlayerID() + ") hand is now: ";
-			ArrayList<ICard> hand = player.getHand();
-			if (hand.size() > 0) {
-				stateString += "\n";
-				ICard card = hand.get(0);
-				stateString += card.handToString(hand) + "\n\n";
+			stateString.append(player.getName()).append(" (Player ID: ").append(player.getPlayerID()).append(") hand is now: ");
+			if (!player.getIndexedHand().getCards().isEmpty()) {
+				// The player caches the string of its hand
+				stateString.append("\n").append(player.handToString()).append("\n\n");
 			}
 			else {
-				stateString += "Empty...\n\n";
+				stateString.append("Empty...\n\n");
 			}
 		}
 
-		stateString += " -------------------------- \n";
+		stateString.append(" -------------------------- \n");
 
-		return stateString;
+		return stateString.toString();
 	}
 }
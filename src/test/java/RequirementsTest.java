@@ -20,6 +20,7 @@ import exceptions.BotLogicException;
 import exceptions.FlippingException;
 import exceptions.MarketException;
 import game.market.PointSaladMarket;
+import game.market.PointSaladMarketSettings;
 import main.Host.PointSaladHost;
 import network.IServer;
 import network.Server;
@@ -306,7 +307,7 @@ public class RequirementsTest {
 		Pile<PointSaladCard> initialDeck = PointSaladSetupPhase.getInitialDeck(cards, nbPlayers);
 
 		// Split the deck in piles
-		ArrayList<Pile<PointSaladCard>> criterionPiles = initialDeck.splitIn(PointSaladMarket.NUM_DRAW_PILES);
+		ArrayList<Pile<PointSaladCard>> criterionPiles = initialDeck.splitIn(PointSaladMarketSettings.getDefault().getNumDrawPiles());
 
 		assertEquals(3, criterionPiles.size(), "Invalid number of piles. Found " + criterionPiles.size() + " instead of 3.");
 
@@ -365,7 +366,7 @@ public class RequirementsTest {
 		
 		int nbPlayers = 2;
 		Pile<PointSaladCard> initialDeck = PointSaladSetupPhase.getInitialDeck(cards, nbPlayers);
-		ArrayList<Pile<PointSaladCard>> criterionPiles = initialDeck.splitIn(PointSaladMarket.NUM_DRAW_PILES);
+		ArrayList<Pile<PointSaladCard>> criterionPiles = initialDeck.splitIn(PointSaladMarketSettings.getDefault().getNumDrawPiles());
 		
 		// Making copies of the piles, but not deep copies to keep the same cards references
 		ArrayList<Pile<PointSaladCard>> copiedPiles = new ArrayList<>();
@@ -384,9 +385,9 @@ public class RequirementsTest {
 		ArrayList<PointSaladCard> vegetables = market.getVegetableCards();
 		// Assert that every vegetable slot is filled, with a vegetable card
 		for (int i = 0; i < vegetables.size(); i++) {
-			Pile<PointSaladCard> cardOriginalPile = copiedPiles.get(i % PointSaladMarket.NUM_DRAW_PILES);
+			Pile<PointSaladCard> cardOriginalPile = copiedPiles.get(i % PointSaladMarketSettings.getDefault().getNumDrawPiles());
 			int originalPilePosition = (cardOriginalPile.size()-1) - // Get top card
-										i / PointSaladMarket.NUM_DRAW_PILES; // 0 or 1, to know if it was the top card, or the one right after 
+										i / PointSaladMarketSettings.getDefault().getNumDrawPiles(); // 0 or 1, to know if it was the top card, or the one right after 
 			PointSaladCard marketCard = vegetables.get(i);
 
 			assertFalse(marketCard.isCriterionSideUp(), "Vegetable card at position " + i + " is showing its criterion side.");
@@ -528,7 +529,7 @@ public class RequirementsTest {
 		
 		// Assert an invalid criterion fails
 		assertThrows(MarketException.class,
-					() -> market.draftCards(Integer.toString(PointSaladMarket.NUM_DRAW_PILES + 1)),
+					() -> market.draftCards(Integer.toString(market.getSettings().getNumDrawPiles() + 1)),
 					"Drafting a card with an invalid index should throw an exception.");
 		
 		
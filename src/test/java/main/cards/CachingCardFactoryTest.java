@@ -0,0 +1,81 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.CachingCardFactory;
+import cards.ICard;
+import cards.ICardFactory;
+import cards.PointSaladCard;
+import cards.PointSaladCardFactory;
+import exceptions.CardFactoryException;
+
+/**
+ * Test class for the CachingCardFactory class.
+ */
+public class CachingCardFactoryTest {
+
+	private static final String MANIFEST_PATH = "src/main/resources/PointSaladManifest.json";
+
+	/**
+	 * Card factory counting how many times it actually loads the cards.
+	 */
+	private static class CountingCardFactory implements ICardFactory {
+		private int nbLoads = 0;
+
+		@Override
+		public ArrayList<ICard> loadCards(String filename) throws CardFactoryException {
+			nbLoads++;
+			return new PointSaladCardFactory().loadCards(filename);
+		}
+	}
+
+	@Test
+	public void testCardsAreCachedAndCopied() throws Exception {
+		CachingCardFactory.clearCache();
+		CountingCardFactory countingFactory = new CountingCardFactory();
+		CachingCardFactory factory = new CachingCardFactory(countingFactory);
+
+		ArrayList<ICard> cards1 = factory.loadCards(MANIFEST_PATH);
+		ArrayList<ICard> cards2 = factory.loadCards(MANIFEST_PATH);
+
+		assertEquals(1, countingFactory.nbLoads, "The manifest should only be loaded once.");
+		assertEquals(cards1.size(), cards2.size(), "Both loads should return the same number of cards.");
+
+		PointSaladCard card1 = (PointSaladCard) cards1.get(0);
+		PointSaladCard card2 = (PointSaladCard) cards2.get(0);
+		assertNotSame(card1, card2, "Each load should return new cards.");
+		assertSame(card1.getCriterion(), card2.getCriterion(), "Cards should share their criterion.");
+	}
+
+	@Test
+	public void testModifiedFileIsReloaded() throws Exception {
+		File manifest = File.createTempFile("manifest", ".json");
+		manifest.deleteOnExit();
+
+		String card = "{\"id\": 0, \"criteria\": {\"PEPPER\": \"MOST PEPPER = 10\", \"LETTUCE\": \"MOST LETTUCE = 10\", "
+					+ "\"CARROT\": \"MOST CARROT = 10\", \"CABBAGE\": \"MOST CABBAGE = 10\", \"ONION\": \"MOST ONION = 10\", "
+					+ "\"TOMATO\": \"MOST TOMATO = 10\"}}";
+		try (FileWriter writer = new FileWriter(manifest)) {
+			writer.write("{\"cards\": [" + card + "]}");
+		}
+
+		CountingCardFactory countingFactory = new CountingCardFactory();
+		CachingCardFactory factory = new CachingCardFactory(countingFactory);
+		assertEquals(6, factory.loadCards(manifest.getPath()).size(), "A single id should give 6 cards.");
+
+		try (FileWriter writer = new FileWriter(manifest)) {
+			writer.write("{\"cards\": [" + card + ", " + card + "]}");
+		}
+
+		assertEquals(12, factory.loadCards(manifest.getPath()).size(), "The modified file should be reloaded.");
+		assertEquals(2, countingFactory.nbLoads, "The manifest should have been loaded twice.");
+	}
+}
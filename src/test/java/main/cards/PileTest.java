@@ -0,0 +1,122 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cards.Pile;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+
+/**
+ * Test class for the Pile class.
+ */
+public class PileTest {
+
+	private ArrayList<PointSaladCard> createCards(int numCards) {
+		ArrayList<PointSaladCard> cards = new ArrayList<>();
+		for (int i = 0; i < numCards; i++) {
+			cards.add(new PointSaladCard(Vegetable.values()[i % Vegetable.values().length], null));
+		}
+		return cards;
+	}
+
+	@Test
+	public void testDraw() {
+		ArrayList<PointSaladCard> cards = createCards(5);
+		Pile<PointSaladCard> pile = new Pile<>(new ArrayList<>(cards));
+
+		assertSame(cards.get(4), pile.draw(), "The top card should be drawn first.");
+
+		ArrayList<PointSaladCard> drawnCards = pile.draw(10);
+		assertEquals(4, drawnCards.size(), "Drawing more cards than available should draw the whole pile.");
+		assertSame(cards.get(3), drawnCards.get(0), "Cards should be drawn from the top.");
+		assertSame(cards.get(0), drawnCards.get(3), "The bottom card should be drawn last.");
+		assertEquals(0, pile.size(), "The pile should be empty.");
+	}
+
+	@Test
+	public void testSplitPilesAreIndependent() {
+		ArrayList<PointSaladCard> cards = createCards(7);
+		Pile<PointSaladCard> pile = new Pile<>(new ArrayList<>(cards));
+
+		ArrayList<Pile<PointSaladCard>> piles = pile.splitIn(3);
+		assertEquals(3, piles.get(0).size(), "The first pile should get the remaining card.");
+		assertEquals(2, piles.get(2).size(), "The last pile should have 2 cards.");
+		assertEquals(7, pile.size(), "The original pile should not be modified.");
+
+		// Modifying a split pile should not modify the others
+		Pile<PointSaladCard> firstPile = piles.get(0);
+		firstPile.addCard(new PointSaladCard(Vegetable.ONION, null));
+		assertSame(cards.get(3), piles.get(1).getCards().get(0), "Adding a card should not overwrite the next pile.");
+		assertSame(cards.get(3), pile.getCards().get(3), "Adding a card should not modify the original pile.");
+
+		Pile<PointSaladCard> bottomPile = pile.splitInTwo();
+		assertEquals(3, bottomPile.size(), "The bottom pile should have half of the cards.");
+		assertEquals(4, pile.size(), "The original pile should keep the top half of the cards.");
+		assertSame(cards.get(6), pile.draw(), "The original pile should still draw from the top.");
+
+		bottomPile.addCards(new ArrayList<>(createCards(2)));
+		assertEquals(5, bottomPile.size(), "Cards should be added to the bottom pile.");
+		assertSame(cards.get(3), pile.getCards().get(0), "Adding cards should not overwrite the other half.");
+	}
+
+	@Test
+	public void testSeededShuffle() {
+		ArrayList<PointSaladCard> cards = createCards(20);
+		Pile<PointSaladCard> pile1 = new Pile<>(new ArrayList<>(cards));
+		Pile<PointSaladCard> pile2 = new Pile<>(new ArrayList<>(cards));
+
+		pile1.shuffle(new SplittableRandom(42));
+		pile2.shuffle(new SplittableRandom(42));
+
+		assertEquals(pile1, pile2, "Shuffling with the same seed should give the same pile.");
+		assertEquals(cards.size(), pile1.size(), "Shuffling should keep every card.");
+	}
+
+	@Test
+	public void testUndoDrawAndSplit() {
+		ArrayList<PointSaladCard> cards = createCards(6);
+		Pile<PointSaladCard> pile = new Pile<>(new ArrayList<>(cards));
+
+		PointSaladCard drawnCard = pile.draw();
+		pile.putBack(drawnCard);
+		assertEquals(cards, pile.getCards(), "Putting back a drawn card should restore an owned pile.");
+
+		Pile<PointSaladCard> bottomPile = pile.splitInTwo();
+		drawnCard = bottomPile.draw();
+		bottomPile.putBack(drawnCard);
+		assertSame(cards.get(2), bottomPile.getTopCard(), "Putting back a drawn card should restore a shared pile.");
+
+		pile.mergeSplit(bottomPile);
+		assertEquals(6, pile.size(), "Merging a split should give back the bottom cards.");
+		assertEquals(0, bottomPile.size(), "Merging a split should empty the bottom pile.");
+		for (int i = 0; i < cards.size(); i++) {
+			assertSame(cards.get(i), pile.getCard(i), "Merging a split should restore the order of the cards.");
+		}
+	}
+
+	@Test
+	public void testUndoAfterSharingChanges() {
+		ArrayList<PointSaladCard> cards = createCards(6);
+
+		// Drawn from an owned pile, put back once the pile is shared
+		Pile<PointSaladCard> pile = new Pile<>(new ArrayList<>(cards));
+		PointSaladCard drawnCard = pile.draw();
+		pile.share();
+		pile.putBack(drawnCard);
+		assertEquals(cards, pile.getCards(), "Putting back a card in a pile shared since the draw should restore it.");
+
+		// Split, then both piles get their own lists before the merge
+		Pile<PointSaladCard> bottomPile = pile.splitInTwo();
+		pile.getCards();
+		bottomPile.getCards();
+		pile.mergeSplit(bottomPile);
+		assertEquals(0, bottomPile.size(), "Merging a split should empty the bottom pile.");
+		assertEquals(cards, pile.getCards(), "Merging a split of owned piles should restore the order of the cards.");
+	}
+}
@@ -0,0 +1,71 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladBinaryCardFactory;
+import cards.PointSaladBinaryDeck;
+import cards.PointSaladCard;
+import cards.PointSaladCardFactory;
+import cards.PointSaladCard.Vegetable;
+import criteria.point_salad_criteria.PointSaladMostCriterion;
+import criteria.point_salad_criteria.PointSaladPerVeggieCriterion;
+import exceptions.CardFactoryException;
+
+/**
+ * Test class for the PointSaladBinaryCardFactory class.
+ */
+public class PointSaladBinaryCardFactoryTest {
+
+	private static final String MANIFEST_PATH = "src/main/resources/PointSaladManifest.json";
+
+	@Test
+	public void testCompiledDeckMatchesManifest() throws Exception {
+		File deck = File.createTempFile("deck", ".bin");
+		deck.deleteOnExit();
+
+		PointSaladBinaryDeck.compile(MANIFEST_PATH, deck.getPath());
+
+		ArrayList<ICard> expectedCards = new PointSaladCardFactory().loadCards(MANIFEST_PATH);
+		ArrayList<ICard> cards = new PointSaladBinaryCardFactory().loadCards(deck.getPath());
+
+		assertEquals(expectedCards.size(), cards.size(), "The binary deck should hold every card of the manifest.");
+		for (int i = 0; i < cards.size(); i++) {
+			PointSaladCard expectedCard = (PointSaladCard) expectedCards.get(i);
+			PointSaladCard card = (PointSaladCard) cards.get(i);
+			expectedCard.flip();
+			card.flip();
+			assertEquals(expectedCard.toString(), card.toString(), "Card n°" + (i+1) + " should be decoded as in the manifest.");
+		}
+	}
+
+	@Test
+	public void testInvalidFile() {
+		assertThrows(CardFactoryException.class, () -> new PointSaladBinaryCardFactory().loadCards(MANIFEST_PATH),
+					"A JSON manifest is not a binary deck.");
+	}
+
+	@Test
+	public void testUnencodableCards() throws Exception {
+		File deck = File.createTempFile("deck", ".bin");
+		deck.deleteOnExit();
+
+		ArrayList<ICard> tooManyPoints = new ArrayList<>();
+		tooManyPoints.add(new PointSaladCard(Vegetable.ONION, new PointSaladMostCriterion(Vegetable.CARROT, 40000)));
+		assertThrows(CardFactoryException.class, () -> PointSaladBinaryDeck.write(tooManyPoints, deck.getPath()),
+					"Points which do not fit in a record should not be truncated.");
+
+		ArrayList<ICard> missingPoints = new ArrayList<>();
+		missingPoints.add(new PointSaladCard(Vegetable.ONION, new PointSaladPerVeggieCriterion(
+				new ArrayList<>(Arrays.asList(Vegetable.CARROT, Vegetable.LETTUCE)), new ArrayList<>(Arrays.asList(2)))));
+		assertThrows(CardFactoryException.class, () -> PointSaladBinaryDeck.write(missingPoints, deck.getPath()),
+					"Points which do not match the vegetables should not be padded.");
+	}
+}
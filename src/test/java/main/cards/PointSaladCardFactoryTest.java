@@ -0,0 +1,58 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCardFactory;
+import exceptions.CardFactoryException;
+
+/**
+ * Test class for the PointSaladCardFactory class.
+ */
+public class PointSaladCardFactoryTest {
+
+	private static final String CARD_ENTRY = "{\"id\": 0, \"criteria\": {\"PEPPER\": \"MOST PEPPER = 10\", "
+		+ "\"LETTUCE\": \"FEWEST LETTUCE = 7\", \"CARROT\": \"2 / CARROT\", \"CABBAGE\": \"COMPLETE SET = 12\", "
+		+ "\"ONION\": \"ONION: EVEN=7, ODD=3\", \"TOMATO\": \"TOMATO + LETTUCE = 5\"}}";
+
+	private String writeManifest(String content) throws Exception {
+		File manifest = File.createTempFile("manifest", ".json");
+		manifest.deleteOnExit();
+		try (FileWriter writer = new FileWriter(manifest)) {
+			writer.write(content);
+		}
+		return manifest.getPath();
+	}
+
+	@Test
+	public void testStreamedCards() throws Exception {
+		String path = writeManifest("{\"name\": \"test\", \"cards\": [" + CARD_ENTRY + ", " + CARD_ENTRY + "], \"extra\": [1, 2]}");
+		PointSaladCardFactory factory = new PointSaladCardFactory();
+
+		ArrayList<ICard> streamedCards = new ArrayList<>();
+		factory.streamCards(path, streamedCards::add);
+
+		assertEquals(12, streamedCards.size(), "Two entries should give 12 cards.");
+		assertEquals(12, factory.loadCards(path).size(), "Loading should give the same cards as streaming.");
+	}
+
+	@Test
+	public void testInvalidManifests() throws Exception {
+		PointSaladCardFactory factory = new PointSaladCardFactory();
+
+		String noCards = writeManifest("{\"name\": \"test\"}");
+		assertThrows(CardFactoryException.class, () -> factory.loadCards(noCards), "A manifest without cards is invalid.");
+
+		String badEntry = writeManifest("{\"cards\": [" + CARD_ENTRY + ", {\"id\": 1}]}");
+		assertThrows(CardFactoryException.class, () -> factory.loadCards(badEntry), "An entry without criteria is invalid.");
+
+		assertThrows(CardFactoryException.class, () -> factory.loadCards("does/not/exist.json"), "A missing file is invalid.");
+	}
+}
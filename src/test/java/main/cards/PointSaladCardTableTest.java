@@ -0,0 +1,69 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCardFactory;
+import cards.PointSaladCardTable;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+
+/**
+ * Test class for the PointSaladCardTable class.
+ */
+public class PointSaladCardTableTest {
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		ArrayList<ICard> cards = new PointSaladCardFactory().loadCards("src/main/resources/PointSaladManifest.json");
+		PointSaladCardTable table = new PointSaladCardTable(cards);
+
+		assertEquals(cards.size(), table.getNbTemplates(), "Every card of the manifest should have its own template.");
+
+		((PointSaladCard) cards.get(1)).flip();
+		int[] codes = table.encodeHand(cards);
+		ArrayList<ICard> decodedCards = table.decodeHand(codes);
+
+		for (int i = 0; i < cards.size(); i++) {
+			PointSaladCard card = (PointSaladCard) cards.get(i);
+			PointSaladCard decodedCard = (PointSaladCard) decodedCards.get(i);
+
+			assertEquals(card.getVegetable(), PointSaladCardTable.getVegetable(codes[i]), "Vegetable of card " + i + " should be encoded.");
+			assertEquals(card.getVegetable(), decodedCard.getVegetable(), "Vegetable of card " + i + " should be decoded.");
+			assertSame(card.getCriterion(), decodedCard.getCriterion(), "Criterion of card " + i + " should be shared.");
+			assertEquals(card.isCriterionSideUp(), decodedCard.isCriterionSideUp(), "Side of card " + i + " should be kept.");
+			assertEquals(card.toString(), table.getDisplay(codes[i]), "Display of card " + i + " should be the same.");
+		}
+
+		assertEquals(PointSaladVeggieCounts.fromHand(cards), PointSaladCardTable.countVeggies(codes),
+					"Counting encoded cards should give the same counts.");
+	}
+
+	@Test
+	public void testSidesAndSlots() {
+		PointSaladCard card = new PointSaladCard(Vegetable.ONION, null);
+		ArrayList<ICard> cards = new ArrayList<>();
+		cards.add(card);
+		PointSaladCardTable table = new PointSaladCardTable(cards);
+
+		int code = table.encode(card);
+		assertFalse(PointSaladCardTable.isCriterionSideUp(code), "Card should be on its vegetable side.");
+		assertTrue(PointSaladCardTable.isCriterionSideUp(PointSaladCardTable.flip(code)), "Flipped code should be on its criterion side.");
+
+		ArrayList<PointSaladCard> slots = new ArrayList<>();
+		slots.add(null);
+		slots.add(card);
+		int[] slotCodes = table.encodeSlots(slots);
+		assertEquals(PointSaladCardTable.EMPTY_SLOT, slotCodes[0], "Empty slot should be encoded as such.");
+		assertEquals(null, table.decodeSlots(slotCodes).get(0), "Empty slot should be decoded as null.");
+		assertEquals(Vegetable.ONION, table.decodeSlots(slotCodes).get(1).getVegetable(), "Card slot should be decoded.");
+	}
+}
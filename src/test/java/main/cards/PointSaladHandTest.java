@@ -0,0 +1,51 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import cards.PointSaladHand;
+import cards.PointSaladVeggieCounts;
+
+/**
+ * Test class for the PointSaladHand class.
+ */
+public class PointSaladHandTest {
+
+	@Test
+	public void testIndexFollowsChanges() {
+		PointSaladCard criterionCard1 = new PointSaladCard(Vegetable.TOMATO, null);
+		criterionCard1.flip();
+		PointSaladCard criterionCard2 = new PointSaladCard(Vegetable.ONION, null);
+		criterionCard2.flip();
+
+		PointSaladHand hand = new PointSaladHand();
+		hand.addCard(criterionCard1);
+
+		ArrayList<ICard> newCards = new ArrayList<>();
+		newCards.add(new PointSaladCard(Vegetable.CARROT, null));
+		newCards.add(criterionCard2);
+		hand.addCards(newCards);
+
+		assertEquals(3, hand.size(), "The hand should contain 3 cards.");
+		assertEquals(2, hand.getCriteriaCards().size(), "The hand should contain 2 criterion cards.");
+		assertEquals(1, hand.getVeggieCounts().get(Vegetable.CARROT), "The hand should contain 1 carrot.");
+
+		hand.flipCard(criterionCard1);
+		assertEquals(1, hand.getCriteriaCards().size(), "The flipped card should not be a criterion anymore.");
+		assertEquals(1, hand.getVeggieCounts().get(Vegetable.TOMATO), "The flipped card should be counted.");
+
+		hand.flipCard(criterionCard1);
+		assertSame(criterionCard1, hand.getCriteriaCards().get(0), "The criteria should keep the order of the hand.");
+		assertEquals(0, hand.getVeggieCounts().get(Vegetable.TOMATO), "The card flipped back should not be counted.");
+
+		PointSaladVeggieCounts expectedCounts = PointSaladVeggieCounts.fromHand(hand.getCards());
+		assertEquals(expectedCounts, hand.getVeggieCounts(), "The index should match a full recount.");
+	}
+}
@@ -0,0 +1,59 @@
+package main.cards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import cards.PointSaladVeggieCounts;
+
+/**
+ * Test class for the PointSaladVeggieCounts class.
+ */
+public class PointSaladVeggieCountsTest {
+
+	@Test
+	public void testCountsOnlyVeggieSide() {
+		ArrayList<ICard> hand = new ArrayList<>();
+		hand.add(new PointSaladCard(Vegetable.CARROT, null));
+		hand.add(new PointSaladCard(Vegetable.CARROT, null));
+		hand.add(new PointSaladCard(Vegetable.ONION, null));
+
+		PointSaladCard criterionCard = new PointSaladCard(Vegetable.TOMATO, null);
+		criterionCard.flip();
+		hand.add(criterionCard);
+
+		PointSaladVeggieCounts counts = PointSaladVeggieCounts.fromHand(hand);
+
+		assertEquals(2, counts.get(Vegetable.CARROT), "There should be 2 carrots.");
+		assertEquals(1, counts.get(Vegetable.ONION), "There should be 1 onion.");
+		assertEquals(0, counts.get(Vegetable.TOMATO), "Criterion side cards should not be counted.");
+		assertEquals(3, counts.getTotal(), "There should be 3 vegetables in total.");
+		assertEquals(4, counts.getNbMissingTypes(), "There should be 4 missing vegetable types.");
+	}
+
+	@Test
+	public void testUpdates() {
+		PointSaladVeggieCounts counts = new PointSaladVeggieCounts();
+		assertEquals(PointSaladVeggieCounts.NB_VEGGIES, counts.getNbMissingTypes(), "Every type should be missing at first.");
+
+		counts.increment(Vegetable.PEPPER);
+		counts.add(Vegetable.LETTUCE, 3);
+		counts.decrement(Vegetable.LETTUCE);
+
+		assertEquals(1, counts.get(Vegetable.PEPPER), "There should be 1 pepper.");
+		assertEquals(2, counts.get(Vegetable.LETTUCE), "There should be 2 lettuces.");
+		assertEquals(3, counts.getTotal(), "There should be 3 vegetables in total.");
+
+		PointSaladVeggieCounts copy = counts.copy();
+		assertEquals(counts, copy, "A copy should be equal to the original.");
+
+		counts.clear();
+		assertEquals(0, counts.getTotal(), "There should be no vegetable after clearing.");
+		assertEquals(3, copy.getTotal(), "Clearing should not modify a copy.");
+	}
+}
@@ -0,0 +1,126 @@
+package main.cards;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCardFactory;
+import exceptions.CardFactoryException;
+import players.AbstractPlayer;
+import players.IAPlayer;
+import players.PointSaladDefaultBotLogic;
+
+/**
+ * Test helper dealing random hands from the Point Salad manifest, with a seeded random generator.
+ * Every card dealt is a copy, so it can be flipped without changing the deck.
+ */
+public class RandomHandDealer {
+
+	public static final String MANIFEST_PATH = "src/main/resources/PointSaladManifest.json";
+
+	private final ArrayList<ICard> deck;
+	private final SplittableRandom random;
+
+	/**
+	 * Creates a dealer for the cards of the manifest.
+	 *
+	 * @param seed The seed of the random generator
+	 *
+	 * @throws CardFactoryException If the manifest can not be loaded
+	 */
+	public RandomHandDealer(long seed) throws CardFactoryException {
+		this.deck = new PointSaladCardFactory().loadCards(MANIFEST_PATH);
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Gets the cards of the manifest.
+	 *
+	 * @return The cards of the manifest
+	 */
+	public ArrayList<ICard> getDeck() {
+		return deck;
+	}
+
+	/**
+	 * Draws a random integer from the generator of the dealer.
+	 *
+	 * @param bound The exclusive upper bound
+	 *
+	 * @return A random integer between 0 and bound
+	 */
+	public int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+
+	/**
+	 * Deals a copy of a random card of the deck.
+	 *
+	 * @param flipOneIn The card is flipped to its vegetable side with a chance of one in flipOneIn, never if 0
+	 *
+	 * @return The card dealt
+	 */
+	public PointSaladCard dealCard(int flipOneIn) {
+		PointSaladCard card = (PointSaladCard) deck.get(random.nextInt(deck.size())).copy();
+		if (flipOneIn > 0 && random.nextInt(flipOneIn) == 0) {
+			card.flip();
+		}
+		return card;
+	}
+
+	/**
+	 * Deals a hand of random cards.
+	 *
+	 * @param handSize The number of cards of the hand
+	 * @param flipOneIn Each card is flipped with a chance of one in flipOneIn, never if 0
+	 *
+	 * @return The hand dealt
+	 */
+	public ArrayList<ICard> dealHand(int handSize, int flipOneIn) {
+		ArrayList<ICard> hand = new ArrayList<>();
+		for (int i = 0; i < handSize; i++) {
+			hand.add(dealCard(flipOneIn));
+		}
+		return hand;
+	}
+
+	/**
+	 * Deals several hands of random cards.
+	 *
+	 * @param nbHands The number of hands
+	 * @param handSize The number of cards of each hand
+	 * @param flipOneIn Each card is flipped with a chance of one in flipOneIn, never if 0
+	 *
+	 * @return The hands dealt
+	 */
+	public ArrayList<ArrayList<ICard>> dealHands(int nbHands, int handSize, int flipOneIn) {
+		ArrayList<ArrayList<ICard>> hands = new ArrayList<>();
+		for (int i = 0; i < nbHands; i++) {
+			hands.add(dealHand(handSize, flipOneIn));
+		}
+		return hands;
+	}
+
+	/**
+	 * Deals a random hand to each player of a new table of bots, with IDs from 0.
+	 *
+	 * @param nbPlayers The number of players
+	 * @param handSize The number of cards of each hand
+	 * @param flipOneIn Each card is flipped with a chance of one in flipOneIn, never if 0
+	 *
+	 * @return The players, by ID
+	 */
+	public HashMap<Integer, AbstractPlayer> dealPlayers(int nbPlayers, int handSize, int flipOneIn) {
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int id = 0; id < nbPlayers; id++) {
+			AbstractPlayer player = new IAPlayer(id, "Bot " + id, new PointSaladDefaultBotLogic());
+			for (ICard card : dealHand(handSize, flipOneIn)) {
+				player.addCardToHand(card);
+			}
+			players.put(id, player);
+		}
+		return players;
+	}
+}
@@ -0,0 +1,109 @@
+package main.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCardFactory;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.ScoringContext;
+import criteria.point_salad_criteria.PointSaladCompleteSetCriterion;
+import criteria.point_salad_criteria.PointSaladMostCriterion;
+import game.market.PointSaladMarket;
+
+/**
+ * Test class for the score bounds of the criteria.
+ */
+public class CriterionBoundsTest {
+
+	private static PointSaladVeggieCounts randomCounts(SplittableRandom random, int maxCount) {
+		PointSaladVeggieCounts counts = new PointSaladVeggieCounts();
+		for (Vegetable veggie : Vegetable.values()) {
+			counts.add(veggie, random.nextInt(maxCount + 1));
+		}
+		return counts;
+	}
+
+	@Test
+	public void testFinalScoresAreWithinBounds() throws Exception {
+		ArrayList<ICard> deck = new PointSaladCardFactory().loadCards("src/main/resources/PointSaladManifest.json");
+		SplittableRandom random = new SplittableRandom(17);
+
+		for (int round = 0; round < 200; round++) {
+			int nbOthers = random.nextInt(4);
+			PointSaladVeggieCounts playerCounts = randomCounts(random, 3);
+			ArrayList<PointSaladVeggieCounts> otherCounts = new ArrayList<>();
+			for (int p = 0; p < nbOthers; p++) {
+				otherCounts.add(randomCounts(random, 3));
+			}
+			PointSaladVeggieCounts remainingCounts = randomCounts(random, 2);
+			ScoringContext context = ScoringContext.fromCounts(playerCounts, otherCounts);
+
+			// Gives each remaining card to a random player, or to nobody
+			PointSaladVeggieCounts finalPlayerCounts = playerCounts.copy();
+			ArrayList<PointSaladVeggieCounts> finalOtherCounts = new ArrayList<>();
+			for (PointSaladVeggieCounts counts : otherCounts) {
+				finalOtherCounts.add(counts.copy());
+			}
+			for (Vegetable veggie : Vegetable.values()) {
+				for (int i = 0; i < remainingCounts.get(veggie); i++) {
+					int receiver = random.nextInt(nbOthers + 2);
+					if (receiver == 0) {
+						finalPlayerCounts.increment(veggie);
+					} else if (receiver <= nbOthers) {
+						finalOtherCounts.get(receiver - 1).increment(veggie);
+					}
+				}
+			}
+
+			for (ICard card : deck) {
+				ICriterion criterion = ((PointSaladCard) card).getCriterion();
+				int finalScore = criterion.computePlayerScore(finalPlayerCounts, finalOtherCounts);
+				int maxScore = criterion.computeMaxScore(context, remainingCounts);
+				int minScore = criterion.computeMinScore(context, remainingCounts);
+
+				assertTrue(minScore <= finalScore && finalScore <= maxScore, "Final score " + finalScore + " of '" + criterion +
+							"' should be within [" + minScore + ", " + maxScore + "] in round " + round + ".");
+			}
+		}
+	}
+
+	@Test
+	public void testFlippedCardsAreRemaining() throws Exception {
+		// The player has no carrot, the other player has one, and no carrot is left in the market
+		PointSaladCard mostCarrot = new PointSaladCard(Vegetable.ONION, new PointSaladMostCriterion(Vegetable.CARROT, 10));
+		PointSaladCard carrotBack = new PointSaladCard(Vegetable.CARROT, new PointSaladCompleteSetCriterion(12));
+		mostCarrot.flip();
+		carrotBack.flip();
+		ArrayList<PointSaladCard> criteriaHand = new ArrayList<>();
+		criteriaHand.add(mostCarrot);
+		criteriaHand.add(carrotBack);
+
+		PointSaladVeggieCounts playerCounts = new PointSaladVeggieCounts();
+		ArrayList<PointSaladVeggieCounts> otherCounts = new ArrayList<>();
+		otherCounts.add(new PointSaladVeggieCounts());
+		otherCounts.get(0).increment(Vegetable.CARROT);
+		ScoringContext context = ScoringContext.fromCounts(playerCounts, otherCounts);
+
+		ArrayList<ArrayList<PointSaladCard>> criteriaHands = new ArrayList<>();
+		criteriaHands.add(criteriaHand);
+		criteriaHands.add(new ArrayList<PointSaladCard>());
+		PointSaladVeggieCounts remainingCounts = new PointSaladMarket().getRemainingVeggieCounts(criteriaHands);
+		int maxScore = mostCarrot.getCriterion().computeMaxScore(context, remainingCounts);
+
+		// Flipping the second card gives the player a carrot, which ties for the most carrots
+		carrotBack.flip();
+		playerCounts.increment(Vegetable.CARROT);
+		int finalScore = mostCarrot.getCriterion().computePlayerScore(playerCounts, otherCounts);
+		assertEquals(10, finalScore, "Flipping a carrot should give the most carrots.");
+		assertTrue(finalScore <= maxScore, "The bound should count the vegetable side of the criterion cards held in hands.");
+	}
+}
@@ -0,0 +1,56 @@
+package main.criteria;
+
+import java.util.ArrayList;
+
+import criteria.ICriterionFactory;
+import criteria.PointSaladCriterionFactory;
+
+/**
+ * Benchmark of the criterion factory against the legacy one, parsing every criterion of the manifest 100k times.
+ * Not run by the tests, run its main method from the project root.
+ */
+public class CriterionFactoryBenchmark {
+
+	private static final int NB_ITERATIONS = 100_000;
+	private static final int NB_WARMUP_ITERATIONS = 10_000;
+
+	/**
+	 * Parses every criterion the given number of times.
+	 * 
+	 * @param factory The factory to parse the criteria with
+	 * @param criteria The criterion strings
+	 * @param nbIterations The number of times to parse every criterion
+	 * 
+	 * @return A value depending on the parsed criteria, so that the parsing is not optimized away
+	 * 
+	 * @throws Exception If a criterion could not be parsed
+	 */
+	private static int parseAll(ICriterionFactory factory, ArrayList<String> criteria, int nbIterations) throws Exception {
+		int checksum = 0;
+		for (int i = 0; i < nbIterations; i++) {
+			for (String formattedString : criteria) {
+				checksum += factory.createCriterionFromFormattedString(formattedString).hashCode();
+			}
+		}
+		return checksum;
+	}
+
+	private static void run(String name, ICriterionFactory factory, ArrayList<String> criteria) throws Exception {
+		parseAll(factory, criteria, NB_WARMUP_ITERATIONS);
+
+		long start = System.nanoTime();
+		int checksum = parseAll(factory, criteria, NB_ITERATIONS);
+		long elapsed = System.nanoTime() - start;
+
+		System.out.printf("%-8s %8d ms  %6.1f ns/criterion  (checksum %d)%n", name, elapsed / 1_000_000,
+				(double) elapsed / ((long) NB_ITERATIONS * criteria.size()), checksum);
+	}
+
+	public static void main(String[] args) throws Exception {
+		ArrayList<String> criteria = PointSaladCriterionFactoryTest.readManifestCriteria();
+		System.out.println("Parsing " + criteria.size() + " criteria " + NB_ITERATIONS + " times");
+
+		run("legacy", new LegacyPointSaladCriterionFactory(), criteria);
+		run("parser", new PointSaladCriterionFactory(), criteria);
+	}
+}
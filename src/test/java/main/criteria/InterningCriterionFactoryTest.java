@@ -0,0 +1,54 @@
+package main.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import criteria.ICriterion;
+import criteria.InterningCriterionFactory;
+import criteria.PointSaladCriterionFactory;
+import exceptions.CriterionFactoryException;
+
+/**
+ * Test class for the InterningCriterionFactory class.
+ */
+public class InterningCriterionFactoryTest {
+
+	@Test
+	public void testSameCriterionIsShared() throws Exception {
+		InterningCriterionFactory.clearPool();
+		InterningCriterionFactory factory = new InterningCriterionFactory(new PointSaladCriterionFactory());
+
+		ICriterion criterion = factory.createCriterionFromFormattedString("4 / LETTUCE,  -2 / TOMATO");
+		ICriterion sameCriterion = new InterningCriterionFactory(new PointSaladCriterionFactory())
+				.createCriterionFromFormattedString("4/LETTUCE, -2/TOMATO");
+		ICriterion otherCriterion = factory.createCriterionFromFormattedString("4 / LETTUCE,  -2 / ONION");
+
+		assertSame(criterion, sameCriterion, "The same criterion should give the same instance, from any factory and spacing.");
+		assertNotSame(criterion, otherCriterion, "Different criteria should give different instances.");
+		assertEquals(2, InterningCriterionFactory.getPoolSize(), "Only the distinct criteria should be pooled.");
+		assertEquals(new PointSaladCriterionFactory().createCriterionFromFormattedString("4 / LETTUCE,  -2 / TOMATO").toString(),
+					criterion.toString(), "The shared criterion should be the one created by the factory.");
+	}
+
+	@Test
+	public void testWhitespaceSeparatesTokens() throws Exception {
+		InterningCriterionFactory factory = new InterningCriterionFactory(new PointSaladCriterionFactory());
+
+		factory.createCriterionFromFormattedString("MOST LETTUCE = 10");
+
+		assertThrows(CriterionFactoryException.class, () -> factory.createCriterionFromFormattedString("MOSTLETTUCE = 10"),
+					"Whitespace between tokens should not be removed from the key.");
+	}
+
+	@Test
+	public void testNullCriterion() {
+		InterningCriterionFactory factory = new InterningCriterionFactory(new PointSaladCriterionFactory());
+
+		assertThrows(CriterionFactoryException.class, () -> factory.createCriterionFromFormattedString(null),
+					"A null criterion should be reported by the factory.");
+	}
+}
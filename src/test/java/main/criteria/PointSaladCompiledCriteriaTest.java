@@ -0,0 +1,97 @@
+package main.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.PointSaladCompiledCriteria;
+import criteria.ScoringContext;
+import criteria.point_salad_criteria.PointSaladCompleteSetCriterion;
+import criteria.point_salad_criteria.PointSaladMostTotalCriterion;
+import criteria.point_salad_criteria.PointSaladPerVeggieCriterion;
+import exceptions.CriterionException;
+import game.scorer.PointSaladScorer;
+import main.cards.RandomHandDealer;
+
+/**
+ * Test class for the PointSaladCompiledCriteria class.
+ */
+public class PointSaladCompiledCriteriaTest {
+
+	@Test
+	public void testSameScoresAsCriteria() throws Exception {
+		RandomHandDealer dealer = new RandomHandDealer(11);
+		PointSaladScorer scorer = new PointSaladScorer();
+
+		int[] counts = new int[PointSaladVeggieCounts.NB_VEGGIES];
+		int[] maxCounts = new int[PointSaladCompiledCriteria.NB_COUNTS];
+		int[] minCounts = new int[PointSaladCompiledCriteria.NB_COUNTS];
+
+		for (int round = 0; round < 50; round++) {
+			int nbPlayers = 1 + dealer.nextInt(6);
+			ArrayList<ArrayList<ICard>> hands = new ArrayList<>();
+			for (int p = 0; p < nbPlayers; p++) {
+				hands.add(dealer.dealHand(dealer.nextInt(20), 3));
+			}
+			ArrayList<ICard> hand = hands.remove(0);
+
+			ArrayList<ICriterion> criteria = new ArrayList<>();
+			for (PointSaladCard card : PointSaladCard.getCriteriaHand(PointSaladCard.convertHand(hand))) {
+				criteria.add(card.getCriterion());
+			}
+
+			PointSaladVeggieCounts.fromHand(hand).copyTo(counts);
+			PointSaladCompiledCriteria.fillExtremes(PointSaladVeggieCounts.fromHands(hands), maxCounts, minCounts);
+
+			PointSaladCompiledCriteria compiled = PointSaladCompiledCriteria.compile(criteria);
+			assertEquals(scorer.calculateScore(hand, hands), compiled.evaluate(counts, maxCounts, minCounts),
+						"The fused criteria should give the score of the hand in round " + round + ".");
+
+			for (ICriterion criterion : criteria) {
+				assertEquals(criterion.computePlayerScore(hand, hands),
+							PointSaladCompiledCriteria.compile(criterion).evaluate(counts, maxCounts, minCounts),
+							"Compiled criterion '" + criterion + "' should give the same score.");
+			}
+		}
+	}
+
+	@Test
+	public void testComparative() throws Exception {
+		assertTrue(PointSaladCompiledCriteria.compile(new PointSaladMostTotalCriterion(10)).isComparative(),
+					"MOST TOTAL should be comparative.");
+		assertFalse(PointSaladCompiledCriteria.compile(new PointSaladCompleteSetCriterion(12)).isComparative(),
+					"COMPLETE SET should not be comparative.");
+	}
+
+	@Test
+	public void testPerVeggieExtraPoints() throws Exception {
+		// Extra points are ignored by the criterion, so they must be ignored once compiled too
+		ArrayList<Vegetable> vegetables = new ArrayList<Vegetable>();
+		vegetables.add(Vegetable.CARROT);
+		ArrayList<Integer> points = new ArrayList<Integer>();
+		points.add(2);
+		points.add(5);
+		PointSaladPerVeggieCriterion criterion = new PointSaladPerVeggieCriterion(vegetables, points);
+
+		PointSaladVeggieCounts counts = new PointSaladVeggieCounts();
+		counts.add(Vegetable.CARROT, 3);
+		ScoringContext context = ScoringContext.fromCounts(counts, new ArrayList<PointSaladVeggieCounts>());
+		assertEquals(criterion.computePlayerScore(context), PointSaladCompiledCriteria.compile(criterion).evaluate(context),
+					"Compiling a criterion with extra points should give the same score.");
+
+		points.remove(1);
+		vegetables.add(Vegetable.ONION);
+		assertThrows(CriterionException.class, () -> PointSaladCompiledCriteria.compile(new PointSaladPerVeggieCriterion(vegetables, points)),
+					"Compiling a criterion with missing points should throw an exception.");
+	}
+}
@@ -0,0 +1,76 @@
+package main.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import criteria.PointSaladCriterionFactory;
+import criteria.point_salad_criteria.AbstractPointSaladCriterion;
+import exceptions.CriterionFactoryException;
+
+/**
+ * Test class for the PointSaladCriterionFactory class.
+ */
+public class PointSaladCriterionFactoryTest {
+
+	/**
+	 * Gets every criterion string of the manifest.
+	 * 
+	 * @return The criterion strings of the manifest
+	 * 
+	 * @throws Exception If the manifest could not be read
+	 */
+	static ArrayList<String> readManifestCriteria() throws Exception {
+		String content = new String(Files.readAllBytes(Paths.get("src/main/resources/PointSaladManifest.json")), StandardCharsets.UTF_8);
+		JSONArray cards = new JSONObject(content).getJSONArray("cards");
+
+		ArrayList<String> criteria = new ArrayList<>();
+		for (int i = 0; i < cards.length(); i++) {
+			JSONObject cardCriteria = cards.getJSONObject(i).getJSONObject("criteria");
+			for (String veggie : cardCriteria.keySet()) {
+				criteria.add(cardCriteria.getString(veggie));
+			}
+		}
+		return criteria;
+	}
+
+	@Test
+	public void testSameCriteriaAsLegacyFactory() throws Exception {
+		PointSaladCriterionFactory factory = new PointSaladCriterionFactory();
+		LegacyPointSaladCriterionFactory legacyFactory = new LegacyPointSaladCriterionFactory();
+
+		for (String formattedString : readManifestCriteria()) {
+			AbstractPointSaladCriterion criterion = factory.createCriterionFromFormattedString(formattedString);
+			AbstractPointSaladCriterion legacyCriterion = legacyFactory.createCriterionFromFormattedString(formattedString);
+
+			assertEquals(legacyCriterion.getCriterionType(), criterion.getCriterionType(), "Type of '" + formattedString + "' should be the same.");
+			assertEquals(legacyCriterion.toString(), criterion.toString(), "Criterion '" + formattedString + "' should be the same.");
+		}
+	}
+
+	@Test
+	public void testErrorOffsets() {
+		PointSaladCriterionFactory factory = new PointSaladCriterionFactory();
+
+		CriterionFactoryException e = assertThrows(CriterionFactoryException.class,
+				() -> factory.createCriterionFromFormattedString("MOST LETUCE = 10"));
+		assertTrue(e.getMessage().contains("expected a vegetable at offset 5"), "The offset of the invalid vegetable should be given.");
+
+		e = assertThrows(CriterionFactoryException.class,
+				() -> factory.createCriterionFromFormattedString("4 / LETTUCE, -2 / TOMATO ="));
+		assertTrue(e.getMessage().contains("at offset 25"), "The offset of the trailing character should be given.");
+
+		e = assertThrows(CriterionFactoryException.class,
+				() -> factory.createCriterionFromFormattedString("CARROT + ONION ="));
+		assertTrue(e.getMessage().contains("expected an integer at offset 16"), "The end of the string should be given as offset.");
+	}
+}
@@ -0,0 +1,63 @@
+package main.criteria;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladVeggieCounts;
+import cards.PointSaladCard.Vegetable;
+import criteria.ICriterion;
+import criteria.ScoringContext;
+import main.cards.RandomHandDealer;
+
+/**
+ * Test class for the ScoringContext class.
+ */
+public class ScoringContextTest {
+
+	@Test
+	public void testPrecomputedValues() {
+		PointSaladVeggieCounts playerCounts = new PointSaladVeggieCounts();
+		playerCounts.add(Vegetable.CARROT, 3);
+		playerCounts.add(Vegetable.ONION, 1);
+		PointSaladVeggieCounts otherCounts = new PointSaladVeggieCounts();
+		otherCounts.add(Vegetable.CARROT, 1);
+		otherCounts.add(Vegetable.TOMATO, 5);
+		ArrayList<PointSaladVeggieCounts> others = new ArrayList<>();
+		others.add(otherCounts);
+
+		ScoringContext context = ScoringContext.fromCounts(playerCounts, others);
+
+		assertEquals(3, context.getMax(Vegetable.CARROT), "The max should include the player.");
+		assertEquals(1, context.getMin(Vegetable.CARROT), "The min should include the other players.");
+		assertEquals(6, context.getMaxTotal(), "The max total should be the one of the other player.");
+		assertEquals(4, context.getMinTotal(), "The min total should be the one of the player.");
+		assertEquals(Vegetable.values().length - 2, context.getNbMissingTypes(), "The missing types should be the player's.");
+		assertEquals(others, context.getOtherCounts(), "The other counts should be kept.");
+	}
+
+	@Test
+	public void testSameScoresAsCounts() throws Exception {
+		RandomHandDealer dealer = new RandomHandDealer(3);
+
+		for (int round = 0; round < 20; round++) {
+			int nbPlayers = 2 + dealer.nextInt(5);
+			ArrayList<ArrayList<ICard>> hands = new ArrayList<>();
+			for (int p = 0; p < nbPlayers; p++) {
+				hands.add(dealer.dealHand(dealer.nextInt(15), 0));
+			}
+			ArrayList<ICard> hand = hands.remove(0);
+			ScoringContext context = ScoringContext.fromHands(hand, hands);
+
+			for (ICard card : dealer.getDeck()) {
+				ICriterion criterion = ((PointSaladCard) card).getCriterion();
+				assertEquals(criterion.computePlayerScore(hand, hands), criterion.computePlayerScore(context),
+							"Criterion '" + criterion + "' should give the same score from the context.");
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package main.criteria.point_salad_criteria;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 
@@ -199,4 +200,28 @@ public class PointSaladPerVeggieCriterionTest {
 
 		assertEquals(expected, criterion.toString(), "Criterion should be represented as '2 / CARROT, 1 / PEPPER, -2 / CABBAGE'.");
 	}
+
+	@Test
+	public void testImmutableCriterion() throws Exception {
+		ArrayList<Vegetable> veggies = new ArrayList<>();
+		veggies.add(Vegetable.CARROT);
+		ArrayList<Integer> points = new ArrayList<>();
+		points.add(2);
+		PointSaladPerVeggieCriterion criterion = new PointSaladPerVeggieCriterion(veggies, points);
+
+		// Modifying the given lists should not modify the criterion
+		veggies.set(0, Vegetable.ONION);
+		points.set(0, 5);
+
+		ArrayList<ICard> hand = new ArrayList<>();
+		hand.add(carrotCard.copy());
+
+		assertEquals(2, criterion.computePlayerScore(hand, otherHands),
+		"Criterion should not be modified by its construction lists.");
+
+		// Criteria are shared by the copies of a card
+		PointSaladCard card = new PointSaladCard(Vegetable.TOMATO, criterion);
+		assertSame(criterion, criterion.copy(), "Copying a criterion should return the same instance.");
+		assertSame(criterion, card.copy().getCriterion(), "Copying a card should share its criterion.");
+	}
 }
@@ -0,0 +1,54 @@
+package main.game.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import game.market.PointSaladMarket;
+import game.market.PointSaladMarketFeed;
+import phases.PointSaladSetupPhase;
+import players.AbstractPlayer;
+import players.HumanPlayer;
+import states.State;
+
+/**
+ * Test class for the PointSaladMarketFeed class.
+ */
+public class PointSaladMarketFeedTest {
+
+	@Test
+	public void testChangesSinceLastTurn() throws Exception {
+		PointSaladMarket market = new PointSaladMarket();
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 2; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		State state = new State(null, players, -1, market, setupPhase, 4);
+		setupPhase.processPhase(state);
+
+		PointSaladMarketFeed feed = state.getMarketFeed();
+		String firstView = feed.getMarketView(0, market);
+		assertEquals("The piles are: " + market.toString(), firstView, "The whole market should be given the first time.");
+		assertEquals(firstView, feed.getMarketView(0, market), "The same view should be given again until the market changes.");
+
+		market.draftCards("AB");
+		market.refill();
+		String changes = feed.getMarketView(0, market);
+		assertFalse(changes.contains("Market:"), "Only the changes should be given once the market was read: " + changes);
+		assertTrue(changes.contains("SLOT_EMPTIED A") && changes.contains("SLOT_FILLED A"), "The drafted slots should be given: " + changes);
+		assertTrue(changes.contains("PILE_DRAWN") && changes.contains("top: "), "The new top card of the drawn piles should be given: " + changes);
+		assertEquals(changes, feed.getMarketView(0, market), "The changes should be given again until the market changes.");
+
+		assertEquals("The piles are: " + market.toString(), feed.getMarketView(1, market),
+					"A player who never read the market should be given the whole market.");
+
+		market.setCriterionPiles(market.getCriterionPiles());
+		assertEquals("The piles are: " + market.toString(), feed.getMarketView(0, market),
+					"The whole market should be given again once it was replaced.");
+	}
+}
@@ -0,0 +1,423 @@
+package main.game.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.Pile;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import exceptions.MarketException;
+import game.market.PointSaladDraftMove;
+import game.market.IMarketListener;
+import game.market.PointSaladMarket;
+import game.market.PointSaladMarketEvent;
+import game.market.PointSaladMarketSettings;
+import game.market.PointSaladMarketSnapshot;
+import phases.PointSaladSetupPhase;
+import players.AbstractPlayer;
+import players.HumanPlayer;
+import states.State;
+
+/**
+ * Test class for the legal moves of the PointSaladMarket class.
+ */
+public class PointSaladMarketTest {
+
+	/**
+	 * Creates a market with two cards in each pile, the last pile left empty, and every other vegetable slot filled.
+	 */
+	private PointSaladMarket createMarket() throws MarketException {
+		PointSaladMarket market = new PointSaladMarket();
+		for (int i = 0; i < market.getSettings().getNumDrawPiles(); i++) {
+			ArrayList<PointSaladCard> cards = new ArrayList<>();
+			if (i != market.getSettings().getNumDrawPiles() - 1) {
+				cards.add(new PointSaladCard(Vegetable.CARROT, null));
+				cards.add(new PointSaladCard(Vegetable.ONION, null));
+			}
+			market.setPile(i, new Pile<>(cards));
+		}
+		for (int i = 0; i < market.getSettings().getNumVegetableCards(); i += 2) {
+			market.setCard(i, new PointSaladCard(Vegetable.values()[i % Vegetable.values().length], null));
+		}
+		return market;
+	}
+
+	@Test
+	public void testLegalMovesMatchStrings() throws MarketException {
+		PointSaladMarket market = createMarket();
+		HashSet<PointSaladDraftMove> legalMoves = new HashSet<>(market.getLegalMoves());
+		assertEquals(market.getLegalMoves().size(), legalMoves.size(), "Each legal move should be listed once.");
+
+		// Every string of one or two identifiers should be valid exactly when it describes a legal move
+		String identifiers = "0123456789" + PointSaladMarket.ALPHABET + "a-";
+		int nbValidStrings = 0;
+		for (int i = 0; i < identifiers.length(); i++) {
+			for (int j = -1; j < identifiers.length(); j++) {
+				String cardsString = identifiers.substring(i, i + 1) + (j < 0 ? "" : identifiers.substring(j, j + 1));
+				PointSaladDraftMove move = market.parseMove(cardsString);
+				boolean valid = market.isCardsStringValid(cardsString);
+				assertEquals(move != null && legalMoves.contains(move), valid, "Validity of '" + cardsString + "' should match the legal moves.");
+				if (valid) {
+					nbValidStrings++;
+				}
+			}
+		}
+
+		// Strings list each unordered draft of two cards twice
+		int nbSingleMoves = 0;
+		for (PointSaladDraftMove move : legalMoves) {
+			assertTrue(market.isMoveValid(move), "A legal move should be valid.");
+			assertEquals(move, market.parseMove(move.toCardsString()), "A move should be read back from its string.");
+			if (move.getNbCards() == 1) {
+				nbSingleMoves++;
+			}
+		}
+		assertEquals(nbSingleMoves + 2 * (legalMoves.size() - nbSingleMoves), nbValidStrings,
+					"Every valid string should describe a legal move.");
+	}
+
+	@Test
+	public void testCachedString() throws MarketException {
+		PointSaladMarket market = createMarket();
+		String before = market.toString();
+		assertSame(before, market.toString(), "The string of an unchanged market should be cached.");
+
+		// Changes made through the lists of the market are seen too
+		market.getVegetableCards().set(1, new PointSaladCard(Vegetable.TOMATO, null));
+		assertNotEquals(before, market.toString(), "Filling a slot through the list should change the string of the market.");
+	}
+
+	@Test
+	public void testVersion() throws MarketException {
+		PointSaladMarket market = createMarket();
+		int version = market.getVersion();
+		market.getCriterionPiles();
+		market.getVegetableCards();
+		assertEquals(version, market.getVersion(), "Requesting the lists of the market should not change its version.");
+
+		market.draft(PointSaladDraftMove.criteria(0b1));
+		assertNotEquals(version, market.getVersion(), "Drafting a criterion card should change the version of the market.");
+		version = market.getVersion();
+		market.draft(PointSaladDraftMove.vegetables(0b1));
+		assertNotEquals(version, market.getVersion(), "Drafting a vegetable card should change the version of the market.");
+	}
+
+	@Test
+	public void testDraftKeepsTypedOrder() throws MarketException {
+		PointSaladMarket market = createMarket();
+		PointSaladCard slotA = market.getCard(0);
+		PointSaladCard slotC = market.getCard(2);
+
+		ArrayList<ICard> cards = market.draftCards("ca");
+		assertSame(slotC, cards.get(0), "The first typed card should be drafted first.");
+		assertSame(slotA, cards.get(1), "The second typed card should be drafted second.");
+	}
+
+	@Test
+	public void testDraftMove() throws MarketException {
+		PointSaladMarket market = createMarket();
+
+		assertFalse(market.isMoveValid(PointSaladDraftMove.criteria(1 << (market.getSettings().getNumDrawPiles() - 1))),
+					"Drafting from an empty pile should not be valid.");
+		assertFalse(market.isMoveValid(PointSaladDraftMove.vegetables(0b10)), "Drafting an empty slot should not be valid.");
+		assertNull(market.parseMove("0A"), "Mixing criterion and vegetable cards should not be a move.");
+		assertNull(market.parseMove("AA"), "Drafting the same card twice should not be a move.");
+
+		ArrayList<ICard> cards = market.draft(PointSaladDraftMove.vegetables(0b101));
+		assertEquals(2, cards.size(), "Both vegetable cards should be drafted.");
+		assertEquals(0, market.getAvailableSlotMask() & 0b101, "The drafted slots should be empty.");
+		assertThrows(MarketException.class, () -> market.draft(PointSaladDraftMove.vegetables(0b1)),
+					"Drafting an empty slot should throw an exception.");
+
+		cards = market.draft(PointSaladDraftMove.criteria(0b1));
+		assertEquals(Vegetable.ONION, ((PointSaladCard) cards.get(0)).getVegetable(), "The top card of the pile should be drafted.");
+	}
+
+	/**
+	 * Describes every card of the market by identity, with its side, so that two descriptions are equal
+	 * only if the market holds the same cards at the same places.
+	 */
+	private String describe(PointSaladMarket market) throws MarketException {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < market.getSettings().getNumDrawPiles(); i++) {
+			Pile<PointSaladCard> pile = market.getPile(i);
+			builder.append("|");
+			for (int j = 0; j < pile.size(); j++) {
+				PointSaladCard card = pile.getCard(j);
+				builder.append(System.identityHashCode(card)).append(card.isCriterionSideUp() ? "c " : "v ");
+			}
+		}
+		for (int i = 0; i < market.getSettings().getNumVegetableCards(); i++) {
+			PointSaladCard card = market.getCard(i);
+			builder.append("|").append(card == null ? "empty" : System.identityHashCode(card) + (card.isCriterionSideUp() ? "c" : "v"));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Explores every sequence of legal drafts up to the given depth, checking that undoing each one restores the market.
+	 */
+	private void explore(PointSaladMarket market, int depth) throws MarketException {
+		if (depth == 0) {
+			return;
+		}
+		String before = describe(market);
+		for (PointSaladDraftMove move : market.getLegalMoves()) {
+			PointSaladMarket.UndoRecord record = market.apply(move);
+			assertEquals(move.getNbCards(), record.getDraftedCards().size(), "The record should hold the drafted cards of " + move + ".");
+			explore(market, depth - 1);
+			market.undo(record);
+			assertEquals(before, describe(market), "Undoing " + move + " should restore the market.");
+		}
+	}
+
+	@Test
+	public void testApplyUndo() throws Exception {
+		PointSaladMarket market = new PointSaladMarket();
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 2; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		setupPhase.processPhase(new State(null, players, -1, market, setupPhase, 3));
+
+		// Empties the first pile, so that drafts also balance the piles
+		while (!market.getPile(0).isEmpty()) {
+			market.getPile(0).draw();
+		}
+		market.refill();
+		while (market.getPile(1).size() > 1) {
+			market.getPile(1).draw();
+		}
+		explore(market, 3);
+
+		// The market should still be usable after the search
+		String before = describe(market);
+		PointSaladMarket.UndoRecord record = market.apply(PointSaladDraftMove.criteria(0b10));
+		assertTrue(market.getPile(1).size() > 0, "Drafting the last card of a pile should balance the piles.");
+		market.undo(record);
+		assertEquals(before, describe(market), "Undoing a balancing draft should restore the market.");
+	}
+
+	@Test
+	public void testApplyUndoOwnedPiles() throws Exception {
+		PointSaladMarket market = new PointSaladMarket();
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 2; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		setupPhase.processPhase(new State(null, players, -1, market, setupPhase, 7));
+
+		SplittableRandom random = new SplittableRandom(7);
+		ArrayList<PointSaladMarket.UndoRecord> records = new ArrayList<>();
+		ArrayList<String> descriptions = new ArrayList<>();
+		for (int step = 0; step < 500; step++) {
+			// Piles which own their lists, or share them again, between the drafts and their undo
+			for (int i = 0; i < market.getSettings().getNumDrawPiles(); i++) {
+				if (random.nextBoolean()) {
+					market.getPile(i).getCards();
+				}
+			}
+			if (random.nextInt(4) == 0) {
+				market.createSnapshot();
+			}
+
+			ArrayList<PointSaladDraftMove> moves = market.getLegalMoves();
+			if (!records.isEmpty() && (moves.isEmpty() || random.nextInt(3) == 0)) {
+				market.undo(records.remove(records.size() - 1));
+				assertEquals(descriptions.remove(descriptions.size() - 1), describe(market),
+							"Undoing a draft should restore the market at step " + step + ".");
+			} else if (!moves.isEmpty()) {
+				descriptions.add(describe(market));
+				records.add(market.apply(moves.get(random.nextInt(moves.size()))));
+			}
+		}
+	}
+
+	/**
+	 * Describes every card of a snapshot by identity, in the same format as the market.
+	 */
+	private String describe(PointSaladMarketSnapshot snapshot) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < snapshot.getNbPiles(); i++) {
+			builder.append("|");
+			for (int j = 0; j < snapshot.getPileSize(i); j++) {
+				// Cards of the piles are on their criterion side
+				builder.append(System.identityHashCode(snapshot.getPileCard(i, j))).append("c ");
+			}
+		}
+		for (int i = 0; i < snapshot.getNbSlots(); i++) {
+			PointSaladCard card = snapshot.getSlotCard(i);
+			builder.append("|").append(card == null ? "empty" : System.identityHashCode(card) + "v");
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void testSnapshots() throws Exception {
+		PointSaladMarket market = new PointSaladMarket();
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 3; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		setupPhase.processPhase(new State(null, players, -1, market, setupPhase, 5));
+
+		PointSaladMarketSnapshot snapshot = market.getSnapshot();
+		String described = describe(snapshot);
+		assertEquals(describe(market), described, "The published snapshot should match the market after the setup.");
+
+		// Exploring drafts should not publish anything
+		market.undo(market.apply(market.getLegalMoves().get(0)));
+		assertSame(snapshot, market.getSnapshot(), "Applying a draft to explore it should not publish a snapshot.");
+
+		// Plays turns until the market is empty, the first snapshot should not change
+		while (!market.isEmpty()) {
+			market.draft(market.getLegalMoves().get(0));
+			market.refill();
+			assertNotSame(snapshot, market.getSnapshot(), "A snapshot should be published after each refill.");
+			assertEquals(describe(market), describe(market.getSnapshot()), "The published snapshot should match the market.");
+			assertEquals(described, describe(snapshot), "An older snapshot should not change when the market does.");
+		}
+		assertEquals(0, market.getSnapshot().getAvailablePileMask() | market.getSnapshot().getAvailableSlotMask(),
+					"The last snapshot should show an empty market.");
+	}
+
+	@Test
+	public void testMarketSettings() throws Exception {
+		PointSaladMarketSettings settings = new PointSaladMarketSettings(4, 8, 2, 3);
+		PointSaladMarket market = new PointSaladMarket(settings);
+		PointSaladMarket defaultMarket = new PointSaladMarket();
+
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 4; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		setupPhase.processPhase(new State(null, players, -1, market, setupPhase, 1));
+		setupPhase.processPhase(new State(null, players, -1, defaultMarket, setupPhase, 1));
+
+		assertEquals(0b1111, market.getAvailablePileMask(), "The market should have the piles of its settings.");
+		assertEquals(0xFF, market.getAvailableSlotMask(), "The market should have the vegetable slots of its settings.");
+		assertEquals((1 << defaultMarket.getSettings().getNumVegetableCards()) - 1, defaultMarket.getAvailableSlotMask(),
+					"Another market should keep the default settings.");
+
+		assertTrue(market.isCardsStringValid("03"), "Two criterion cards should be drafted with these settings.");
+		assertTrue(market.isCardsStringValid("AGH"), "Three vegetable cards should be drafted with these settings.");
+		assertFalse(market.isCardsStringValid("0123"), "No more than three cards should be drafted with these settings.");
+		assertFalse(defaultMarket.isCardsStringValid("AGH"), "The default market should keep its own draft limits.");
+		// 4 + 6 criterion drafts, and 8 + 28 + 56 vegetable drafts
+		assertEquals(4 + 6 + 8 + 28 + 56, market.getLegalMoves().size(), "Every draft allowed by the settings should be listed.");
+
+		assertThrows(IllegalArgumentException.class, () -> new PointSaladMarketSettings(11, 6, 1, 2),
+					"A pile which cannot be drafted with a single digit should not be allowed.");
+		assertThrows(IllegalArgumentException.class, () -> new PointSaladMarketSettings(3, 6, 0, 2),
+					"A draft of no card should not be allowed.");
+	}
+
+	/**
+	 * Copy of a market kept up to date from its events only.
+	 */
+	private static class MarketMirror implements IMarketListener {
+		private final ArrayList<ArrayList<PointSaladCard>> piles = new ArrayList<>();
+		private final ArrayList<PointSaladCard> slots = new ArrayList<>();
+		private int nbEvents = 0;
+
+		private void read(PointSaladMarket market) throws MarketException {
+			piles.clear();
+			slots.clear();
+			for (int i = 0; i < market.getSettings().getNumDrawPiles(); i++) {
+				Pile<PointSaladCard> pile = market.getPile(i);
+				ArrayList<PointSaladCard> cards = new ArrayList<>();
+				for (int j = 0; pile != null && j < pile.size(); j++) {
+					cards.add(pile.getCard(j));
+				}
+				piles.add(cards);
+			}
+			for (int i = 0; i < market.getSettings().getNumVegetableCards(); i++) {
+				slots.add(market.getCard(i));
+			}
+		}
+
+		@Override
+		public void marketChanged(PointSaladMarket market, PointSaladMarketEvent event) {
+			nbEvents++;
+			switch (event.getType()) {
+				case SLOT_EMPTIED:
+					slots.set(event.getIndex(), null);
+					break;
+				case SLOT_FILLED:
+					slots.set(event.getIndex(), event.getCard());
+					break;
+				case PILE_DRAWN:
+					ArrayList<PointSaladCard> pile = piles.get(event.getIndex());
+					assertSame(event.getCard(), pile.remove(pile.size() - 1), "The top card of the pile should be drawn.");
+					break;
+				case PILE_REBALANCED:
+					ArrayList<PointSaladCard> source = piles.get(event.getSourceIndex());
+					ArrayList<PointSaladCard> bottomHalf = new ArrayList<>(source.subList(0, source.size() / 2));
+					source.subList(0, source.size() / 2).clear();
+					piles.set(event.getIndex(), bottomHalf);
+					break;
+				default:
+					try {
+						read(market);
+					} catch (MarketException e) {
+						throw new IllegalStateException(e);
+					}
+			}
+		}
+	}
+
+	@Test
+	public void testMarketEvents() throws Exception {
+		PointSaladMarket market = new PointSaladMarket();
+		MarketMirror mirror = new MarketMirror();
+		market.addMarketListener(mirror);
+
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 2; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		setupPhase.processPhase(new State(null, players, -1, market, setupPhase, 8));
+
+		int turn = 0;
+		while (!market.isEmpty()) {
+			// Exploring drafts should not be notified
+			int nbEvents = mirror.nbEvents;
+			market.undo(market.apply(market.getLegalMoves().get(0)));
+			assertEquals(nbEvents, mirror.nbEvents, "Applying a draft to explore it should not be notified.");
+
+			ArrayList<PointSaladDraftMove> moves = market.getLegalMoves();
+			market.draftCards(moves.get(turn % moves.size()).toCardsString());
+			market.refill();
+			turn++;
+
+			MarketMirror expected = new MarketMirror();
+			expected.read(market);
+			assertEquals(expected.piles, mirror.piles, "Replaying the events should give the piles of the market at turn " + turn + ".");
+			assertEquals(expected.slots, mirror.slots, "Replaying the events should give the slots of the market at turn " + turn + ".");
+		}
+
+		assertEquals("SLOT_FILLED B CARROT", PointSaladMarketEvent.slotFilled(1, new PointSaladCard(Vegetable.CARROT, null)).toString(),
+					"An event should have a short description.");
+		assertEquals("PILE_REBALANCED 2 FROM 0", PointSaladMarketEvent.pileRebalanced(2, 0).toString(),
+					"An event should have a short description.");
+	}
+}
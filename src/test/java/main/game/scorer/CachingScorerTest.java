@@ -0,0 +1,133 @@
+package main.game.scorer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import exceptions.ScorerException;
+import game.scorer.CachingScorer;
+import game.scorer.PointSaladScorer;
+import main.cards.RandomHandDealer;
+import players.AbstractPlayer;
+
+/**
+ * Test class for the CachingScorer class.
+ */
+public class CachingScorerTest {
+
+	@Test
+	public void testCachedScoresMatchScorer() throws Exception {
+		PointSaladScorer scorer = new PointSaladScorer();
+		CachingScorer cachingScorer = new CachingScorer(scorer);
+		RandomHandDealer dealer = new RandomHandDealer(11);
+
+		for (int round = 0; round < 30; round++) {
+			ArrayList<ICard> hand = dealer.dealHand(10, 3);
+			ArrayList<ArrayList<ICard>> otherHands = new ArrayList<>();
+			int nbOthers = 1 + dealer.nextInt(5);
+			for (int p = 0; p < nbOthers; p++) {
+				otherHands.add(dealer.dealHand(10, 3));
+			}
+
+			int expected = scorer.calculateScore(hand, otherHands);
+			assertEquals(expected, cachingScorer.calculateScore(hand, otherHands), "A computed score should be correct in round " + round + ".");
+
+			// The same position with its cards and players in another order should be served from the cache
+			long hits = cachingScorer.getHits();
+			Collections.shuffle(hand, new Random(round));
+			Collections.reverse(otherHands);
+			assertEquals(expected, cachingScorer.calculateScore(hand, otherHands), "A cached score should be correct in round " + round + ".");
+			assertEquals(hits + 1, cachingScorer.getHits(), "A reordered position should be a cache hit in round " + round + ".");
+		}
+		assertEquals(30, cachingScorer.getMisses(), "Each new position should be a cache miss.");
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() throws Exception {
+		CachingScorer cachingScorer = new CachingScorer(new PointSaladScorer(), 2);
+		RandomHandDealer dealer = new RandomHandDealer(3);
+		ArrayList<ArrayList<ICard>> otherHands = new ArrayList<>();
+		otherHands.add(dealer.dealHand(10, 3));
+
+		ArrayList<ICard> first = dealer.dealHand(10, 3);
+		ArrayList<ICard> second = dealer.dealHand(10, 3);
+		ArrayList<ICard> third = dealer.dealHand(10, 3);
+
+		cachingScorer.calculateScore(first, otherHands);
+		cachingScorer.calculateScore(second, otherHands);
+		cachingScorer.calculateScore(first, otherHands);
+		// The second hand is the least recently used one, so it is evicted
+		cachingScorer.calculateScore(third, otherHands);
+		assertEquals(2, cachingScorer.size(), "The cache should not grow past its capacity.");
+
+		cachingScorer.calculateScore(first, otherHands);
+		assertEquals(2, cachingScorer.getHits(), "The most recently used hand should still be cached.");
+		cachingScorer.calculateScore(second, otherHands);
+		assertEquals(4, cachingScorer.getMisses(), "The least recently used hand should have been evicted.");
+
+		cachingScorer.clear();
+		assertEquals(0, cachingScorer.size(), "Clearing should empty the cache.");
+		assertEquals(0, cachingScorer.getHits() + cachingScorer.getMisses(), "Clearing should reset the counters.");
+	}
+
+	/**
+	 * Scorer counting how the table is scored.
+	 */
+	private static class CountingScorer extends PointSaladScorer {
+		private int nbTableScorings = 0;
+		private int nbPlayerScorings = 0;
+
+		@Override
+		public int calculateScore(HashMap<Integer, AbstractPlayer> players, int playerID) throws ScorerException {
+			nbPlayerScorings++;
+			return super.calculateScore(players, playerID);
+		}
+
+		@Override
+		public HashMap<Integer, Integer> calculateScores(HashMap<Integer, AbstractPlayer> players) throws ScorerException {
+			nbTableScorings++;
+			return super.calculateScores(players);
+		}
+	}
+
+	@Test
+	public void testTableMissesScoredAtOnce() throws Exception {
+		CountingScorer countingScorer = new CountingScorer();
+		CachingScorer cachingScorer = new CachingScorer(countingScorer);
+		RandomHandDealer dealer = new RandomHandDealer(5);
+
+		HashMap<Integer, AbstractPlayer> players = dealer.dealPlayers(4, 10, 3);
+
+		HashMap<Integer, Integer> expected = new PointSaladScorer().calculateScores(players);
+		assertEquals(expected, cachingScorer.calculateScores(players), "The scores of the table should be correct.");
+		assertEquals(1, countingScorer.nbTableScorings, "The missed scores should be computed with one scoring of the table.");
+		assertEquals(0, countingScorer.nbPlayerScorings, "No player should be scored alone.");
+
+		assertEquals(expected, cachingScorer.calculateScores(players), "The cached scores of the table should be correct.");
+		assertEquals(1, countingScorer.nbTableScorings, "A cached table should not be scored again.");
+		assertEquals(4, cachingScorer.getHits(), "Every player of a cached table should be a cache hit.");
+	}
+
+	@Test
+	public void testStripedCacheStaysBounded() throws Exception {
+		PointSaladScorer scorer = new PointSaladScorer();
+		CachingScorer cachingScorer = new CachingScorer(scorer, 1000);
+		RandomHandDealer dealer = new RandomHandDealer(17);
+		ArrayList<ArrayList<ICard>> otherHands = new ArrayList<>();
+		otherHands.add(dealer.dealHand(10, 3));
+
+		for (int round = 0; round < 3000; round++) {
+			ArrayList<ICard> hand = dealer.dealHand(10, 3);
+			assertEquals(scorer.calculateScore(hand, otherHands), cachingScorer.calculateScore(hand, otherHands),
+						"A score of the striped cache should be correct in round " + round + ".");
+		}
+		assertTrue(cachingScorer.size() <= 1000, "The striped cache should not grow past its capacity.");
+	}
+}
@@ -0,0 +1,133 @@
+package main.game.scorer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
+import criteria.point_salad_criteria.PointSaladPerVeggieCriterion;
+import exceptions.CriterionException;
+import exceptions.ScorerException;
+import game.scorer.PointSaladIncrementalScorer;
+import game.scorer.PointSaladScorer;
+import game.scorer.ScoreReport;
+import main.cards.RandomHandDealer;
+import players.AbstractPlayer;
+import players.IAPlayer;
+import players.PointSaladDefaultBotLogic;
+import players.IAPlayer;
+import players.PointSaladDefaultBotLogic;
+
+/**
+ * Test class for the PointSaladIncrementalScorer class.
+ */
+public class PointSaladIncrementalScorerTest {
+
+	@Test
+	public void testLiveScoresMatchFullScoring() throws Exception {
+		RandomHandDealer dealer = new RandomHandDealer(13);
+		PointSaladScorer scorer = new PointSaladScorer();
+
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		ArrayList<AbstractPlayer> playersList = new ArrayList<>();
+		for (int id = 0; id < 4; id++) {
+			AbstractPlayer player = new IAPlayer(id, "Bot " + id, new PointSaladDefaultBotLogic());
+			players.put(id, player);
+			playersList.add(player);
+		}
+		PointSaladIncrementalScorer incrementalScorer = new PointSaladIncrementalScorer(playersList);
+
+		for (int turn = 0; turn < 200; turn++) {
+			AbstractPlayer player = playersList.get(dealer.nextInt(playersList.size()));
+			ArrayList<PointSaladCard> criteriaCards = player.getIndexedHand().getCriteriaCards();
+
+			if (!criteriaCards.isEmpty() && dealer.nextInt(4) == 0) {
+				player.flipCardInHand(criteriaCards.get(dealer.nextInt(criteriaCards.size())));
+			} else {
+				player.addCardToHand(dealer.dealCard(3));
+			}
+
+			for (AbstractPlayer otherPlayer : playersList) {
+				assertEquals(scorer.calculateScore(players, otherPlayer.getPlayerID()), incrementalScorer.getScore(otherPlayer),
+							"Live score of player " + otherPlayer.getPlayerID() + " should be up to date at turn " + turn + ".");
+			}
+		}
+
+		// The report is built from the live points of each criterion card
+		ScoreReport report = incrementalScorer.calculateScoreReport(players, null);
+		ScoreReport fullReport = scorer.calculateScoreReport(players, null);
+		assertEquals(fullReport.getScores(), report.getScores(), "The live report should match the full scoring.");
+		for (AbstractPlayer player : playersList) {
+			int id = player.getPlayerID();
+			assertEquals(fullReport.getCriterionScores(id).size(), report.getCriterionScores(id).size(),
+						"The live report should have one entry per criterion card of player " + id + ".");
+			for (int i = 0; i < report.getCriterionScores(id).size(); i++) {
+				assertEquals(fullReport.getCriterionScores(id).get(i).getPoints(), report.getCriterionScores(id).get(i).getPoints(),
+							"Both reports should give the same points to criterion " + i + " of player " + id + ".");
+			}
+		}
+
+		ArrayList<ICard> newHand = new ArrayList<>();
+		newHand.add(dealer.getDeck().get(0).copy());
+		playersList.get(0).setHand(newHand);
+		assertEquals(scorer.calculateScores(players), incrementalScorer.calculateScores(players),
+					"Live scores should be up to date after a hand is replaced.");
+	}
+
+	/**
+	 * Criterion which can be made to fail when scored.
+	 */
+	private static class FailingCriterion extends PointSaladPerVeggieCriterion {
+		private boolean failing = false;
+
+		private FailingCriterion(Vegetable vegetable, int pointsGranted) {
+			super(vegetable, pointsGranted);
+		}
+
+		@Override
+		public int computePlayerScore(ScoringContext context) throws CriterionException {
+			if (failing) {
+				throw new CriterionException("The criterion is failing.");
+			}
+			return super.computePlayerScore(context);
+		}
+	}
+
+	@Test
+	public void testFailedChangeReportedOnNextRequest() throws Exception {
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		ArrayList<AbstractPlayer> playersList = new ArrayList<>();
+		for (int id = 0; id < 2; id++) {
+			AbstractPlayer player = new IAPlayer(id, "Bot " + id, new PointSaladDefaultBotLogic());
+			players.put(id, player);
+			playersList.add(player);
+		}
+		FailingCriterion criterion = new FailingCriterion(Vegetable.CARROT, 2);
+		PointSaladCard criterionCard = new PointSaladCard(Vegetable.ONION, criterion);
+		criterionCard.flip();
+		playersList.get(0).addCardToHand(criterionCard);
+		PointSaladIncrementalScorer incrementalScorer = new PointSaladIncrementalScorer(playersList);
+
+		// The hand changes anyway, the failure is only reported when the scores are requested
+		criterion.failing = true;
+		playersList.get(0).addCardToHand(new PointSaladCard(Vegetable.CARROT, null));
+		assertEquals(2, playersList.get(0).getHand().size(), "A failed scoring should not prevent the change of the hand.");
+		assertThrows(ScorerException.class, () -> incrementalScorer.calculateScores(players),
+					"The failed scoring should be reported with the scores.");
+
+		criterion.failing = false;
+		assertEquals(new PointSaladScorer().calculateScores(players), incrementalScorer.calculateScores(players),
+					"The scores should be computed again once the criterion can be scored.");
+
+		incrementalScorer.detach();
+		playersList.get(0).addCardToHand(new PointSaladCard(Vegetable.CARROT, null));
+		assertEquals(2, incrementalScorer.getScore(playersList.get(0)), "A detached scorer should not follow the hands anymore.");
+	}
+}
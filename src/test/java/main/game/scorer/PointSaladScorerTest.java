@@ -0,0 +1,111 @@
+package main.game.scorer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import cards.ICard;
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import criteria.ScoringContext;
+import game.scorer.PointSaladScorer;
+import game.scorer.ScoreReport;
+import main.cards.RandomHandDealer;
+import players.AbstractPlayer;
+
+/**
+ * Test class for the PointSaladScorer class.
+ */
+public class PointSaladScorerTest {
+
+	@Test
+	public void testBatchScoresMatchPlayerScores() throws Exception {
+		RandomHandDealer dealer = new RandomHandDealer(7);
+		PointSaladScorer scorer = new PointSaladScorer();
+
+		for (int round = 0; round < 20; round++) {
+			// Deals random hands, with a few criterion cards each, to a random number of players
+			int nbPlayers = 2 + dealer.nextInt(5);
+			HashMap<Integer, AbstractPlayer> players = dealer.dealPlayers(nbPlayers, 12, 4);
+
+			HashMap<Integer, Integer> scores = scorer.calculateScores(players);
+			for (int id = 0; id < nbPlayers; id++) {
+				assertEquals(scorer.calculateScore(players, id), (int) scores.get(id),
+							"Batch score of player " + id + " should match its own score in round " + round + ".");
+			}
+		}
+	}
+
+	@Test
+	public void testScoreReportMatchesScores() throws Exception {
+		RandomHandDealer dealer = new RandomHandDealer(9);
+		PointSaladScorer scorer = new PointSaladScorer();
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			for (int round = 0; round < 10; round++) {
+				int nbPlayers = 2 + dealer.nextInt(5);
+				HashMap<Integer, AbstractPlayer> players = dealer.dealPlayers(nbPlayers, 12, 4);
+
+				HashMap<Integer, Integer> scores = scorer.calculateScores(players);
+				ScoreReport sequentialReport = scorer.calculateScoreReport(players, null);
+				ScoreReport parallelReport = scorer.calculateScoreReport(players, pool);
+				assertEquals(scores, sequentialReport.getScores(), "The sequential report should match the scores in round " + round + ".");
+				assertEquals(scores, parallelReport.getScores(), "The parallel report should match the scores in round " + round + ".");
+
+				for (int id = 0; id < nbPlayers; id++) {
+					ArrayList<ScoreReport.CriterionScore> criterionScores = parallelReport.getCriterionScores(id);
+					assertEquals(players.get(id).getIndexedHand().getCriteriaCards().size(), criterionScores.size(),
+								"The report should have one entry per criterion card of player " + id + ".");
+					for (int i = 0; i < criterionScores.size(); i++) {
+						assertEquals(sequentialReport.getCriterionScores(id).get(i).getPoints(), criterionScores.get(i).getPoints(),
+									"Both reports should give the same points to criterion " + i + " of player " + id + ".");
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testDeltasMatchRescoring() throws Exception {
+		RandomHandDealer dealer = new RandomHandDealer(5);
+		PointSaladScorer scorer = new PointSaladScorer();
+
+		for (int round = 0; round < 30; round++) {
+			int nbOthers = 1 + dealer.nextInt(5);
+			ArrayList<ArrayList<ICard>> otherHands = dealer.dealHands(nbOthers, 10, 0);
+			ArrayList<ICard> hand = dealer.dealHand(12, 3);
+
+			int score = scorer.calculateScore(hand, otherHands);
+			ArrayList<PointSaladCard> criteriaHand = PointSaladCard.getCriteriaHand(PointSaladCard.convertHand(hand));
+			ScoringContext context = ScoringContext.fromHands(hand, otherHands);
+
+			for (Vegetable veggie : Vegetable.values()) {
+				ArrayList<ICard> changedHand = new ArrayList<>(hand);
+				changedHand.add(new PointSaladCard(veggie, null));
+				assertEquals(scorer.calculateScore(changedHand, otherHands) - score, scorer.calculateAddVeggieDelta(criteriaHand, context, veggie),
+							"Adding a " + veggie + " card should change the score by the delta.");
+			}
+
+			PointSaladCard criterionCard = dealer.dealCard(0);
+			criterionCard.flip();
+			ArrayList<ICard> changedHand = new ArrayList<>(hand);
+			changedHand.add(criterionCard);
+			assertEquals(scorer.calculateScore(changedHand, otherHands) - score, scorer.calculateAddCriterionDelta(context, criterionCard),
+						"Adding a criterion card should change the score by the delta.");
+
+			for (PointSaladCard card : criteriaHand) {
+				int delta = scorer.calculateFlipDelta(criteriaHand, context, card);
+				card.flip();
+				assertEquals(scorer.calculateScore(hand, otherHands) - score, delta, "Flipping a card should change the score by the delta.");
+				card.flip();
+			}
+		}
+	}
+}
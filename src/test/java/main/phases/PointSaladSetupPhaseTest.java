@@ -0,0 +1,123 @@
+package main.phases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import cards.Pile;
+import cards.PointSaladCard;
+import game.market.PointSaladMarket;
+import game.scorer.PointSaladIncrementalScorer;
+import game.scorer.PointSaladScorer;
+import network.IServer;
+import phases.PointSaladSetupPhase;
+import players.AbstractPlayer;
+import players.HumanPlayer;
+import states.State;
+
+/**
+ * Test class for the PointSaladSetupPhase class.
+ */
+public class PointSaladSetupPhaseTest {
+
+	/**
+	 * Server which ignores every message, since no client takes part in the setup.
+	 */
+	private static class SilentServer implements IServer {
+		@Override
+		public void startServer() {}
+
+		@Override
+		public void stopServer() {}
+
+		@Override
+		public boolean isRunning() {
+			return true;
+		}
+
+		@Override
+		public ArrayList<Integer> waitForClients(int numClients) {
+			return new ArrayList<>();
+		}
+
+		@Override
+		public void sendMessageToAll(String message) {}
+
+		@Override
+		public void sendMessageToAllExceptId(String message, int clientID) {}
+
+		@Override
+		public void sendMessageTo(String message, int clientID) {}
+
+		@Override
+		public String receiveMessageFrom(int clientID) {
+			return "";
+		}
+	}
+
+	/**
+	 * Creates the state of a new game with four players, set up by a PointSaladSetupPhase.
+	 */
+	private State createState(long seed) {
+		HashMap<Integer, AbstractPlayer> players = new HashMap<>();
+		for (int i = 0; i < 4; i++) {
+			players.put(i, new HumanPlayer(i, "Player " + i));
+		}
+		PointSaladSetupPhase setupPhase = new PointSaladSetupPhase("src/main/resources/PointSaladManifest.json");
+		return new State(new SilentServer(), players, -1, new PointSaladMarket(), setupPhase, seed);
+	}
+
+	/**
+	 * Sets up a game with the given seed, and describes its piles, its slots and its starting player.
+	 */
+	private String setUpGame(long seed) throws Exception {
+		State state = createState(seed);
+		PointSaladMarket market = (PointSaladMarket) state.getMarket();
+		PointSaladSetupPhase setupPhase = (PointSaladSetupPhase) state.getPhase();
+
+		setupPhase.processPhase(state);
+		setupPhase.proceedToNextPhase(state);
+
+		StringBuilder description = new StringBuilder();
+		for (int i = 0; i < market.getSettings().getNumDrawPiles(); i++) {
+			Pile<PointSaladCard> pile = market.getPile(i);
+			description.append("Pile ").append(i).append(":");
+			for (int j = 0; j < pile.size(); j++) {
+				description.append(" ").append(pile.getCard(j));
+			}
+			description.append("\n");
+		}
+		for (int i = 0; i < market.getSettings().getNumVegetableCards(); i++) {
+			description.append("Slot ").append(i).append(": ").append(market.getCard(i)).append("\n");
+		}
+		description.append("Starting player: ").append(state.getPlayerTurnIndex());
+		return description.toString();
+	}
+
+	@Test
+	public void testSameSeedSameGame() throws Exception {
+		for (long seed = 0; seed < 5; seed++) {
+			assertEquals(setUpGame(seed), setUpGame(seed), "Two games set up with the seed " + seed + " should be the same.");
+		}
+		assertNotEquals(setUpGame(0), setUpGame(1), "Games set up with different seeds should differ.");
+	}
+
+	@Test
+	public void testScorerOfTheHostIsKept() throws Exception {
+		State state = createState(0);
+		state.getPhase().processPhase(state);
+		assertTrue(state.getScorer() instanceof PointSaladIncrementalScorer, "By default, the game should be followed by an incremental scorer.");
+
+		state = createState(0);
+		PointSaladScorer scorer = new PointSaladScorer();
+		state.setScorer(scorer);
+		state.getPhase().processPhase(state);
+		assertSame(scorer, state.getScorer(), "The scorer chosen by the host should not be replaced.");
+	}
+}
@@ -0,0 +1,32 @@
+package main.players;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import cards.PointSaladCard;
+import cards.PointSaladCard.Vegetable;
+import players.AbstractPlayer;
+import players.HumanPlayer;
+
+/**
+ * Test class for the AbstractPlayer class.
+ */
+public class AbstractPlayerTest {
+
+	@Test
+	public void testHandIsCopied() {
+		AbstractPlayer player = new HumanPlayer(0, "Player 0");
+		player.addCardToHand(new PointSaladCard(Vegetable.CARROT, null));
+
+		player.getHand().add(new PointSaladCard(Vegetable.ONION, null));
+		player.getHand().clear();
+		assertEquals(1, player.getHand().size(), "The hand should only be modified through the methods of the player.");
+		player.getVeggieCounts().increment(Vegetable.ONION);
+		assertEquals(0, player.getVeggieCounts().get(Vegetable.ONION), "The counts should only be modified through the methods of the player.");
+
+		player.addCardToHand(new PointSaladCard(Vegetable.ONION, null));
+		assertEquals(2, player.getHand().size(), "The hand should follow the changes made through the player.");
+		assertEquals(1, player.getVeggieCounts().get(Vegetable.ONION), "The index should follow the changes made through the player.");
+	}
+}